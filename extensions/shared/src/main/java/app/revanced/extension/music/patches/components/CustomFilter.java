@@ -17,6 +17,7 @@ import app.revanced.extension.shared.patches.components.Filter;
 import app.revanced.extension.shared.patches.components.StringFilterGroup;
 import app.revanced.extension.shared.utils.ByteTrieSearch;
 import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.ProtobufIndex;
 import app.revanced.extension.shared.utils.Utils;
 
 /**
@@ -154,6 +155,6 @@ public final class CustomFilter extends Filter {
         if (custom.startsWith && contentIndex != 0) {
             return false;
         }
-        return custom.bufferSearch == null || custom.bufferSearch.matches(buffer);
+        return custom.bufferSearch == null || ProtobufIndex.of(buffer).matches(custom.bufferSearch, null);
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import androidx.annotation.Nullable;
 
 import app.revanced.extension.music.returnyoutubedislike.ReturnYouTubeDislike;
 import app.revanced.extension.music.settings.Settings;
+import app.revanced.extension.shared.patches.components.ConversionContextClassifier;
 import app.revanced.extension.shared.returnyoutubedislike.requests.ReturnYouTubeDislikeApi;
 import app.revanced.extension.shared.utils.Logger;
 import app.revanced.extension.shared.utils.Utils;
@@ -42,9 +43,8 @@ public class ReturnYouTubeDislikePatch {
                 return original;
             }
 
-            String conversionContextString = conversionContext.toString();
-
-            if (!conversionContextString.contains("segmented_like_dislike_button.")) {
+            if (!ConversionContextClassifier.isAnyKind(conversionContext,
+                    ConversionContextClassifier.KIND_LIKE_DISLIKE_BUTTON)) {
                 return original;
             }
             ReturnYouTubeDislike videoData = currentVideoData;
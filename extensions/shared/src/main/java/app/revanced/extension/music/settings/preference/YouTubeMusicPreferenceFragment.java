@@ -7,7 +7,6 @@ import android.widget.Toolbar;
 import app.revanced.extension.music.settings.YouTubeMusicHostActivity;
 import app.revanced.extension.shared.settings.preference.ToolbarPreferenceFragment;
 import app.revanced.extension.shared.utils.Logger;
-import app.revanced.extension.shared.utils.Utils;
 
 /**
  * Preference fragment for ReVanced settings.
@@ -27,8 +26,8 @@ public class YouTubeMusicPreferenceFragment extends ToolbarPreferenceFragment {
         super.initialize();
 
         try {
+            // Already sorted by super.initialize().
             preferenceScreen = getPreferenceScreen();
-            Utils.sortPreferenceGroups(preferenceScreen);
             setPreferenceScreenToolbar(preferenceScreen);
         } catch (Exception ex) {
             Logger.printException(() -> "initialize failure", ex);
@@ -69,5 +69,10 @@ public class YouTubeMusicSearchViewController extends BaseSearchViewController {
         public Activity getActivity() {
             return fragment.getActivity();
         }
+
+        @Override
+        public void syncPreferenceScreensContaining(Preference preference) {
+            fragment.syncPreferenceScreensContaining(preference);
+        }
     }
 }
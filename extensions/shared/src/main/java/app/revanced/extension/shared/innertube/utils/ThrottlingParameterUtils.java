@@ -362,7 +362,8 @@ public class ThrottlingParameterUtils {
         } catch (Exception ex) {
             Logger.printException(() -> "fetching url failed", ex);
         } finally {
-            Logger.printDebug(() -> "fetched url: " + uri + " took: " + (System.currentTimeMillis() - startTime) + "ms");
+            final long elapsedMillis = System.currentTimeMillis() - startTime;
+            Logger.printDebug(() -> "fetched url: " + uri + " took: " + elapsedMillis + "ms");
         }
 
         return null;
@@ -6,6 +6,7 @@ import static app.revanced.extension.shared.utils.Utils.newSpanUsingStylingOfAno
 
 import androidx.annotation.NonNull;
 
+import app.revanced.extension.shared.patches.components.ConversionContextClassifier;
 import app.revanced.extension.shared.returnyoutubeusername.requests.ChannelRequest;
 import app.revanced.extension.shared.settings.BaseSettings;
 import app.revanced.extension.shared.utils.Logger;
@@ -19,8 +20,6 @@ public class ReturnYouTubeUsernamePatch {
     private static final Boolean RETURN_YOUTUBE_USERNAME_DISPLAY_FORMAT =
             BaseSettings.RETURN_YOUTUBE_USERNAME_DISPLAY_FORMAT.get().userNameFirst;
 
-    private static final String AUTHOR_BADGE_PATH = "|author_badge.";
-
     /**
      * Injection point.
      *
@@ -51,8 +50,9 @@ public class ReturnYouTubeUsernamePatch {
             if (!RETURN_YOUTUBE_USERNAME_ENABLED) {
                 return original;
             }
-            // In comments, the path to YouTube Handle(@youtube) always includes [AUTHOR_BADGE_PATH].
-            if (!conversionContext.toString().contains(AUTHOR_BADGE_PATH)) {
+            // In comments, the path to YouTube Handle(@youtube) always includes the author badge.
+            if (!ConversionContextClassifier.isAnyKind(conversionContext,
+                    ConversionContextClassifier.KIND_COMMENT_AUTHOR_BADGE)) {
                 return original;
             }
             String handle = original.toString();
@@ -125,7 +125,8 @@ public class AuthRequest {
         } catch (Exception ex) {
             Logger.printException(() -> "fetchUrl failed", ex);
         } finally {
-            Logger.printDebug(() -> "fetchUrl: " + url + " took: " + (System.currentTimeMillis() - startTime) + "ms");
+            final long elapsedMillis = System.currentTimeMillis() - startTime;
+            Logger.printDebug(() -> "fetchUrl: " + url + " took: " + elapsedMillis + "ms");
         }
 
         return null;
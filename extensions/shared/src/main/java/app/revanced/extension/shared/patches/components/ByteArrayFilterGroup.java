@@ -3,6 +3,7 @@ package app.revanced.extension.shared.patches.components;
 import app.revanced.extension.shared.settings.BooleanSetting;
 import app.revanced.extension.shared.utils.ByteTrieSearch;
 import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.ProtobufIndex;
 
 /**
  * If you have more than 1 filter patterns, then all instances of
@@ -14,24 +15,10 @@ public class ByteArrayFilterGroup extends FilterGroup<byte[]> {
 
     private volatile int[][] failurePatterns;
 
-    // Modified implementation from https://stackoverflow.com/a/1507813
-    private static int indexOf(final byte[] data, final byte[] pattern, final int[] failure) {
-        // Finds the first occurrence of the pattern in the byte array using
-        // KMP matching algorithm.
-        int patternLength = pattern.length;
-        for (int i = 0, j = 0, dataLength = data.length; i < dataLength; i++) {
-            while (j > 0 && pattern[j] != data[i]) {
-                j = failure[j - 1];
-            }
-            if (pattern[j] == data[i]) {
-                j++;
-            }
-            if (j == patternLength) {
-                return i - patternLength + 1;
-            }
-        }
-        return -1;
-    }
+    /**
+     * If the patterns are text, and only the strings and raw bytes fields of a protobuf buffer need to be searched.
+     */
+    final boolean searchStringsOnly;
 
     private static int[] createFailurePattern(byte[] pattern) {
         // Computes the failure function using a boot-strapping process,
@@ -53,13 +40,16 @@ public class ByteArrayFilterGroup extends FilterGroup<byte[]> {
 
     public ByteArrayFilterGroup(BooleanSetting setting, byte[]... filters) {
         super(setting, filters);
+        searchStringsOnly = false;
     }
 
     /**
      * Converts the Strings into byte arrays. Used to search for text in binary data.
+     * If the data is a protobuf buffer, only the strings and raw bytes fields of the buffer are searched.
      */
     public ByteArrayFilterGroup(BooleanSetting setting, String... filters) {
         super(setting, ByteTrieSearch.convertStringsToBytes(filters));
+        searchStringsOnly = true;
     }
 
     private synchronized void buildFailurePatterns() {
@@ -84,9 +74,12 @@ public class ByteArrayFilterGroup extends FilterGroup<byte[]> {
                 buildFailurePatterns(); // Lazy load.
                 failures = failurePatterns;
             }
+            ProtobufIndex protobufIndex = searchStringsOnly ? ProtobufIndex.of(bytes) : null;
             for (int i = 0, length = filters.length; i < length; i++) {
                 byte[] filter = filters[i];
-                matchedIndex = indexOf(bytes, filter, failures[i]);
+                matchedIndex = protobufIndex != null
+                        ? protobufIndex.indexOf(filter, failures[i])
+                        : ProtobufIndex.indexOf(bytes, 0, bytes.length, filter, failures[i]);
                 if (matchedIndex >= 0) {
                     matchedLength = filter.length;
                     break;
@@ -1,6 +1,7 @@
 package app.revanced.extension.shared.patches.components;
 
 import app.revanced.extension.shared.utils.ByteTrieSearch;
+import app.revanced.extension.shared.utils.ProtobufIndex;
 
 /**
  * If searching for a single byte pattern, then it is slightly better to use
@@ -11,4 +12,20 @@ public final class ByteArrayFilterGroupList extends FilterGroupList<byte[], Byte
     protected ByteTrieSearch createSearchGraph() {
         return new ByteTrieSearch();
     }
+
+    /**
+     * Searches only the strings and raw bytes fields of a protobuf buffer, if all groups are text.
+     */
+    @Override
+    public FilterGroup.FilterGroupResult check(byte[] bytes) {
+        for (ByteArrayFilterGroup group : this) {
+            if (!group.searchStringsOnly) {
+                return super.check(bytes);
+            }
+        }
+
+        FilterGroup.FilterGroupResult result = new FilterGroup.FilterGroupResult();
+        ProtobufIndex.of(bytes).matches((ByteTrieSearch) search, result);
+        return result;
+    }
 }
@@ -0,0 +1,217 @@
+package app.revanced.extension.shared.patches.components;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.reflect.Field;
+
+import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.StringTrieSearch;
+
+/**
+ * Identifies which Litho components a conversion context belongs to.
+ * <p>
+ * Litho text hooks are called many times for every text element,
+ * and each hook previously called {@link Object#toString()} on the same conversion context
+ * and then ran its own substring searches.
+ * Instead, the conversion context is converted to a string once,
+ * all known component paths are found with a single trie search,
+ * and the result is remembered per thread until a different conversion context is used.
+ * <p>
+ * A conversion context is not immutable. Its path builder is appended to as Litho walks the component tree,
+ * and the same object can be reused with a different path.
+ * The string of the conversion context is made of its identifier and its path,
+ * and the identifier is set when the conversion context is created.
+ * So the remembered result is only used if the conversion context is the same object
+ * and the length of its path builder has not changed.
+ * This is the same path builder field that the Litho filter patch reads.
+ * If the path builder cannot be read, the result is not remembered.
+ * <p>
+ * The result is a bitset of the {@code KIND_} constants.
+ */
+public final class ConversionContextClassifier {
+    /**
+     * Regular video like and dislike button.
+     */
+    public static final int KIND_LIKE_DISLIKE_BUTTON = 1;
+    /**
+     * Regular video action bar (like, share, remix, etc.).
+     */
+    public static final int KIND_VIDEO_ACTION_BAR = 1 << 1;
+    /**
+     * Shorts like button.
+     */
+    public static final int KIND_SHORTS_LIKE_BUTTON = 1 << 2;
+    /**
+     * Shorts dislike button.
+     */
+    public static final int KIND_SHORTS_DISLIKE_BUTTON = 1 << 3;
+    /**
+     * Live stream action bar.
+     */
+    public static final int KIND_LIVE_ACTION_BAR = 1 << 4;
+    /**
+     * Dislike button of any action bar that does not use a segmented button.
+     */
+    public static final int KIND_DISLIKE_BUTTON = 1 << 5;
+    /**
+     * Channel bar of the Shorts player.
+     */
+    public static final int KIND_SHORTS_CHANNEL_BAR = 1 << 6;
+    /**
+     * Author of a comment. The path to a comment author handle always includes this component.
+     */
+    public static final int KIND_COMMENT_AUTHOR_BADGE = 1 << 7;
+
+    private static final StringTrieSearch searchTree = new StringTrieSearch();
+
+    static {
+        addKind(KIND_LIKE_DISLIKE_BUTTON, "segmented_like_dislike_button.");
+        // Also matches the 'immersive_live_video_action_bar.' of live streams.
+        addKind(KIND_VIDEO_ACTION_BAR, "video_action_bar.");
+        addKind(KIND_SHORTS_LIKE_BUTTON, "|shorts_like_button.", "|reel_like_button.");
+        addKind(KIND_SHORTS_DISLIKE_BUTTON, "|shorts_dislike_button.", "|reel_dislike_button.");
+        addKind(KIND_LIVE_ACTION_BAR, "immersive_live_video_action_bar.");
+        addKind(KIND_DISLIKE_BUTTON, "|dislike_button.");
+        addKind(KIND_SHORTS_CHANNEL_BAR, "|reel_channel_bar_inner.");
+        addKind(KIND_COMMENT_AUTHOR_BADGE, "|author_badge.");
+    }
+
+    private static void addKind(int kind, String... patterns) {
+        for (String pattern : patterns) {
+            searchTree.addPattern(pattern, (textSearched, matchedStartIndex, matchedLength, callbackParameter) -> {
+                ((ClassifiedContext) callbackParameter).kinds |= kind;
+                return false; // Continue searching for other kinds.
+            });
+        }
+    }
+
+    /**
+     * Last conversion context classified on a thread.
+     * Only the most recent context is kept, so at most one context per thread is retained.
+     */
+    private static final class ClassifiedContext {
+        Object conversionContext;
+        /**
+         * Length of the path builder when classified, or -1 if the path builder is not available.
+         */
+        int pathLength;
+        String conversionContextString;
+        int kinds;
+    }
+
+    /**
+     * The path builder field of a conversion context class.
+     */
+    private static final class PathBuilderField {
+        final Class<?> conversionContextClass;
+        @Nullable
+        final Field field;
+
+        PathBuilderField(Class<?> conversionContextClass) {
+            this.conversionContextClass = conversionContextClass;
+            this.field = findField(conversionContextClass);
+        }
+
+        /**
+         * @return The only {@link StringBuilder} field of the class, or null if there is not exactly one.
+         */
+        @Nullable
+        private static Field findField(Class<?> conversionContextClass) {
+            Field pathBuilderField = null;
+            for (Field field : conversionContextClass.getDeclaredFields()) {
+                if (field.getType() == StringBuilder.class) {
+                    if (pathBuilderField != null) {
+                        pathBuilderField = null;
+                        break;
+                    }
+                    pathBuilderField = field;
+                }
+            }
+
+            if (pathBuilderField == null) {
+                Logger.printDebug(() -> "Path builder not found in: " + conversionContextClass.getName());
+                return null;
+            }
+            try {
+                pathBuilderField.setAccessible(true);
+                return pathBuilderField;
+            } catch (Exception ex) {
+                Logger.printException(() -> "Could not access path builder of: " + conversionContextClass.getName(), ex);
+                return null;
+            }
+        }
+    }
+
+    @Nullable
+    private static volatile PathBuilderField pathBuilderField;
+
+    private static final ThreadLocal<ClassifiedContext> lastClassified =
+            ThreadLocal.withInitial(ClassifiedContext::new);
+
+    private ConversionContextClassifier() {
+    }
+
+    /**
+     * @return The length of the path builder of the conversion context, or -1 if it is not available.
+     */
+    private static int getPathLength(@NonNull Object conversionContext) {
+        PathBuilderField pathField = pathBuilderField;
+        if (pathField == null || pathField.conversionContextClass != conversionContext.getClass()) {
+            pathField = new PathBuilderField(conversionContext.getClass());
+            pathBuilderField = pathField;
+        }
+        if (pathField.field == null) {
+            return -1;
+        }
+
+        try {
+            return pathField.field.get(conversionContext) instanceof StringBuilder pathBuilder
+                    ? pathBuilder.length()
+                    : -1;
+        } catch (IllegalAccessException ex) {
+            return -1;
+        }
+    }
+
+    @NonNull
+    private static ClassifiedContext classify(@NonNull Object conversionContext) {
+        ClassifiedContext classified = lastClassified.get();
+        final int pathLength = getPathLength(conversionContext);
+        //noinspection ConstantConditions
+        if (pathLength < 0 || classified.conversionContext != conversionContext
+                || classified.pathLength != pathLength) {
+            String conversionContextString = conversionContext.toString();
+            classified.conversionContext = conversionContext;
+            classified.pathLength = pathLength;
+            classified.conversionContextString = conversionContextString;
+            classified.kinds = 0;
+            searchTree.matches(conversionContextString, classified);
+        }
+        return classified;
+    }
+
+    /**
+     * @return The string value of the conversion context.
+     * Reuses the string of the last classification on this thread if possible.
+     */
+    @NonNull
+    public static String toString(@NonNull Object conversionContext) {
+        return classify(conversionContext).conversionContextString;
+    }
+
+    /**
+     * @return The bitset of {@code KIND_} constants found in the conversion context.
+     */
+    public static int getKinds(@NonNull Object conversionContext) {
+        return classify(conversionContext).kinds;
+    }
+
+    /**
+     * @param kinds One or more {@code KIND_} constants.
+     * @return If the conversion context contains any of the kinds.
+     */
+    public static boolean isAnyKind(@NonNull Object conversionContext, int kinds) {
+        return (classify(conversionContext).kinds & kinds) != 0;
+    }
+}
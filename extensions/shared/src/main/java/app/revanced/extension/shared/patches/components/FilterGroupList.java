@@ -19,7 +19,7 @@ import app.revanced.extension.shared.utils.TrieSearch;
 public abstract class FilterGroupList<V, T extends FilterGroup<V>> implements Iterable<T> {
 
     private final List<T> filterGroups = new ArrayList<>();
-    private final TrieSearch<V> search = createSearchGraph();
+    protected final TrieSearch<V> search = createSearchGraph();
 
     @SafeVarargs
     public final void addAll(final T... groups) {
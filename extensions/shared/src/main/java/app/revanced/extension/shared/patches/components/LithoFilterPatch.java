@@ -10,6 +10,7 @@ import java.util.List;
 
 import app.revanced.extension.shared.settings.BaseSettings;
 import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.ProtobufIndex;
 import app.revanced.extension.shared.utils.StringTrieSearch;
 
 @SuppressWarnings("unused")
@@ -49,13 +50,24 @@ public final class LithoFilterPatch {
 
         /**
          * Search through a byte array for all ASCII strings.
+         * If the buffer is a valid protobuf, the string fields are used instead.
          */
         static void findAsciiStrings(StringBuilder builder, byte[] buffer) {
+            String delimitingCharacter = "❙"; // Non ascii character, to allow easier log filtering.
+
+            ProtobufIndex protobufIndex = ProtobufIndex.of(buffer);
+            if (protobufIndex.isValid()) {
+                for (String string : protobufIndex.getStrings()) {
+                    builder.append(string);
+                    builder.append(delimitingCharacter);
+                }
+                return;
+            }
+
             // Valid ASCII values (ignore control characters).
             final int minimumAscii = 32;  // 32 = space character
             final int maximumAscii = 126; // 127 = delete character
             final int minimumAsciiStringLength = 4; // Minimum length of an ASCII string to include.
-            String delimitingCharacter = "❙"; // Non ascii character, to allow easier log filtering.
 
             final int length = buffer.length;
             int start = 0;
@@ -92,13 +104,40 @@ public final class LithoFilterPatch {
      */
     private static final int LITHO_LAYOUT_THREAD_POOL_SIZE = 1;
 
-    private static final Filter[] filters = new Filter[]{
-            new DummyFilter() // Replaced patching, do not touch.
-    };
+    /**
+     * Filters and the search trees of their patterns.
+     * <p>
+     * This is a separate class so the filters are only created and the search trees are only built
+     * when the first component is filtered, and not when the app starts and calls the
+     * thread pool and buffer injection points of the enclosing class.
+     * Filtering is called only on Litho threads, so this work is also moved off the main thread.
+     */
+    private static final class Filters {
+        static final Filter[] filters = new Filter[]{
+                new DummyFilter() // Replaced patching, do not touch.
+        };
+
+        static final StringTrieSearch pathSearchTree = new StringTrieSearch();
+        static final StringTrieSearch identifierSearchTree = new StringTrieSearch();
+        static final StringTrieSearch allValueSearchTree = new StringTrieSearch();
+
+        static {
+            for (Filter filter : filters) {
+                filterUsingCallbacks(identifierSearchTree, filter,
+                        filter.identifierCallbacks, Filter.FilterContentType.IDENTIFIER);
+                filterUsingCallbacks(pathSearchTree, filter,
+                        filter.pathCallbacks, Filter.FilterContentType.PATH);
+                filterUsingCallbacks(allValueSearchTree, filter,
+                        filter.allValueCallbacks, Filter.FilterContentType.ALLVALUE);
+            }
 
-    private static final StringTrieSearch pathSearchTree = new StringTrieSearch();
-    private static final StringTrieSearch identifierSearchTree = new StringTrieSearch();
-    private static final StringTrieSearch allValueSearchTree = new StringTrieSearch();
+            Logger.printDebug(() -> "Using: "
+                    + identifierSearchTree.numberOfPatterns() + " identifier filters"
+                    + " (" + identifierSearchTree.getEstimatedMemorySize() + " KB), "
+                    + pathSearchTree.numberOfPatterns() + " path filters"
+                    + " (" + pathSearchTree.getEstimatedMemorySize() + " KB)");
+        }
+    }
 
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
@@ -108,23 +147,6 @@ public final class LithoFilterPatch {
      */
     private static final ThreadLocal<byte[]> bufferThreadLocal = new ThreadLocal<>();
 
-    static {
-        for (Filter filter : filters) {
-            filterUsingCallbacks(identifierSearchTree, filter,
-                    filter.identifierCallbacks, Filter.FilterContentType.IDENTIFIER);
-            filterUsingCallbacks(pathSearchTree, filter,
-                    filter.pathCallbacks, Filter.FilterContentType.PATH);
-            filterUsingCallbacks(allValueSearchTree, filter,
-                    filter.allValueCallbacks, Filter.FilterContentType.ALLVALUE);
-        }
-
-        Logger.printDebug(() -> "Using: "
-                + identifierSearchTree.numberOfPatterns() + " identifier filters"
-                + " (" + identifierSearchTree.getEstimatedMemorySize() + " KB), "
-                + pathSearchTree.numberOfPatterns() + " path filters"
-                + " (" + pathSearchTree.getEstimatedMemorySize() + " KB)");
-    }
-
     private static void filterUsingCallbacks(StringTrieSearch pathSearchTree,
                                              Filter filter, List<StringFilterGroup> groups,
                                              Filter.FilterContentType type) {
@@ -212,18 +234,30 @@ public final class LithoFilterPatch {
 
             LithoFilterParameters parameter = new LithoFilterParameters(pathBuilder.toString(), identifier,
                     object.toString(), buffer);
-            Logger.printDebug(() -> "Searching " + parameter);
+            // All filters of this component search the same buffer, so index it at most once.
+            // The array can be reused with different content for the next component.
+            ProtobufIndex.beginShared(buffer);
+            try {
+                if (BaseSettings.DEBUG.get()) {
+                    // The message is built on the logging thread, but the buffer array
+                    // can be reused for another component by then.
+                    final String searching = "Searching " + parameter;
+                    Logger.printDebug(() -> searching);
+                }
 
-            if (identifierSearchTree.matches(parameter.identifier, parameter)) {
-                return true;
-            }
+                if (Filters.identifierSearchTree.matches(parameter.identifier, parameter)) {
+                    return true;
+                }
 
-            if (pathSearchTree.matches(parameter.path, parameter)) {
-                return true;
-            }
+                if (Filters.pathSearchTree.matches(parameter.path, parameter)) {
+                    return true;
+                }
 
-            if (allValueSearchTree.matches(parameter.allValue, parameter)) {
-                return true;
+                if (Filters.allValueSearchTree.matches(parameter.allValue, parameter)) {
+                    return true;
+                }
+            } finally {
+                ProtobufIndex.endShared();
             }
         } catch (Exception ex) {
             Logger.printException(() -> "isFiltered failure", ex);
@@ -12,8 +12,10 @@ import android.text.style.TypefaceSpan;
 
 import androidx.annotation.NonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import app.revanced.extension.shared.patches.components.ConversionContextClassifier;
 import app.revanced.extension.shared.settings.BaseSettings;
 import app.revanced.extension.shared.utils.Logger;
 import app.revanced.extension.shared.utils.StringTrieSearch;
@@ -29,7 +31,7 @@ final class DummyFilter extends Filter {
 public final class InclusiveSpanPatch {
 
     /**
-     * Simple wrapper to pass the litho parameters through the prefix search.
+     * Simple wrapper of the litho parameters, used for debug logging.
      */
     private static final class LithoFilterParameters {
         final String conversionContext;
@@ -115,6 +117,37 @@ public final class InclusiveSpanPatch {
 
     private static final StringTrieSearch searchTree = new StringTrieSearch();
 
+    /**
+     * A filter group with a pattern found in a conversion context.
+     */
+    private static final class MatchedGroup {
+        final Filter filter;
+        final String filterSimpleName;
+        final StringFilterGroup group;
+
+        MatchedGroup(Filter filter, String filterSimpleName, StringFilterGroup group) {
+            this.filter = filter;
+            this.filterSimpleName = filterSimpleName;
+            this.group = group;
+        }
+    }
+
+    private static final MatchedGroup[] NO_MATCHED_GROUPS = new MatchedGroup[0];
+
+    /**
+     * Filter groups found in the last conversion context searched on a thread.
+     * <p>
+     * A single SpannableString usually receives many spans using the same conversion context,
+     * so the conversion context is searched only once and not for every span.
+     */
+    private static final class ConversionContextMatches {
+        String conversionContext;
+        MatchedGroup[] matchedGroups = NO_MATCHED_GROUPS;
+    }
+
+    private static final ThreadLocal<ConversionContextMatches> conversionContextMatchesThreadLocal =
+            ThreadLocal.withInitial(ConversionContextMatches::new);
+
 
     /**
      * Because litho filtering is multi-threaded and the buffer is passed in from a different injection point,
@@ -142,22 +175,16 @@ public final class InclusiveSpanPatch {
                 continue;
             }
 
+            MatchedGroup matchedGroup = new MatchedGroup(filter, filterSimpleName, group);
             for (String pattern : group.filters) {
                 InclusiveSpanPatch.searchTree.addPattern(pattern, (textSearched, matchedStartIndex,
                                                                    matchedLength, callbackParameter) -> {
-                            if (!group.isEnabled()) return false;
-
-                            LithoFilterParameters parameters = (LithoFilterParameters) callbackParameter;
-                            final boolean isFiltered = filter.skip(parameters.conversionContext, parameters.spannableString,
-                                    parameters.span, parameters.start, parameters.end, parameters.flags, parameters.isWord,
-                                    parameters.spanType, group);
-
-                            if (isFiltered && BaseSettings.DEBUG_SPANNABLE.get()) {
-                                Logger.printDebug(() -> "Removed " + filterSimpleName
-                                        + " setSpan: " + parameters.spanType);
+                            //noinspection unchecked
+                            List<MatchedGroup> matchedGroups = (List<MatchedGroup>) callbackParameter;
+                            if (!matchedGroups.contains(matchedGroup)) {
+                                matchedGroups.add(matchedGroup);
                             }
-
-                            return isFiltered;
+                            return false; // Continue searching for other groups.
                         }
                 );
             }
@@ -171,10 +198,29 @@ public final class InclusiveSpanPatch {
      */
     public static CharSequence setConversionContext(@NonNull Object conversionContext,
                                                     @NonNull CharSequence original) {
-        conversionContextThreadLocal.set(conversionContext.toString());
+        // Shares the string with any other Litho text hook called for the same text.
+        conversionContextThreadLocal.set(ConversionContextClassifier.toString(conversionContext));
         return original;
     }
 
+    /**
+     * @return All filter groups with a pattern in the conversion context.
+     * The groups are not checked if they are enabled, as that can change while the result is in use.
+     */
+    private static MatchedGroup[] getMatchedGroups(@NonNull String conversionContext) {
+        ConversionContextMatches matches = conversionContextMatchesThreadLocal.get();
+        //noinspection ConstantConditions
+        if (matches.conversionContext != conversionContext) {
+            List<MatchedGroup> matchedGroups = new ArrayList<>(0);
+            searchTree.matches(conversionContext, matchedGroups);
+            matches.conversionContext = conversionContext;
+            matches.matchedGroups = matchedGroups.isEmpty()
+                    ? NO_MATCHED_GROUPS
+                    : matchedGroups.toArray(NO_MATCHED_GROUPS);
+        }
+        return matches.matchedGroups;
+    }
+
     private static boolean returnEarly(SpannableString spannableString, Object span, int start, int end, int flags) {
         try {
             final String conversionContext = conversionContextThreadLocal.get();
@@ -182,14 +228,33 @@ public final class InclusiveSpanPatch {
                 return false;
             }
 
-            LithoFilterParameters parameter =
-                    new LithoFilterParameters(conversionContext, spannableString, span, start, end, flags);
-
-            if (BaseSettings.DEBUG_SPANNABLE.get()) {
+            final boolean debug = BaseSettings.DEBUG_SPANNABLE.get();
+            if (debug) {
+                LithoFilterParameters parameter =
+                        new LithoFilterParameters(conversionContext, spannableString, span, start, end, flags);
                 Logger.printDebug(() -> "Searching...\n\u200B\n" + parameter);
             }
 
-            return searchTree.matches(parameter.conversionContext, parameter);
+            // Search is identity based, as setConversionContext() reuses the same string for the same context.
+            MatchedGroup[] matchedGroups = getMatchedGroups(conversionContext);
+            if (matchedGroups.length == 0) {
+                return false;
+            }
+
+            final SpanType spanType = getSpanType(span);
+            final boolean isWord = !(start == 0 && end == spannableString.length());
+            for (MatchedGroup matchedGroup : matchedGroups) {
+                if (!matchedGroup.group.isEnabled()) continue;
+
+                if (matchedGroup.filter.skip(conversionContext, spannableString, span,
+                        start, end, flags, isWord, spanType, matchedGroup.group)) {
+                    if (debug) {
+                        Logger.printDebug(() -> "Removed " + matchedGroup.filterSimpleName
+                                + " setSpan: " + spanType);
+                    }
+                    return true;
+                }
+            }
         } catch (Exception ex) {
             Logger.printException(() -> "Spans filter failure", ex);
         }
@@ -98,7 +98,8 @@ public class ChannelRequest {
         } catch (Exception ex) {
             Logger.printException(() -> "send failed", ex);
         } finally {
-            Logger.printDebug(() -> "handle: " + handle + " took: " + (System.currentTimeMillis() - startTime) + "ms");
+            final long elapsedMillis = System.currentTimeMillis() - startTime;
+            Logger.printDebug(() -> "handle: " + handle + " took: " + elapsedMillis + "ms");
         }
 
         return null;
@@ -61,9 +61,10 @@ public class BooleanSetting extends Setting<Boolean> {
         }
     }
 
+    @NonNull
     @Override
-    protected void load() {
-        value = preferences.getBoolean(key, defaultValue);
+    protected Boolean load() {
+        return preferences.getBoolean(key, defaultValue);
     }
 
     @Override
@@ -90,6 +91,6 @@ public class BooleanSetting extends Setting<Boolean> {
     @NonNull
     @Override
     public Boolean get() {
-        return value;
+        return getValue();
     }
 }
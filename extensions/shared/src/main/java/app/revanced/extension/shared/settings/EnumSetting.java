@@ -56,9 +56,10 @@ public class EnumSetting<T extends Enum<?>> extends Setting<T> {
         super(key, defaultValue, rebootApp, includeWithImportExport, userDialogMessage, availability);
     }
 
+    @NonNull
     @Override
-    protected void load() {
-        value = preferences.getEnum(key, defaultValue);
+    protected T load() {
+        return preferences.getEnum(key, defaultValue);
     }
 
     @Override
@@ -76,7 +77,7 @@ public class EnumSetting<T extends Enum<?>> extends Setting<T> {
     @Override
     protected void writeToJSON(JSONObject json, String importExportKey) throws JSONException {
         // Use lowercase to keep the output less ugly.
-        json.put(importExportKey, value.name().toLowerCase(Locale.ENGLISH));
+        json.put(importExportKey, get().name().toLowerCase(Locale.ENGLISH));
     }
 
     /**
@@ -115,7 +116,7 @@ public class EnumSetting<T extends Enum<?>> extends Setting<T> {
     @NonNull
     @Override
     public T get() {
-        return value;
+        return getValue();
     }
 
     /**
@@ -47,9 +47,10 @@ public class FloatSetting extends Setting<Float> {
         super(key, defaultValue, rebootApp, includeWithImportExport, userDialogMessage, availability);
     }
 
+    @NonNull
     @Override
-    protected void load() {
-        value = preferences.getFloatString(key, defaultValue);
+    protected Float load() {
+        return preferences.getFloatString(key, defaultValue);
     }
 
     @Override
@@ -76,6 +77,6 @@ public class FloatSetting extends Setting<Float> {
     @NonNull
     @Override
     public Float get() {
-        return value;
+        return getValue();
     }
 }
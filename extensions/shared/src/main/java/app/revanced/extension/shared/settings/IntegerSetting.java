@@ -47,9 +47,10 @@ public class IntegerSetting extends Setting<Integer> {
         super(key, defaultValue, rebootApp, includeWithImportExport, userDialogMessage, availability);
     }
 
+    @NonNull
     @Override
-    protected void load() {
-        value = preferences.getIntegerString(key, defaultValue);
+    protected Integer load() {
+        return preferences.getIntegerString(key, defaultValue);
     }
 
     @Override
@@ -76,6 +77,6 @@ public class IntegerSetting extends Setting<Integer> {
     @NonNull
     @Override
     public Integer get() {
-        return value;
+        return getValue();
     }
 }
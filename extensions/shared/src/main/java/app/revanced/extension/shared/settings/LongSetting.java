@@ -47,9 +47,10 @@ public class LongSetting extends Setting<Long> {
         super(key, defaultValue, rebootApp, includeWithImportExport, userDialogMessage, availability);
     }
 
+    @NonNull
     @Override
-    protected void load() {
-        value = preferences.getLongString(key, defaultValue);
+    protected Long load() {
+        return preferences.getLongString(key, defaultValue);
     }
 
     @Override
@@ -76,6 +77,6 @@ public class LongSetting extends Setting<Long> {
     @NonNull
     @Override
     public Long get() {
-        return value;
+        return getValue();
     }
 }
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -234,8 +235,10 @@ public abstract class Setting<T> {
     // Must be volatile, as some settings are read/write from different threads.
     // Of note, the object value is persistently stored using SharedPreferences (which is thread safe).
     /**
-     * The value of the setting.
+     * The value of the setting, or null if not yet loaded.
+     * Use {@link #getValue()} to read.
      */
+    @Nullable
     protected volatile T value;
 
     public Setting(String key, T defaultValue) {
@@ -288,7 +291,7 @@ public abstract class Setting<T> {
                    @Nullable Availability availability
     ) {
         this.key = Objects.requireNonNull(key);
-        this.value = this.defaultValue = Objects.requireNonNull(defaultValue);
+        this.defaultValue = Objects.requireNonNull(defaultValue);
         this.rebootApp = rebootApp;
         this.includeWithImportExport = includeWithImportExport;
         this.userDialogMessage = (userDialogMessage == null) ? null : new StringRef(userDialogMessage);
@@ -300,7 +303,8 @@ public abstract class Setting<T> {
                     + " error: Duplicate Setting key found: " + key);
         }
 
-        load();
+        // The value is loaded on first use, and not here.
+        // Settings classes declare hundreds of settings and most are not used during app startup.
     }
 
     /**
@@ -311,14 +315,18 @@ public abstract class Setting<T> {
 
         if (!oldSetting.isSetToDefault()) {
             Logger.printInfo(() -> "Migrating old setting value: " + oldSetting + " into replacement setting: " + newSetting);
-            newSetting.save(oldSetting.value);
-            oldSetting.resetToDefault();
+            SharedPrefCategory.batchEdit(() -> {
+                newSetting.save(oldSetting.get());
+                oldSetting.resetToDefault();
+            });
         }
     }
 
     /**
      * Migrate an old Setting value previously stored in a different SharedPreference.
      * <p>
+     * When migrating many settings, call from within {@link SharedPrefCategory#batchEdit(Runnable)}.
+     * <p>
      * This method will be deleted in the future.
      */
     @SuppressWarnings("rawtypes")
@@ -342,11 +350,11 @@ public abstract class Setting<T> {
         } else {
             Logger.printException(() -> "Unknown setting: " + setting);
             // Remove otherwise it'll show a toast on every launch.
-            oldPrefs.preferences.edit().remove(settingKey).apply();
+            oldPrefs.removeKey(settingKey);
             return;
         }
 
-        oldPrefs.preferences.edit().remove(settingKey).apply(); // Remove the old setting.
+        oldPrefs.removeKey(settingKey); // Remove the old setting.
         if (migratedValue.equals(newValue)) {
             Logger.printDebug(() -> "Value does not need migrating: " + settingKey);
             return; // Old value is already equal to the new setting value.
@@ -365,6 +373,7 @@ public abstract class Setting<T> {
      * accidental usage when {@link #save(Object)} was intended.
      */
     public static void privateSetValueFromString(Setting<?> setting, String newValue) {
+        setting.getValue(); // Load first, so a pending load cannot replace the new value.
         setting.setValueFromString(newValue);
 
         // Clear the preference value since default is used, to allow changing
@@ -381,20 +390,41 @@ public abstract class Setting<T> {
     protected abstract void setValueFromString(String newValue);
 
     /**
-     * Load and set the value of {@link #value}.
+     * @return The value stored in {@link #preferences}, or the default value if none is stored.
      */
-    protected abstract void load();
+    @NonNull
+    protected abstract T load();
+
+    /**
+     * @return The value of this setting, loading it from {@link #preferences} on first use.
+     */
+    @NonNull
+    protected final T getValue() {
+        T current = value;
+        if (current == null) {
+            synchronized (this) {
+                current = value;
+                if (current == null) {
+                    current = Objects.requireNonNull(load());
+                    value = current;
+                }
+            }
+        }
+        return current;
+    }
 
     /**
      * Persistently saves the value.
      */
     public final void save(T newValue) {
-        if (value.equals(newValue)) {
-            return;
-        }
+        synchronized (this) {
+            if (getValue().equals(newValue)) {
+                return;
+            }
 
-        // Must set before saving to preferences (otherwise importing fails to update UI correctly).
-        value = Objects.requireNonNull(newValue);
+            // Must set before saving to preferences (otherwise importing fails to update UI correctly).
+            value = Objects.requireNonNull(newValue);
+        }
 
         if (defaultValue.equals(newValue)) {
             removeFromPreferences();
@@ -457,7 +487,7 @@ public abstract class Setting<T> {
      * @return if the currently set value is the same as {@link #defaultValue}
      */
     public boolean isSetToDefault() {
-        return value.equals(defaultValue);
+        return getValue().equals(defaultValue);
     }
 
     @NonNull
@@ -499,7 +529,7 @@ public abstract class Setting<T> {
      * then subclasses can override this method and write out a String value representing the value.
      */
     protected void writeToJSON(JSONObject json, String importExportKey) throws JSONException {
-        json.put(importExportKey, value);
+        json.put(importExportKey, getValue());
     }
 
     public static String exportToJson(@Nullable Context alertDialogContext) {
@@ -549,6 +579,9 @@ public abstract class Setting<T> {
 
             boolean rebootSettingChanged = false;
             int numberOfSettingsImported = 0;
+            // Read all values before saving anything, so invalid json does not leave a partial import.
+            //noinspection rawtypes
+            Map<Setting, Object> changedValues = new LinkedHashMap<>();
             //noinspection rawtypes
             for (Setting setting : SETTINGS) {
                 String key = setting.getImportExportKey();
@@ -556,17 +589,24 @@ public abstract class Setting<T> {
                     Object value = setting.readFromJSON(json, key);
                     if (!setting.get().equals(value)) {
                         rebootSettingChanged |= setting.rebootApp;
-                        //noinspection unchecked
-                        setting.save(value);
+                        changedValues.put(setting, value);
                     }
                     numberOfSettingsImported++;
                 } else if (setting.includeWithImportExport && !setting.isSetToDefault()) {
                     Logger.printDebug(() -> "Resetting to default: " + setting);
                     rebootSettingChanged |= setting.rebootApp;
-                    setting.resetToDefault();
+                    changedValues.put(setting, setting.defaultValue);
                 }
             }
 
+            SharedPrefCategory.batchEdit(() -> {
+                //noinspection rawtypes
+                for (Map.Entry<Setting, Object> entry : changedValues.entrySet()) {
+                    //noinspection unchecked
+                    entry.getKey().save(entry.getValue());
+                }
+            });
+
             for (ImportExportCallback callback : importExportCallbacks) {
                 callback.settingsImported(alertDialogContext);
             }
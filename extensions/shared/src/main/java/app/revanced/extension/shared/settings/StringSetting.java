@@ -47,9 +47,10 @@ public class StringSetting extends Setting<String> {
         super(key, defaultValue, rebootApp, includeWithImportExport, userDialogMessage, availability);
     }
 
+    @NonNull
     @Override
-    protected void load() {
-        value = preferences.getString(key, defaultValue);
+    protected String load() {
+        return preferences.getString(key, defaultValue);
     }
 
     @Override
@@ -76,6 +77,6 @@ public class StringSetting extends Setting<String> {
     @NonNull
     @Override
     public String get() {
-        return value;
+        return getValue();
     }
 }
@@ -25,6 +25,9 @@ import android.widget.ListView;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import app.revanced.extension.shared.settings.BaseSettings;
@@ -178,18 +181,136 @@ public abstract class AbstractPreferenceFragment extends PreferenceFragment {
         dialogPair.first.show();
     }
 
+    /**
+     * Maximum time each main thread message spends syncing deferred nested screens.
+     * Less than a frame, so scrolling and animations are not interrupted.
+     */
+    private static final long DEFERRED_SYNC_BUDGET_MS = 8;
+
+    /**
+     * Nested preference screens not yet synced to their {@link Setting} values.
+     * Only accessed on the main thread.
+     */
+    private final ArrayDeque<PreferenceScreen> screensPendingSync = new ArrayDeque<>();
+
+    private final Runnable syncPendingScreensRunnable = this::syncPendingScreens;
+
     /**
      * Updates all Preferences values and their availability using the current values in {@link Setting}.
+     * <p>
+     * Only the root screen is synced immediately. Nested screens are synced in small steps
+     * on following main thread messages, or immediately if opened before then
+     * (see {@link #syncPreferenceScreenIfPending(PreferenceScreen)}).
      */
     protected void updateUIToSettingValues() {
-        updatePreferenceScreen(getPreferenceScreen(), true, true);
+        screensPendingSync.clear();
+        updatePreferenceScreen(getPreferenceScreen(), true, true, true);
+        scheduleSyncPendingScreens();
+    }
+
+    private void scheduleSyncPendingScreens() {
+        if (screensPendingSync.isEmpty()) return;
+        View view = getView();
+        if (view != null) {
+            view.removeCallbacks(syncPendingScreensRunnable);
+            view.post(syncPendingScreensRunnable);
+        } else {
+            Utils.runOnMainThread(syncPendingScreensRunnable);
+        }
+    }
+
+    private void syncPendingScreens() {
+        if (getActivity() == null) {
+            screensPendingSync.clear();
+            return; // Fragment was destroyed.
+        }
+
+        final long deadline = System.currentTimeMillis() + DEFERRED_SYNC_BUDGET_MS;
+        do {
+            PreferenceScreen screen = screensPendingSync.poll();
+            if (screen == null) return;
+            syncDeferredScreen(screen);
+        } while (System.currentTimeMillis() < deadline);
+
+        scheduleSyncPendingScreens();
+    }
+
+    private void syncDeferredScreen(@NonNull PreferenceScreen screen) {
+        // Syncing can persist a value that differs from the preference file,
+        // and that change must not be handled as if the user made it.
+        final boolean wasUpdatingPreference = updatingPreference;
+        updatingPreference = true;
+        try {
+            updatePreferenceScreen(screen, true, true, true);
+        } finally {
+            updatingPreference = wasUpdatingPreference;
+        }
+    }
+
+    /**
+     * Syncs a nested screen now, if it has not yet been synced.
+     * Must be called before a nested screen is shown.
+     */
+    protected void syncPreferenceScreenIfPending(@NonNull PreferenceScreen screen) {
+        if (screensPendingSync.remove(screen)) {
+            syncDeferredScreen(screen);
+            scheduleSyncPendingScreens();
+        }
+    }
+
+    /**
+     * Syncs each pending screen on the path from the root screen to the preference,
+     * including the preference itself if it's a screen.
+     * Must be called before a preference is clicked without opening its parent screens, such as from search results.
+     */
+    public void syncPreferenceScreensContaining(@NonNull Preference preference) {
+        if (screensPendingSync.isEmpty()) return;
+
+        List<PreferenceScreen> path = new ArrayList<>();
+        if (findPreferenceScreenPath(getPreferenceScreen(), preference, path)) {
+            // Outer screens first, as syncing a screen queues the screens nested in it.
+            for (PreferenceScreen screen : path) {
+                syncPreferenceScreenIfPending(screen);
+            }
+        }
+    }
+
+    /**
+     * Finds the nested screens containing the preference.
+     *
+     * @param path Screens containing the preference, from outermost to innermost.
+     * @return If the group contains the preference.
+     */
+    private static boolean findPreferenceScreenPath(@NonNull PreferenceGroup group,
+                                                    @NonNull Preference preference,
+                                                    @NonNull List<PreferenceScreen> path) {
+        for (int i = 0, prefCount = group.getPreferenceCount(); i < prefCount; i++) {
+            Preference pref = group.getPreference(i);
+            if (pref == preference) {
+                if (pref instanceof PreferenceScreen screen) {
+                    path.add(screen);
+                }
+                return true;
+            }
+            if (pref instanceof PreferenceGroup subGroup) {
+                final int pathSize = path.size();
+                if (subGroup instanceof PreferenceScreen screen) {
+                    path.add(screen);
+                }
+                if (findPreferenceScreenPath(subGroup, preference, path)) {
+                    return true;
+                }
+                path.subList(pathSize, path.size()).clear();
+            }
+        }
+        return false;
     }
 
     /**
      * Updates Preferences availability only using the status of {@link Setting}.
      */
     protected void updateUIAvailability() {
-        updatePreferenceScreen(getPreferenceScreen(), false, false);
+        updatePreferenceScreen(getPreferenceScreen(), false, false, false);
     }
 
     /**
@@ -214,17 +335,22 @@ public abstract class AbstractPreferenceFragment extends PreferenceFragment {
 
     /**
      * Syncs all UI Preferences to any {@link Setting} they represent.
+     *
+     * @param deferNestedScreens If nested screens are added to {@link #screensPendingSync} instead of synced.
      */
     private void updatePreferenceScreen(@NonNull PreferenceGroup group,
                                         boolean syncSettingValue,
-                                        boolean applySettingToPreference) {
+                                        boolean applySettingToPreference,
+                                        boolean deferNestedScreens) {
         // Alternatively this could iterate thru all Settings and check for any matching Preferences,
         // but there are many more Settings than UI preferences so it's more efficient to only check
         // the Preferences.
         for (int i = 0, prefCount = group.getPreferenceCount(); i < prefCount; i++) {
             Preference pref = group.getPreference(i);
-            if (pref instanceof PreferenceGroup subGroup) {
-                updatePreferenceScreen(subGroup, syncSettingValue, applySettingToPreference);
+            if (deferNestedScreens && pref instanceof PreferenceScreen screen) {
+                screensPendingSync.add(screen);
+            } else if (pref instanceof PreferenceGroup subGroup) {
+                updatePreferenceScreen(subGroup, syncSettingValue, applySettingToPreference, deferNestedScreens);
             } else if (pref.hasKey()) {
                 String key = pref.getKey();
                 Setting<?> setting = Setting.getSettingFromPath(key);
@@ -411,6 +537,7 @@ public abstract class AbstractPreferenceFragment extends PreferenceFragment {
 
     @Override
     public void onDestroy() {
+        screensPendingSync.clear();
         getPreferenceManager().getSharedPreferences().unregisterOnSharedPreferenceChangeListener(listener);
         super.onDestroy();
     }
@@ -2,10 +2,10 @@ package app.revanced.extension.shared.settings.preference;
 
 import static app.revanced.extension.shared.utils.StringRef.str;
 
-import java.util.Deque;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import app.revanced.extension.shared.settings.BaseSettings;
 import app.revanced.extension.shared.utils.Logger;
@@ -15,6 +15,11 @@ import app.revanced.extension.shared.utils.Utils;
  * Manages a buffer for storing debug logs from {@link Logger}.
  * Stores just under 1MB of the most recent log data.
  * <p>
+ * Entries are kept in a fixed size ring buffer without locks.
+ * Each append claims the next sequence number, and writes into the slot of that number,
+ * replacing the entry one full ring older. If the byte limit is exceeded, the oldest entries
+ * are removed by advancing {@link #oldestSequence}. Appending is O(1) regardless of the number of entries.
+ * <p>
  * All methods are thread-safe.
  */
 public final class LogBufferManager {
@@ -27,13 +32,32 @@ public final class LogBufferManager {
      */
     private static final int BUFFER_MAX_SIZE = 10_000;
 
-    private static final Deque<String> logBuffer = new ConcurrentLinkedDeque<>();
+    private static final class LogEntry {
+        final long sequence;
+        final String message;
+
+        LogEntry(long sequence, String message) {
+            this.sequence = sequence;
+            this.message = message;
+        }
+    }
+
+    private static final AtomicReferenceArray<LogEntry> logBuffer = new AtomicReferenceArray<>(BUFFER_MAX_SIZE);
     private static final AtomicInteger logBufferByteSize = new AtomicInteger();
+    /**
+     * Sequence number of the next entry.
+     */
+    private static final AtomicLong nextSequence = new AtomicLong();
+    /**
+     * Sequence number of the oldest entry that has not been removed.
+     * Entries older than one full ring are always overwritten, even if this is smaller.
+     */
+    private static final AtomicLong oldestSequence = new AtomicLong();
 
     /**
      * Appends a log message to the internal buffer if debugging is enabled.
-     * The buffer is limited to approximately {@link #BUFFER_MAX_BYTES} or {@link #BUFFER_MAX_SIZE}
-     * to prevent excessive memory usage.
+     * The buffer is limited to approximately {@link #BUFFER_MAX_BYTES} or exactly {@link #BUFFER_MAX_SIZE}
+     * entries to prevent excessive memory usage.
      *
      * @param message The log message to append.
      */
@@ -43,19 +67,65 @@ public final class LogBufferManager {
         // It's very important that no Settings are used in this method,
         // as this code is used when a context is not set and thus referencing
         // a setting will crash the app.
-        logBuffer.addLast(message);
-        int newSize = logBufferByteSize.addAndGet(message.length());
-
-        // Remove oldest entries if over the log size limits.
-        while (newSize > BUFFER_MAX_BYTES || logBuffer.size() > BUFFER_MAX_SIZE) {
-            String removed = logBuffer.pollFirst();
-            if (removed == null) {
-                // Thread race of two different calls to this method, and the other thread won.
-                return;
+        final long sequence = nextSequence.getAndIncrement();
+        LogEntry replaced = logBuffer.getAndSet(slotIndex(sequence), new LogEntry(sequence, message));
+        int newSize = logBufferByteSize.addAndGet(
+                replaced == null ? message.length() : message.length() - replaced.message.length());
+
+        if (newSize <= BUFFER_MAX_BYTES) {
+            return;
+        }
+
+        // Entries more than one full ring older were overwritten, so skip their slots.
+        // Otherwise, after many appends under the byte limit, the first removal walks every overwritten slot.
+        oldestSequence.accumulateAndGet(sequence + 1 - BUFFER_MAX_SIZE, Math::max);
+
+        // Remove oldest entries if over the log size limit.
+        while (newSize > BUFFER_MAX_BYTES) {
+            final long oldest = oldestSequence.get();
+            if (oldest >= sequence) {
+                return; // Only this entry remains.
             }
+            if (!oldestSequence.compareAndSet(oldest, oldest + 1)) {
+                continue; // Another thread removed the oldest entry.
+            }
+
+            final int index = slotIndex(oldest);
+            LogEntry removed = logBuffer.get(index);
+            // The slot may already hold a newer entry, or was not yet written by its thread.
+            if (removed != null && removed.sequence == oldest && logBuffer.compareAndSet(index, removed, null)) {
+                newSize = logBufferByteSize.addAndGet(-removed.message.length());
+            } else {
+                newSize = logBufferByteSize.get();
+            }
+        }
+    }
+
+    private static int slotIndex(long sequence) {
+        return (int) (sequence % BUFFER_MAX_SIZE);
+    }
 
-            newSize = logBufferByteSize.addAndGet(-removed.length());
+    /**
+     * @return All current entries joined by new lines, or null if there are no entries.
+     */
+    private static String joinLogBuffer() {
+        final long end = nextSequence.get();
+        final long start = Math.max(oldestSequence.get(), end - BUFFER_MAX_SIZE);
+
+        // Size the builder once, so the entries are only copied once.
+        StringBuilder builder = new StringBuilder(logBufferByteSize.get() + (int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            LogEntry entry = logBuffer.get(slotIndex(sequence));
+            if (entry == null || entry.sequence != sequence) {
+                continue; // Removed, overwritten by a newer entry, or not yet written.
+            }
+            if (builder.length() > 0) {
+                builder.append('\n');
+            }
+            builder.append(entry.message);
         }
+
+        return builder.length() == 0 ? null : builder.toString();
     }
 
     /**
@@ -90,13 +160,14 @@ public final class LogBufferManager {
                 return null;
             }
 
-            if (logBuffer.isEmpty()) {
+            String logs = joinLogBuffer();
+            if (logs == null) {
                 Utils.showToastShort(str("revanced_debug_logs_none_found"));
                 clearLogBufferData(); // Clear toast log entry that was just created.
                 return null;
             }
 
-            return String.join("\n", logBuffer);
+            return logs;
         } catch (Exception ex) {
             // Handle security exception if clipboard access is denied.
             String errorMessage = String.format(str("revanced_debug_logs_failed_to_export"), ex.getMessage());
@@ -108,12 +179,18 @@ public final class LogBufferManager {
 
     private static void clearLogBufferData() {
         // Cannot simply clear the log buffer because there is no
-        // write lock for both the deque and the atomic int.
-        // Instead pop off log entries and decrement the size one by one.
-        while (!logBuffer.isEmpty()) {
-            String removed = logBuffer.pollFirst();
-            if (removed != null) {
-                logBufferByteSize.addAndGet(-removed.length());
+        // write lock for both the buffer and the atomic int.
+        // Instead remove log entries and decrement the size one by one.
+        final long end = nextSequence.get();
+        long oldest;
+        while ((oldest = oldestSequence.get()) < end) {
+            if (oldestSequence.compareAndSet(oldest, end)) break;
+        }
+
+        for (int i = 0; i < BUFFER_MAX_SIZE; i++) {
+            LogEntry removed = logBuffer.get(i);
+            if (removed != null && removed.sequence < end && logBuffer.compareAndSet(i, removed, null)) {
+                logBufferByteSize.addAndGet(-removed.message.length());
             }
         }
     }
@@ -7,7 +7,12 @@ import android.preference.PreferenceFragment;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import app.revanced.extension.shared.utils.Logger;
 import app.revanced.extension.shared.utils.Utils;
@@ -22,14 +27,235 @@ import app.revanced.extension.shared.utils.Utils;
  * then store the primitive numbers using the {@link #preferences} itself.
  */
 public class SharedPrefCategory {
+    /**
+     * Batch edit of one thread.
+     */
+    private static final class BatchEdit {
+        /**
+         * Number of {@link #batchEdit(Runnable)} calls in progress.
+         */
+        int depth;
+
+        /**
+         * Pending changes of each category written to during the batch edit.
+         */
+        final Map<SharedPrefCategory, SharedPreferences.Editor> editors = new LinkedHashMap<>();
+    }
+
+    /**
+     * Batch edit of the calling thread, or null if none is in progress.
+     * Writes of other threads are not part of the batch, and are applied immediately.
+     */
+    private static final ThreadLocal<BatchEdit> currentBatchEdit = new ThreadLocal<>();
+
+    /**
+     * Number of threads with a batch edit in progress.
+     */
+    private static final AtomicInteger batchEditThreads = new AtomicInteger();
+
+    /**
+     * Runs the edits, and writes all changes made to any category with a single
+     * {@link SharedPreferences.Editor#apply()} per category when the outermost batch finishes.
+     * <p>
+     * Each apply queues a write of the entire preferences file,
+     * so importing or resetting many settings without batching queues hundreds of file writes.
+     * Batch edits can be nested, and values written during the batch are immediately readable.
+     * Only writes of the calling thread are part of the batch.
+     */
+    public static void batchEdit(@NonNull Runnable edits) {
+        BatchEdit batch = currentBatchEdit.get();
+        if (batch == null) {
+            batch = new BatchEdit();
+            currentBatchEdit.set(batch);
+            batchEditThreads.incrementAndGet();
+        }
+        batch.depth++;
+
+        try {
+            edits.run();
+        } finally {
+            if (--batch.depth == 0) {
+                currentBatchEdit.remove();
+                try {
+                    if (!batch.editors.isEmpty()) {
+                        Logger.printDebug(() -> "Applying batch edit");
+                        for (SharedPreferences.Editor editor : batch.editors.values()) {
+                            editor.apply();
+                        }
+                    }
+                } finally {
+                    batchEditThreads.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return If any thread has a batch edit in progress.
+     */
+    private static boolean isBatchEditInProgress() {
+        return batchEditThreads.get() > 0;
+    }
+
     @NonNull
     public final String name;
     @NonNull
     public final SharedPreferences preferences;
 
+    /**
+     * Copy of all values in {@link #preferences}, or null if not yet read.
+     * <p>
+     * Settings are loaded on first use, and reading each through {@link SharedPreferences}
+     * acquires the preferences lock and looks up the key for every call.
+     * Instead, all values are copied once. Writes made through this class are mirrored here,
+     * and other writes to the preferences update the changed key.
+     */
+    @Nullable
+    private volatile Map<String, Object> snapshot;
+
+    /**
+     * Updates the snapshot if the preferences are written to directly, such as by a {@link PreferenceFragment}.
+     * Must be a strong reference, as {@link SharedPreferences} only keeps a weak reference to listeners.
+     */
+    private final SharedPreferences.OnSharedPreferenceChangeListener snapshotListener;
+
     public SharedPrefCategory(@NonNull String name) {
         this.name = Objects.requireNonNull(name);
         preferences = Objects.requireNonNull(Utils.getContext()).getSharedPreferences(name, Context.MODE_PRIVATE);
+        snapshotListener = (sharedPreferences, key) -> onPreferenceChanged(key);
+        preferences.registerOnSharedPreferenceChangeListener(snapshotListener);
+    }
+
+    /**
+     * Writes made through this class are mirrored to the snapshot before they are written,
+     * so for those the stored value already matches the snapshot and nothing is done.
+     * Other writes only update the changed key, unless the value type is unknown.
+     *
+     * @param key The changed key, or null if all values were cleared.
+     */
+    private void onPreferenceChanged(@Nullable String key) {
+        Map<String, Object> current = snapshot;
+        if (current == null) {
+            return;
+        }
+
+        Object cachedValue = (key == null) ? null : current.get(key);
+        if (cachedValue == null) {
+            if (key != null && !preferences.contains(key)) {
+                return; // Removal is already mirrored.
+            }
+            // Cleared, or a new key of unknown type. Writes of a batch in progress are already
+            // in the snapshot, and it cannot be recreated until the batch is applied.
+            if (!isBatchEditInProgress()) {
+                snapshot = null;
+            }
+            return;
+        }
+
+        Object storedValue;
+        try {
+            storedValue = getStoredValue(key, cachedValue);
+        } catch (ClassCastException ex) {
+            // Type changed. Mirror the value the next time the snapshot is created.
+            if (!isBatchEditInProgress()) {
+                snapshot = null;
+            }
+            return;
+        }
+
+        if (storedValue == null) {
+            current.remove(key);
+        } else if (!storedValue.equals(cachedValue)) {
+            current.put(key, storedValue);
+        }
+    }
+
+    /**
+     * @param typeOf A value of the same type as the stored value.
+     * @return The stored value, or null if the key is not stored.
+     * @throws ClassCastException If the stored value is a different type.
+     */
+    @Nullable
+    private Object getStoredValue(@NonNull String key, @NonNull Object typeOf) {
+        if (!preferences.contains(key)) {
+            return null;
+        }
+        if (typeOf instanceof String) {
+            return preferences.getString(key, null);
+        }
+        if (typeOf instanceof Boolean) {
+            return preferences.getBoolean(key, false);
+        }
+        if (typeOf instanceof Integer) {
+            return preferences.getInt(key, 0);
+        }
+        if (typeOf instanceof Long) {
+            return preferences.getLong(key, 0);
+        }
+        if (typeOf instanceof Float) {
+            return preferences.getFloat(key, 0);
+        }
+        return preferences.getStringSet(key, null);
+    }
+
+    @NonNull
+    private Map<String, Object> getSnapshot() {
+        Map<String, Object> current = snapshot;
+        if (current == null) {
+            current = new ConcurrentHashMap<>();
+            for (Map.Entry<String, ?> entry : preferences.getAll().entrySet()) {
+                Object value = entry.getValue();
+                if (value != null) {
+                    current.put(entry.getKey(), value);
+                }
+            }
+            snapshot = current;
+        }
+        return current;
+    }
+
+    @Nullable
+    private Object getSnapshotValue(@NonNull String key) {
+        return getSnapshot().get(key);
+    }
+
+    private void updateSnapshot(@NonNull String key, @Nullable Object value) {
+        Map<String, Object> current = snapshot;
+        if (current != null) {
+            if (value == null) {
+                current.remove(key);
+            } else {
+                current.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Mirrors the new value to the snapshot, and then applies the change now
+     * or adds it to the batch edit in progress.
+     * The snapshot is updated first, so the change listener sees the value is already mirrored.
+     *
+     * @param value The new value of the key, or null if the key is removed.
+     */
+    private void edit(@NonNull String key, @Nullable Object value, @NonNull Consumer<SharedPreferences.Editor> change) {
+        BatchEdit batch = currentBatchEdit.get();
+        if (batch != null) {
+            SharedPreferences.Editor editor = batch.editors.get(this);
+            if (editor == null) {
+                // Pending writes are only visible through the snapshot, so it must exist during the batch.
+                getSnapshot();
+                editor = preferences.edit();
+                batch.editors.put(this, editor);
+            }
+            updateSnapshot(key, value);
+            change.accept(editor);
+            return;
+        }
+
+        updateSnapshot(key, value);
+        SharedPreferences.Editor editor = preferences.edit();
+        change.accept(editor);
+        editor.apply();
     }
 
     private void removeConflictingPreferenceKeyValue(@NonNull String key) {
@@ -38,18 +264,20 @@ public class SharedPrefCategory {
     }
 
     private void saveObjectAsString(@NonNull String key, @Nullable Object value) {
-        preferences.edit().putString(key, (value == null ? null : value.toString())).apply();
+        String stringValue = (value == null ? null : value.toString());
+        edit(key, stringValue, editor -> editor.putString(key, stringValue));
     }
 
     /**
      * Removes any preference data type that has the specified key.
      */
     public void removeKey(@NonNull String key) {
-        preferences.edit().remove(Objects.requireNonNull(key)).apply();
+        Objects.requireNonNull(key);
+        edit(key, null, editor -> editor.remove(key));
     }
 
     public void saveBoolean(@NonNull String key, boolean value) {
-        preferences.edit().putBoolean(key, value).apply();
+        edit(key, value, editor -> editor.putBoolean(key, value));
     }
 
     /**
@@ -90,31 +318,31 @@ public class SharedPrefCategory {
     @NonNull
     public String getString(@NonNull String key, @NonNull String _default) {
         Objects.requireNonNull(_default);
-        try {
-            return preferences.getString(key, _default);
-        } catch (ClassCastException ex) {
+        Object value = getSnapshotValue(key);
+        if (value instanceof String stringValue) {
+            return stringValue;
+        }
+        if (value != null) {
             // Value stored is a completely different type (should never happen).
             removeConflictingPreferenceKeyValue(key);
-            return _default;
         }
+        return _default;
     }
 
     @NonNull
     public <T extends Enum<?>> T getEnum(@NonNull String key, @NonNull T _default) {
         Objects.requireNonNull(_default);
-        try {
-            String enumName = preferences.getString(key, null);
-            if (enumName != null) {
-                try {
-                    // noinspection unchecked
-                    return (T) Enum.valueOf(_default.getClass(), enumName);
-                } catch (IllegalArgumentException ex) {
-                    // Info level to allow removing enum values in the future without showing any user errors.
-                    Logger.printInfo(() -> "Using default, and ignoring unknown enum value: " + enumName);
-                    removeKey(key);
-                }
+        Object value = getSnapshotValue(key);
+        if (value instanceof String enumName) {
+            try {
+                // noinspection unchecked
+                return (T) Enum.valueOf(_default.getClass(), enumName);
+            } catch (IllegalArgumentException ex) {
+                // Info level to allow removing enum values in the future without showing any user errors.
+                Logger.printInfo(() -> "Using default, and ignoring unknown enum value: " + enumName);
+                removeKey(key);
             }
-        } catch (ClassCastException ex) {
+        } else if (value != null) {
             // Value stored is a completely different type (should never happen).
             removeConflictingPreferenceKeyValue(key);
         }
@@ -122,64 +350,69 @@ public class SharedPrefCategory {
     }
 
     public boolean getBoolean(@NonNull String key, boolean _default) {
-        try {
-            return preferences.getBoolean(key, _default);
-        } catch (ClassCastException ex) {
+        Object value = getSnapshotValue(key);
+        if (value instanceof Boolean booleanValue) {
+            return booleanValue;
+        }
+        if (value != null) {
             // Value stored is a completely different type (should never happen).
             removeConflictingPreferenceKeyValue(key);
-            return _default;
         }
+        return _default;
     }
 
     @NonNull
     public Integer getIntegerString(@NonNull String key, @NonNull Integer _default) {
+        Object value = getSnapshotValue(key);
         try {
-            String value = preferences.getString(key, null);
-            if (value != null) {
-                return Integer.valueOf(value);
+            if (value instanceof String stringValue) {
+                return Integer.valueOf(stringValue);
             }
-        } catch (ClassCastException | NumberFormatException ex) {
-            try {
+            if (value instanceof Integer intValue) {
                 // Old data previously stored as primitive.
-                return preferences.getInt(key, _default);
-            } catch (ClassCastException ex2) {
-                // Value stored is a completely different type (should never happen).
-                removeConflictingPreferenceKeyValue(key);
+                return intValue;
             }
+        } catch (NumberFormatException ignored) {
+        }
+        if (value != null) {
+            // Value stored is a completely different type (should never happen).
+            removeConflictingPreferenceKeyValue(key);
         }
         return _default;
     }
 
     @NonNull
     public Long getLongString(@NonNull String key, @NonNull Long _default) {
+        Object value = getSnapshotValue(key);
         try {
-            String value = preferences.getString(key, null);
-            if (value != null) {
-                return Long.valueOf(value);
+            if (value instanceof String stringValue) {
+                return Long.valueOf(stringValue);
             }
-        } catch (ClassCastException | NumberFormatException ex) {
-            try {
-                return preferences.getLong(key, _default);
-            } catch (ClassCastException ex2) {
-                removeConflictingPreferenceKeyValue(key);
+            if (value instanceof Long longValue) {
+                return longValue;
             }
+        } catch (NumberFormatException ignored) {
+        }
+        if (value != null) {
+            removeConflictingPreferenceKeyValue(key);
         }
         return _default;
     }
 
     @NonNull
     public Float getFloatString(@NonNull String key, @NonNull Float _default) {
+        Object value = getSnapshotValue(key);
         try {
-            String value = preferences.getString(key, null);
-            if (value != null) {
-                return Float.valueOf(value);
+            if (value instanceof String stringValue) {
+                return Float.valueOf(stringValue);
             }
-        } catch (ClassCastException | NumberFormatException ex) {
-            try {
-                return preferences.getFloat(key, _default);
-            } catch (ClassCastException ex2) {
-                removeConflictingPreferenceKeyValue(key);
+            if (value instanceof Float floatValue) {
+                return floatValue;
             }
+        } catch (NumberFormatException ignored) {
+        }
+        if (value != null) {
+            removeConflictingPreferenceKeyValue(key);
         }
         return _default;
     }
@@ -56,6 +56,8 @@ public class ToolbarPreferenceFragment extends AbstractPreferenceFragment {
 
                 childPreference.setOnPreferenceClickListener(
                         childScreen -> {
+                            syncPreferenceScreenIfPending(screen);
+
                             Dialog preferenceScreenDialog = screen.getDialog();
                             ViewGroup rootView = (ViewGroup) preferenceScreenDialog
                                     .findViewById(android.R.id.content)
@@ -13,8 +13,6 @@ import androidx.annotation.ColorInt;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import app.revanced.extension.shared.settings.preference.ColorPickerPreference;
 import app.revanced.extension.shared.settings.preference.CustomDialogListPreference;
@@ -74,31 +72,43 @@ public abstract class BaseSearchResultItem {
         this.highlightingApplied = false;
     }
 
+    /**
+     * @param query Query normalized with {@link Utils#normalizeTextToLowercase(CharSequence)}.
+     */
     abstract boolean matchesQuery(String query);
 
-    abstract void applyHighlighting(Pattern queryPattern);
+    /**
+     * @param query Query normalized with {@link Utils#normalizeTextToLowercase(CharSequence)}.
+     */
+    abstract void applyHighlighting(String query);
 
     abstract void clearHighlighting();
 
     // Shared method for highlighting text with search query.
-    protected static CharSequence highlightSearchQuery(CharSequence text, Pattern queryPattern) {
-        if (TextUtils.isEmpty(text) || queryPattern == null) return text;
-
-        final int adjustedColor = BaseThemeUtils.adjustColorBrightness(
-                BaseThemeUtils.getAppBackgroundColor(), 0.95f, 1.20f);
-        BackgroundColorSpan highlightSpan = new BackgroundColorSpan(adjustedColor);
-        SpannableStringBuilder spannable = new SpannableStringBuilder(text);
-
-        Matcher matcher = queryPattern.matcher(text);
-        while (matcher.find()) {
-            int start = matcher.start();
-            int end = matcher.end();
-            if (start == end) continue; // Skip zero matches.
-            spannable.setSpan(highlightSpan, start, end,
+    // Returns the original text if the query is not found, so text without matches is not copied.
+    protected static CharSequence highlightSearchQuery(CharSequence text, String query) {
+        if (TextUtils.isEmpty(text) || TextUtils.isEmpty(query)) return text;
+
+        String textString = text.toString();
+        final int queryLength = query.length();
+        SpannableStringBuilder spannable = null;
+        int highlightColor = 0;
+
+        for (int i = 0, last = textString.length() - queryLength; i <= last; i++) {
+            if (!textString.regionMatches(true, i, query, 0, queryLength)) continue;
+
+            if (spannable == null) {
+                spannable = new SpannableStringBuilder(text);
+                highlightColor = BaseThemeUtils.adjustColorBrightness(
+                        BaseThemeUtils.getAppBackgroundColor(), 0.95f, 1.20f);
+            }
+            // Each match needs its own span, as setting an existing span again only moves it.
+            spannable.setSpan(new BackgroundColorSpan(highlightColor), i, i + queryLength,
                     SpannableStringBuilder.SPAN_EXCLUSIVE_EXCLUSIVE);
+            i += queryLength - 1;
         }
 
-        return spannable;
+        return spannable != null ? spannable : text;
     }
 
     /**
@@ -116,7 +126,7 @@ public abstract class BaseSearchResultItem {
         }
 
         @Override
-        void applyHighlighting(Pattern queryPattern) {
+        void applyHighlighting(String query) {
         }
 
         @Override
@@ -129,8 +139,21 @@ public abstract class BaseSearchResultItem {
      */
     @SuppressWarnings("deprecation")
     public static class PreferenceSearchItem extends BaseSearchResultItem {
+        /**
+         * Search ranks, from best to worst match.
+         */
+        static final int RANK_TITLE = 0;
+        static final int RANK_SUMMARY = 1;
+        static final int RANK_KEY = 2;
+        static final int RANK_OTHER = 3;
+
         public final Preference preference;
-        final String searchableText;
+        private final String key;
+        // Normalized text is set by prepareSearchText(), which can be called from any thread.
+        String searchableText;
+        private String normalizedTitle;
+        private String normalizedSummary;
+        private String normalizedKey;
         final CharSequence originalTitle;
         final CharSequence originalSummary;
         final CharSequence originalSummaryOn;
@@ -138,12 +161,21 @@ public abstract class BaseSearchResultItem {
         final CharSequence[] originalEntries;
         private CharSequence[] highlightedEntries;
         private boolean entriesHighlightingApplied;
+        /**
+         * If {@link #highlightedEntries} are highlighted with {@link #lastQuery}.
+         */
+        private boolean entriesHighlighted;
 
         @ColorInt
         private int color;
+        /**
+         * Searchable text of {@link #color} when this item was created,
+         * as {@link #color} is changed on the main thread.
+         */
+        private final String originalColorText;
 
-        // Store last applied highlighting pattern to reapply when needed.
-        Pattern lastQueryPattern;
+        // Store last applied highlighting query to reapply when needed.
+        String lastQuery;
 
         PreferenceSearchItem(Preference pref, String navPath, List<String> navKeys) {
             super(navPath, navKeys, determineType(pref));
@@ -153,16 +185,43 @@ public abstract class BaseSearchResultItem {
             this.highlightedTitle = this.originalTitle;
             this.highlightedSummary = this.originalSummary != null ? this.originalSummary : "";
             this.color = 0;
-            this.lastQueryPattern = null;
+            this.lastQuery = null;
 
             // Initialize type-specific fields.
             FieldInitializationResult result = initTypeSpecificFields(pref);
             this.originalSummaryOn = result.summaryOn;
             this.originalSummaryOff = result.summaryOff;
             this.originalEntries = result.entries;
+            this.key = pref.getKey();
+            this.originalColorText = preferenceType == ViewType.COLOR_PICKER
+                    ? ColorPickerPreference.getColorString(color, false)
+                    : null;
+        }
+
+        /**
+         * Normalizes the searchable text. Must be called before searching this item.
+         * <p>
+         * Only uses values copied from the preference when this item was created,
+         * so this can be called from a background thread.
+         */
+        void prepareSearchText() {
+            // Normalize once, for ranking matches by field.
+            // Normalize preference key by removing the common "revanced_" prefix
+            // so that users can search by the meaningful part only.
+            normalizedKey = key == null
+                    ? ""
+                    : Utils.normalizeTextToLowercase(key.startsWith("revanced_")
+                    ? key.substring("revanced_".length())
+                    : key);
+            normalizedTitle = Utils.normalizeTextToLowercase(originalTitle);
+            StringBuilder summaryBuilder = new StringBuilder();
+            appendText(summaryBuilder, originalSummary);
+            appendText(summaryBuilder, originalSummaryOn);
+            appendText(summaryBuilder, originalSummaryOff);
+            normalizedSummary = summaryBuilder.toString();
 
             // Build searchable text.
-            this.searchableText = buildSearchableText(pref);
+            searchableText = buildSearchableText();
         }
 
         private static class FieldInitializationResult {
@@ -201,33 +260,24 @@ public abstract class BaseSearchResultItem {
             return result;
         }
 
-        private String buildSearchableText(Preference pref) {
+        private String buildSearchableText() {
             StringBuilder searchBuilder = new StringBuilder();
-            String key = pref.getKey();
-            String normalizedKey = "";
-            if (key != null) {
-                // Normalize preference key by removing the common "revanced_" prefix
-                // so that users can search by the meaningful part only.
-                normalizedKey = key.startsWith("revanced_")
-                        ? key.substring("revanced_".length())
-                        : key;
-            }
             appendText(searchBuilder, normalizedKey);
-            appendText(searchBuilder, originalTitle);
+            appendText(searchBuilder, normalizedTitle);
             appendText(searchBuilder, originalSummary);
 
             // Add type-specific searchable content.
-            if (pref instanceof ListPreference) {
+            if (preferenceType == ViewType.LIST) {
                 if (originalEntries != null) {
                     for (CharSequence entry : originalEntries) {
                         appendText(searchBuilder, entry);
                     }
                 }
-            } else if (pref instanceof SwitchPreference) {
+            } else if (preferenceType == ViewType.SWITCH) {
                 appendText(searchBuilder, originalSummaryOn);
                 appendText(searchBuilder, originalSummaryOff);
-            } else if (pref instanceof ColorPickerPreference) {
-                appendText(searchBuilder, ColorPickerPreference.getColorString(color, false));
+            } else if (preferenceType == ViewType.COLOR_PICKER) {
+                appendText(searchBuilder, originalColorText);
             }
 
             // Include navigation path in searchable text.
@@ -288,13 +338,33 @@ public abstract class BaseSearchResultItem {
          */
         @Override
         boolean matchesQuery(String query) {
-            return searchableText.contains(Utils.normalizeTextToLowercase(query));
+            return searchableText != null && searchableText.contains(query);
+        }
+
+        /**
+         * @param query Normalized query that this item matches.
+         * @return The {@code RANK_} of the best field containing the query.
+         */
+        int getSearchRank(String query) {
+            if (normalizedTitle.contains(query)) return RANK_TITLE;
+            if (normalizedSummary.contains(query)) return RANK_SUMMARY;
+            if (normalizedKey.contains(query)) return RANK_KEY;
+            return RANK_OTHER;
         }
 
         /**
          * Get highlighted entries to show in dialog.
+         * Entries are only highlighted when first needed, as most list dialogs are never opened.
          */
         public CharSequence[] getHighlightedEntries() {
+            if (entriesHighlightingApplied && !entriesHighlighted && lastQuery != null) {
+                for (int i = 0, length = originalEntries.length; i < length; i++) {
+                    highlightedEntries[i] = originalEntries[i] != null
+                            ? highlightSearchQuery(originalEntries[i], lastQuery)
+                            : null;
+                }
+                entriesHighlighted = true;
+            }
             return highlightedEntries;
         }
 
@@ -307,28 +377,27 @@ public abstract class BaseSearchResultItem {
 
         /**
          * Highlights the search query in the title and summary.
+         * Does nothing if already highlighted with the same query.
          */
         @Override
-        void applyHighlighting(Pattern queryPattern) {
-            this.lastQueryPattern = queryPattern;
+        void applyHighlighting(String query) {
+            if (highlightingApplied && query.equals(lastQuery)) return;
+
+            this.lastQuery = query;
             // Highlight the title.
-            highlightedTitle = highlightSearchQuery(originalTitle, queryPattern);
+            highlightedTitle = highlightSearchQuery(originalTitle, query);
 
             // Get the current effective summary and highlight it.
             CharSequence currentSummary = getCurrentEffectiveSummary();
-            highlightedSummary = highlightSearchQuery(currentSummary, queryPattern);
+            highlightedSummary = highlightSearchQuery(currentSummary, query);
 
-            // Highlight the entries.
+            // Entries are highlighted when requested.
             if (preference instanceof ListPreference && originalEntries != null) {
-                highlightedEntries = new CharSequence[originalEntries.length];
-                for (int i = 0, length = originalEntries.length; i < length; i++) {
-                    if (originalEntries[i] != null) {
-                        highlightedEntries[i] = highlightSearchQuery(originalEntries[i], queryPattern);
-                    } else {
-                        highlightedEntries[i] = null;
-                    }
+                if (highlightedEntries == null || highlightedEntries.length != originalEntries.length) {
+                    highlightedEntries = new CharSequence[originalEntries.length];
                 }
                 entriesHighlightingApplied = true;
+                entriesHighlighted = false;
             }
 
             highlightingApplied = true;
@@ -354,8 +423,9 @@ public abstract class BaseSearchResultItem {
             }
 
             entriesHighlightingApplied = false;
+            entriesHighlighted = false;
             highlightingApplied = false;
-            lastQueryPattern = null;
+            lastQuery = null;
         }
 
         /**
@@ -363,9 +433,9 @@ public abstract class BaseSearchResultItem {
          * Should be called when the preference state changes.
          */
         public void refreshHighlighting() {
-            if (highlightingApplied && lastQueryPattern != null) {
+            if (highlightingApplied && lastQuery != null) {
                 CharSequence currentSummary = getCurrentEffectiveSummary();
-                highlightedSummary = highlightSearchQuery(currentSummary, lastQueryPattern);
+                highlightedSummary = highlightSearchQuery(currentSummary, lastQuery);
             }
         }
 
@@ -592,6 +592,9 @@ public abstract class BaseSearchResultsAdapter extends ArrayAdapter<BaseSearchRe
     @SuppressWarnings("all")
     private void handlePreferenceClick(Preference preference) {
         try {
+            // The screens are opened directly, and their values may not yet be synced.
+            fragment.syncPreferenceScreensContaining(preference);
+
             if (preference instanceof CustomDialogListPreference listPref) {
                 BaseSearchResultItem.PreferenceSearchItem searchItem =
                         searchViewController.findSearchItemByPreference(preference);
@@ -33,11 +33,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 import app.revanced.extension.shared.settings.AppLanguage;
 import app.revanced.extension.shared.settings.BaseSettings;
@@ -66,6 +67,18 @@ public abstract class BaseSearchViewController {
     protected final List<BaseSearchResultItem> allSearchItems;
     protected final List<BaseSearchResultItem> filteredSearchItems;
     protected final Map<String, BaseSearchResultItem> keyToSearchItem;
+    /**
+     * Index of {@link #allSearchItems}, or null if not yet built.
+     */
+    protected SearchIndex searchIndex;
+    /**
+     * Incremented each time search data is collected, to ignore an index built from older data.
+     */
+    private int searchDataGeneration;
+    /**
+     * Query entered before the search index was ready, and shown when the index is ready.
+     */
+    private String pendingQuery;
     protected final InputMethodManager inputMethodManager;
     protected SearchHistoryManager searchHistoryManager;
     protected boolean isSearchActive;
@@ -227,6 +240,11 @@ public abstract class BaseSearchViewController {
         android.view.View getView();
 
         Activity getActivity();
+
+        /**
+         * Syncs the nested screens containing the preference, if they are not yet synced with the settings.
+         */
+        void syncPreferenceScreensContaining(Preference preference);
     }
 
     /**
@@ -315,14 +333,19 @@ public abstract class BaseSearchViewController {
     /**
      * Initializes search data by collecting all searchable preferences from the fragment.
      * This method should be called after the preference fragment is fully loaded.
-     * Runs on the UI thread to ensure proper access to preference components.
+     * <p>
+     * Preferences are collected on the UI thread after the settings are first drawn,
+     * and the searchable text is normalized and indexed on a background thread.
      */
     public void initializeSearchData() {
         allSearchItems.clear();
         keyToSearchItem.clear();
-        // Wait until fragment is properly initialized.
-        activity.runOnUiThread(() -> {
+        searchIndex = null;
+        final int generation = ++searchDataGeneration;
+        // Wait until fragment is properly initialized, and do not delay showing the settings.
+        Utils.runOnMainThread(() -> {
             try {
+                if (generation != searchDataGeneration) return;
                 PreferenceScreen screen = fragment.getPreferenceScreenForSearch();
                 if (screen != null) {
                     collectSearchablePreferences(screen);
@@ -335,7 +358,18 @@ public abstract class BaseSearchViewController {
                         }
                     }
                     setupPreferenceListeners();
-                    Logger.printDebug(() -> "Collected " + allSearchItems.size() + " searchable preferences");
+                    final int itemCount = allSearchItems.size();
+                    Logger.printDebug(() -> "Collected " + itemCount + " searchable preferences");
+
+                    List<BaseSearchResultItem> items = new ArrayList<>(allSearchItems);
+                    Utils.runOnBackgroundThread(() -> {
+                        try {
+                            SearchIndex index = buildSearchIndex(items);
+                            Utils.runOnMainThread(() -> onSearchIndexReady(generation, index));
+                        } catch (Exception ex) {
+                            Logger.printException(() -> "Failed to build search index", ex);
+                        }
+                    });
                 }
             } catch (Exception ex) {
                 Logger.printException(() -> "Failed to initialize search data", ex);
@@ -343,6 +377,30 @@ public abstract class BaseSearchViewController {
         });
     }
 
+    /**
+     * Normalizes the text of all items and builds the index. Can be called from any thread.
+     */
+    private static SearchIndex buildSearchIndex(List<BaseSearchResultItem> items) {
+        for (BaseSearchResultItem item : items) {
+            if (item instanceof BaseSearchResultItem.PreferenceSearchItem prefItem) {
+                prefItem.prepareSearchText();
+            }
+        }
+        return new SearchIndex(items);
+    }
+
+    private void onSearchIndexReady(int generation, SearchIndex index) {
+        if (generation != searchDataGeneration) return;
+        searchIndex = index;
+        Logger.printDebug(() -> "Search index ready");
+
+        String query = pendingQuery;
+        pendingQuery = null;
+        if (query != null && isSearchActive && !isShowingSearchHistory) {
+            filterAndShowResults(query);
+        }
+    }
+
     /**
      * Sets up listeners for preferences to keep search results in sync when preference values change.
      */
@@ -453,30 +511,26 @@ public abstract class BaseSearchViewController {
      */
     protected void filterAndShowResults(String query) {
         hideSearchHistory();
+        if (searchIndex == null) {
+            // Results are shown when the index is ready.
+            pendingQuery = query;
+            return;
+        }
+        pendingQuery = null;
+
         // Keep track of the previously displayed items to clear their highlights.
         List<BaseSearchResultItem> previouslyDisplayedItems = new ArrayList<>(filteredSearchItems);
 
         filteredSearchItems.clear();
 
         String queryLower = Utils.normalizeTextToLowercase(query);
-        Pattern queryPattern = Pattern.compile(Pattern.quote(queryLower), Pattern.CASE_INSENSITIVE);
 
-        // Clear highlighting only for items that were previously visible.
-        // This avoids iterating through all items on every keystroke during filtering.
-        for (BaseSearchResultItem item : previouslyDisplayedItems) {
-            item.clearHighlighting();
-        }
-
-        // Collect matched items first.
-        List<BaseSearchResultItem> matched = new ArrayList<>();
-        int matchCount = 0;
-        for (BaseSearchResultItem item : allSearchItems) {
-            if (matchCount >= MAX_SEARCH_RESULTS) break; // Stop after collecting max results.
-            if (item.matchesQuery(queryLower)) {
-                item.applyHighlighting(queryPattern);
-                matched.add(item);
-                matchCount++;
-            }
+        // Collect the best matched items first.
+        List<BaseSearchResultItem.PreferenceSearchItem> allMatched = searchIndex.search(queryLower);
+        List<BaseSearchResultItem> matched = new ArrayList<>(
+                allMatched.subList(0, Math.min(allMatched.size(), MAX_SEARCH_RESULTS)));
+        for (BaseSearchResultItem item : matched) {
+            item.applyHighlighting(queryLower);
         }
 
         // Build filteredSearchItems, inserting parent enablers for disabled dependents.
@@ -493,7 +547,7 @@ public abstract class BaseSearchViewController {
                             if (!parentItem.matchesQuery(queryLower)) {
                                 // Apply highlighting to parent items even if they don't match the query.
                                 // This ensures they get their current effective summary calculated.
-                                parentItem.applyHighlighting(queryPattern);
+                                parentItem.applyHighlighting(queryLower);
                                 filteredSearchItems.add(parentItem);
                             }
                             addedParentKeys.add(parentSetting.key);
@@ -507,20 +561,28 @@ public abstract class BaseSearchViewController {
             }
         }
 
+        // Clear highlighting only for items that were previously visible and are no longer shown.
+        // Items still shown keep their highlighting, which is only recomputed if the query changed.
+        Set<BaseSearchResultItem> displayedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        displayedItems.addAll(filteredSearchItems);
+        for (BaseSearchResultItem item : previouslyDisplayedItems) {
+            if (!displayedItems.contains(item)) {
+                item.clearHighlighting();
+            }
+        }
+
         if (!filteredSearchItems.isEmpty()) {
-            //noinspection ComparatorCombinators
-            Collections.sort(filteredSearchItems, (o1, o2) ->
-                    o1.navigationPath.compareTo(o2.navigationPath)
-            );
-            List<BaseSearchResultItem> displayItems = new ArrayList<>();
-            String currentPath = null;
+            // Group by navigation path. Groups are ordered by their best ranked item,
+            // and items within a group keep their rank order.
+            Map<String, List<BaseSearchResultItem>> pathToItems = new LinkedHashMap<>();
             for (BaseSearchResultItem item : filteredSearchItems) {
-                if (!item.navigationPath.equals(currentPath)) {
-                    BaseSearchResultItem header = new BaseSearchResultItem.GroupHeaderItem(item.navigationPath, item.navigationKeys);
-                    displayItems.add(header);
-                    currentPath = item.navigationPath;
-                }
-                displayItems.add(item);
+                pathToItems.computeIfAbsent(item.navigationPath, k -> new ArrayList<>()).add(item);
+            }
+            List<BaseSearchResultItem> displayItems = new ArrayList<>();
+            for (List<BaseSearchResultItem> pathItems : pathToItems.values()) {
+                BaseSearchResultItem first = pathItems.get(0);
+                displayItems.add(new BaseSearchResultItem.GroupHeaderItem(first.navigationPath, first.navigationKeys));
+                displayItems.addAll(pathItems);
             }
             filteredSearchItems.clear();
             filteredSearchItems.addAll(displayItems);
@@ -565,6 +627,7 @@ public abstract class BaseSearchViewController {
     public void closeSearch() {
         isSearchActive = false;
         isShowingSearchHistory = false;
+        pendingQuery = null;
 
         searchHistoryManager.hideSearchHistoryContainer();
         overlayContainer.setVisibility(View.GONE);
@@ -619,6 +682,7 @@ public abstract class BaseSearchViewController {
      * Hides the search results overlay and clears the filtered results.
      */
     protected void hideSearchResults() {
+        pendingQuery = null;
         overlayContainer.setVisibility(View.GONE);
         filteredSearchItems.clear();
         searchResultsAdapter.notifyDataSetChanged();
@@ -0,0 +1,154 @@
+package app.revanced.extension.shared.settings.search;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index of the searchable text of preferences, built once when the settings are opened.
+ * <p>
+ * Each item is indexed by every 3 character sequence (trigram) of its normalized searchable text.
+ * A query of 3 or more characters only verifies the items that contain all trigrams of the query,
+ * instead of searching the text of every preference.
+ * If a query contains the previous query, such as when typing, only the previous matches are verified.
+ * <p>
+ * Matches are ranked by where the query is found: title, then summary, then key, then any other text.
+ */
+final class SearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_MATCHES = new int[0];
+
+    @NonNull
+    private final List<BaseSearchResultItem.PreferenceSearchItem> items = new ArrayList<>();
+
+    /**
+     * Trigram to the sorted indexes of all items containing it.
+     */
+    @NonNull
+    private final Map<String, int[]> trigramToItems;
+
+    @Nullable
+    private String lastQuery;
+    /**
+     * Sorted indexes of all items matching {@link #lastQuery}.
+     */
+    @NonNull
+    private int[] lastMatches = NO_MATCHES;
+
+    SearchIndex(@NonNull List<BaseSearchResultItem> allItems) {
+        Map<String, List<Integer>> trigramToItemList = new HashMap<>();
+        for (BaseSearchResultItem item : allItems) {
+            if (!(item instanceof BaseSearchResultItem.PreferenceSearchItem prefItem)) continue;
+            final int index = items.size();
+            items.add(prefItem);
+
+            String text = prefItem.searchableText;
+            for (int i = 0, last = text.length() - GRAM_LENGTH; i <= last; i++) {
+                List<Integer> itemList = trigramToItemList.computeIfAbsent(
+                        text.substring(i, i + GRAM_LENGTH), k -> new ArrayList<>());
+                // Items are added in order, so a duplicate trigram of this item can only be the last entry.
+                if (itemList.isEmpty() || itemList.get(itemList.size() - 1) != index) {
+                    itemList.add(index);
+                }
+            }
+        }
+
+        trigramToItems = new HashMap<>(trigramToItemList.size());
+        for (Map.Entry<String, List<Integer>> entry : trigramToItemList.entrySet()) {
+            List<Integer> itemList = entry.getValue();
+            int[] itemIndexes = new int[itemList.size()];
+            for (int i = 0; i < itemIndexes.length; i++) {
+                itemIndexes[i] = itemList.get(i);
+            }
+            trigramToItems.put(entry.getKey(), itemIndexes);
+        }
+    }
+
+    /**
+     * @param query Query normalized with {@link app.revanced.extension.shared.utils.Utils#normalizeTextToLowercase(CharSequence)}.
+     * @return All matching items, with the best matches first.
+     */
+    @NonNull
+    List<BaseSearchResultItem.PreferenceSearchItem> search(@NonNull String query) {
+        final int[] candidates;
+        if (lastQuery != null && query.contains(lastQuery)) {
+            candidates = lastMatches;
+        } else if (query.length() >= GRAM_LENGTH) {
+            candidates = findTrigramCandidates(query);
+        } else {
+            candidates = null; // All items.
+        }
+
+        final int candidateCount = candidates == null ? items.size() : candidates.length;
+        int[] matches = new int[candidateCount];
+        int matchCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            final int index = candidates == null ? i : candidates[i];
+            if (items.get(index).matchesQuery(query)) {
+                matches[matchCount++] = index;
+            }
+        }
+
+        lastQuery = query;
+        lastMatches = Arrays.copyOf(matches, matchCount);
+
+        int[] ranks = new int[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            ranks[i] = items.get(matches[i]).getSearchRank(query);
+        }
+
+        // Sort by rank, and keep the preference order for matches of the same rank.
+        List<BaseSearchResultItem.PreferenceSearchItem> results = new ArrayList<>(matchCount);
+        for (int rank = BaseSearchResultItem.PreferenceSearchItem.RANK_TITLE;
+             rank <= BaseSearchResultItem.PreferenceSearchItem.RANK_OTHER; rank++) {
+            for (int i = 0; i < matchCount; i++) {
+                if (ranks[i] == rank) {
+                    results.add(items.get(matches[i]));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return Sorted indexes of the items containing all trigrams of the query.
+     */
+    @NonNull
+    private int[] findTrigramCandidates(@NonNull String query) {
+        int[] candidates = null;
+        for (int i = 0, last = query.length() - GRAM_LENGTH; i <= last; i++) {
+            int[] itemIndexes = trigramToItems.get(query.substring(i, i + GRAM_LENGTH));
+            if (itemIndexes == null) {
+                return NO_MATCHES;
+            }
+            candidates = (candidates == null) ? itemIndexes : intersect(candidates, itemIndexes);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        return candidates == null ? NO_MATCHES : candidates;
+    }
+
+    @NonNull
+    private static int[] intersect(@NonNull int[] first, @NonNull int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < first.length && j < second.length; ) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
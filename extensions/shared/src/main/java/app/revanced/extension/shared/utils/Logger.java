@@ -8,6 +8,14 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
 import app.revanced.extension.shared.settings.BaseSettings;
 import app.revanced.extension.shared.settings.preference.LogBufferManager;
 
@@ -15,6 +23,20 @@ import app.revanced.extension.shared.settings.preference.LogBufferManager;
  * ReVanced specific logger.  Logging is done to standard device log (accessible thru ADB),
  * and additionally accessible thru {@link LogBufferManager}.
  * <p>
+ * Debug, info and warning messages are logged asynchronously.
+ * The calling thread only adds a small record to a lock-free queue,
+ * and a single logging thread builds the message strings and writes them to the logs,
+ * prefixed with the name of the calling thread.
+ * This keeps logging from adding latency to the Litho and player threads it is used on.
+ * Messages from the same class are rate limited to {@link #RATE_LIMIT_MESSAGES_PER_SECOND}.
+ * The message lambdas of these methods are called later on the logging thread,
+ * so they must not use objects the caller can still change, such as lists being filled.
+ * Copy such values to local variables before logging.
+ * <p>
+ * Errors are built and written to the device log on the calling thread, so they are not lost if the app crashes.
+ * They are added to {@link LogBufferManager} by the logging thread,
+ * so they stay in order with the messages logged before them.
+ * <p>
  * All methods are thread safe, and are safe to call even
  * if {@link Utils#getContext()} is not available.
  */
@@ -45,6 +67,22 @@ public class Logger {
      */
     private static final String REVANCED_LOG_TAG_PREFIX = "Extended: ";
 
+    /**
+     * Maximum number of asynchronous messages of a single class logged each second.
+     * Additional messages are dropped, and the number of dropped messages is logged afterwards.
+     */
+    private static final int RATE_LIMIT_MESSAGES_PER_SECOND = 200;
+
+    /**
+     * Maximum number of asynchronous messages waiting to be logged.
+     */
+    private static final int MAX_PENDING_RECORDS = 10_000;
+
+    /**
+     * Outer class simple names, by the class of the message lambda.
+     */
+    private static final Map<Class<?>, String> outerClassSimpleNames = new ConcurrentHashMap<>();
+
     /**
      * @return For outer classes, this returns {@link Class#getSimpleName()}.
      * For static, inner, or anonymous classes, this returns the simple name of the enclosing class.
@@ -57,7 +95,10 @@ public class Logger {
      * </code>
      */
     private static String getOuterClassSimpleName(Object obj) {
-        Class<?> logClass = obj.getClass();
+        return outerClassSimpleNames.computeIfAbsent(obj.getClass(), Logger::parseOuterClassSimpleName);
+    }
+
+    private static String parseOuterClassSimpleName(Class<?> logClass) {
         String fullClassName = logClass.getName();
         final int dollarSignIndex = fullClassName.indexOf('$');
         if (dollarSignIndex < 0) {
@@ -71,37 +112,223 @@ public class Logger {
         return fullClassName.substring(simpleClassNameStartIndex, dollarSignIndex);
     }
 
+    // region Asynchronous logging
+
+    /**
+     * Log call waiting to be logged by the logging thread.
+     */
+    private static final class LogRecord {
+        final LogLevel logLevel;
+        @Nullable
+        final LogMessage message;
+        @Nullable
+        final Throwable ex;
+        final long timeMillis;
+        /**
+         * Name of the calling thread, as the message is logged by the logging thread.
+         */
+        @Nullable
+        final String threadName;
+        /**
+         * Text of an error already written to the device log, and only to be added to {@link LogBufferManager}.
+         */
+        @Nullable
+        final String logBufferText;
+
+        LogRecord(LogLevel logLevel, LogMessage message, @Nullable Throwable ex, long timeMillis, String threadName) {
+            this.logLevel = logLevel;
+            this.message = message;
+            this.ex = ex;
+            this.timeMillis = timeMillis;
+            this.threadName = threadName;
+            this.logBufferText = null;
+        }
+
+        LogRecord(String logBufferText) {
+            this.logLevel = LogLevel.ERROR;
+            this.message = null;
+            this.ex = null;
+            this.timeMillis = 0;
+            this.threadName = null;
+            this.logBufferText = logBufferText;
+        }
+    }
+
+    /**
+     * Number of messages logged for a class in the current one second window.
+     * Only used by the logging thread.
+     */
+    private static final class RateLimit {
+        long windowStartMillis;
+        int logged;
+        int dropped;
+    }
+
+    private static final Queue<LogRecord> pendingRecords = new ConcurrentLinkedQueue<>();
+    /**
+     * Records added to {@link #pendingRecords} and not yet logged.
+     * The logging thread is only woken up if this was zero.
+     */
+    private static final AtomicInteger pendingRecordCount = new AtomicInteger();
+    /**
+     * Records dropped because too many records were pending.
+     */
+    private static final AtomicInteger droppedRecordCount = new AtomicInteger();
+
+    /**
+     * Holder so the thread is only started when first used.
+     */
+    private static final class LoggingThread {
+        static final Thread thread;
+
+        static {
+            thread = new Thread(Logger::processRecords, "revanced-logger");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            thread.start();
+        }
+    }
+
+    private static void enqueue(LogLevel logLevel, LogMessage message, @Nullable Throwable ex) {
+        if (pendingRecordCount.get() >= MAX_PENDING_RECORDS) {
+            droppedRecordCount.incrementAndGet();
+            return;
+        }
+
+        offer(new LogRecord(logLevel, message, ex, System.currentTimeMillis(),
+                Thread.currentThread().getName()));
+    }
+
+    /**
+     * Adds the record even if too many records are pending, as it is only used for errors.
+     */
+    private static void offer(LogRecord record) {
+        pendingRecords.offer(record);
+        if (pendingRecordCount.getAndIncrement() == 0) {
+            LockSupport.unpark(LoggingThread.thread);
+        }
+    }
+
+    private static void processRecords() {
+        Map<String, RateLimit> rateLimits = new HashMap<>();
+
+        while (true) {
+            LogRecord record = pendingRecords.poll();
+            if (record == null) {
+                // If a record is added after the poll, then unpark was already called
+                // and this returns immediately.
+                LockSupport.park();
+                continue;
+            }
+
+            try {
+                if (record.logBufferText != null) {
+                    // Errors are not rate limited.
+                    LogBufferManager.appendToLogBuffer(record.logBufferText);
+                    continue;
+                }
+
+                String className = getOuterClassSimpleName(record.message);
+                RateLimit rateLimit = rateLimits.get(className);
+                if (rateLimit == null) {
+                    rateLimit = new RateLimit();
+                    rateLimits.put(className, rateLimit);
+                }
+
+                if (record.timeMillis - rateLimit.windowStartMillis >= 1000) {
+                    if (rateLimit.dropped > 0) {
+                        logInternal(LogLevel.WARN, className, "Rate limited messages: " + rateLimit.dropped, null);
+                    }
+                    rateLimit.windowStartMillis = record.timeMillis;
+                    rateLimit.logged = 0;
+                    rateLimit.dropped = 0;
+                }
+
+                if (rateLimit.logged < RATE_LIMIT_MESSAGES_PER_SECOND) {
+                    rateLimit.logged++;
+                    logInternal(record.logLevel, className, "[" + record.threadName + "] "
+                            + record.message.buildMessageString(), record.ex);
+                } else {
+                    rateLimit.dropped++;
+                }
+
+                final int droppedRecords = droppedRecordCount.getAndSet(0);
+                if (droppedRecords > 0) {
+                    logInternal(LogLevel.WARN, "Logger", "Too many pending log messages, dropped: "
+                            + droppedRecords, null);
+                }
+            } catch (Exception ex) {
+                // Message lambda threw an exception. Log it and keep processing.
+                Log.e(REVANCED_LOG_TAG_PREFIX + "Logger", "Failed to log message", ex);
+            } finally {
+                pendingRecordCount.decrementAndGet();
+            }
+        }
+    }
+
+    // endregion
+
     /**
      * Internal method to handle logging to Android Log and {@link LogBufferManager}.
      * Appends the log message, stack trace (if enabled), and exception (if present) to logBuffer
      * with class name but without 'revanced:' prefix.
+     * Only used by the logging thread.
+     *
+     * @param logLevel      The log level.
+     * @param className     Class name used in the log tag.
+     * @param messageString Log message.
+     * @param ex            Optional exception.
+     */
+    private static void logInternal(LogLevel logLevel, String className, String messageString,
+                                    @Nullable Throwable ex) {
+        String logText = getLogText(messageString, ex);
+
+        // Do not include "revanced:" prefix in clipboard logs.
+        LogBufferManager.appendToLogBuffer(className + ": " + logText);
+
+        logToDevice(logLevel, className, logText, ex);
+    }
+
+    /**
+     * Logs an error on the calling thread, and adds it to {@link LogBufferManager}
+     * after the messages still waiting for the logging thread.
      *
      * @param logLevel  The log level.
      * @param message   Log message object.
      * @param ex        Optional exception.
      * @param showToast If a toast is to be shown.
      */
-    private static void logInternal(LogLevel logLevel, LogMessage message, @Nullable Throwable ex, boolean showToast) {
+    private static void logError(LogLevel logLevel, LogMessage message, @Nullable Throwable ex, boolean showToast) {
         // It's very important that no Settings are used in this method,
         // as this code is used when a context is not set and thus referencing
         // a setting will crash the app.
-        String messageString = message.buildMessageString();
         String className = getOuterClassSimpleName(message);
+        String logText = getLogText(message.buildMessageString(), ex);
+        logToDevice(logLevel, className, logText, ex);
 
-        String logText = messageString;
+        // Do not include "revanced:" prefix in clipboard logs.
+        String managerToastString = className + ": " + logText;
+        offer(new LogRecord(managerToastString));
 
-        // Append exception message if present.
+        if (showToast) {
+            Utils.showToastLong(managerToastString);
+        }
+    }
+
+    /**
+     * @return The message, with the exception message appended if present.
+     */
+    private static String getLogText(String messageString, @Nullable Throwable ex) {
         if (ex != null) {
             var exceptionMessage = ex.getMessage();
             if (exceptionMessage != null) {
-                logText += "\nException: " + exceptionMessage;
+                return messageString + "\nException: " + exceptionMessage;
             }
         }
+        return messageString;
+    }
 
-        // Do not include "revanced:" prefix in clipboard logs.
-        String managerToastString = className + ": " + logText;
-        LogBufferManager.appendToLogBuffer(managerToastString);
-
+    private static void logToDevice(LogLevel logLevel, String className, String logText, @Nullable Throwable ex) {
         String logTag = REVANCED_LOG_TAG_PREFIX + className;
         switch (logLevel) {
             case DEBUG:
@@ -125,10 +352,6 @@ public class Logger {
                 else Log.wtf(logTag, logText, ex);
                 break;
         }
-
-        if (showToast) {
-            Utils.showToastLong(managerToastString);
-        }
     }
 
     private static boolean shouldLogDebug() {
@@ -158,10 +381,14 @@ public class Logger {
      * Whenever possible, the log string should be constructed entirely inside
      * {@link LogMessage#buildMessageString()} so the performance cost of
      * building strings is paid only if {@link BaseSettings#DEBUG} is enabled.
+     * <p>
+     * The message is built later on the logging thread,
+     * so it must not use objects that can change after this call.
+     * This applies to all calls of this method, {@link #printInfo(LogMessage)} and {@link #printWarn(LogMessage)}.
      */
     public static void printDebug(LogMessage message, @Nullable Exception ex) {
         if (shouldLogDebug()) {
-            logInternal(LogLevel.DEBUG, message, ex, false);
+            enqueue(LogLevel.DEBUG, message, ex);
         }
     }
 
@@ -174,9 +401,12 @@ public class Logger {
 
     /**
      * Logs information messages using the outer class name of the code calling this method.
+     * <p>
+     * The message is built later on the logging thread,
+     * so it must not use objects that can change after this call.
      */
     public static void printInfo(LogMessage message, @Nullable Exception ex) {
-        logInternal(LogLevel.INFO, message, ex, false);
+        enqueue(LogLevel.INFO, message, ex);
     }
 
     /**
@@ -188,9 +418,12 @@ public class Logger {
 
     /**
      * Logs warning messages using the outer class name of the code calling this method.
+     * <p>
+     * The message is built later on the logging thread,
+     * so it must not use objects that can change after this call.
      */
     public static void printWarn(LogMessage message, @Nullable Exception ex) {
-        logInternal(LogLevel.WARN, message, ex, false);
+        enqueue(LogLevel.WARN, message, ex);
     }
 
     /**
@@ -211,7 +444,7 @@ public class Logger {
      * @param ex      exception (optional)
      */
     public static void printException(LogMessage message, @Nullable Throwable ex) {
-        logInternal(LogLevel.ERROR, message, ex, shouldShowErrorToast());
+        logError(LogLevel.ERROR, message, ex, shouldShowErrorToast());
     }
 
     /**
@@ -225,6 +458,6 @@ public class Logger {
      * Logs WTF (What a Terrible Failure) messages using the outer class name of the code calling this method.
      */
     public static void printWTF(LogMessage message, @Nullable Exception ex) {
-        logInternal(LogLevel.WTF, message, ex, false);
+        logError(LogLevel.WTF, message, ex, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,380 @@
+package app.revanced.extension.shared.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Index of the string fields of a protobuf buffer, such as the Litho buffer of a component.
+ * <p>
+ * The buffer is walked once, on first use, without copying. Each length delimited field is recorded
+ * as a string if the bytes are printable UTF-8 text, as a message if the bytes are a valid message,
+ * or otherwise as raw bytes.
+ * The field number, offset, length and enclosing message of each field are kept in primitive arrays.
+ * <p>
+ * Searches only use the strings and raw bytes fields. This skips the numbers and field tags of the buffer,
+ * so there are fewer bytes to search and patterns cannot match the binary structure by chance.
+ * If the buffer is not a valid protobuf, then {@link #isValid()} is false
+ * and searches use the whole buffer instead.
+ * <p>
+ * Instances are not thread safe.
+ */
+public final class ProtobufIndex {
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED64 = 1;
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+    private static final int WIRE_TYPE_FIXED32 = 5;
+
+    /**
+     * Deeper messages are not indexed, to bound the time spent on unusual buffers.
+     */
+    private static final int MAXIMUM_MESSAGE_DEPTH = 64;
+
+    private static final int KIND_MESSAGE = 0;
+    private static final int KIND_STRING = 1;
+    /**
+     * Length delimited field that is neither text nor a message, such as packed numbers or text with control characters.
+     */
+    private static final int KIND_BYTES = 2;
+
+    /**
+     * Index shared by the calling thread, set only while a Litho component is filtered.
+     * Each component is searched by many filters, and the content of a buffer array can be replaced
+     * between components, so an index is never kept after filtering the component.
+     */
+    private static final ThreadLocal<ProtobufIndex> sharedIndex = new ThreadLocal<>();
+
+    private final byte[] buffer;
+    private boolean indexed;
+    private boolean valid;
+
+    // Field number, kind, offset, length and enclosing field of each indexed field.
+    // Allocated when indexed, as many indexes are never used.
+    private int size;
+    private int[] fieldNumbers;
+    private int[] kinds;
+    private int[] offsets;
+    private int[] lengths;
+    private int[] parents;
+
+    private ProtobufIndex(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * @return The index shared by the calling thread if it's for the same buffer, or a new index.
+     * @see #beginShared(byte[])
+     */
+    @NonNull
+    public static ProtobufIndex of(@NonNull byte[] buffer) {
+        ProtobufIndex index = sharedIndex.get();
+        if (index != null && index.buffer == buffer) {
+            return index;
+        }
+        return new ProtobufIndex(buffer);
+    }
+
+    /**
+     * Shares one index of the buffer with all calls of {@link #of(byte[])} by the calling thread,
+     * until {@link #endShared()}. The buffer content must not change in between.
+     */
+    public static void beginShared(@NonNull byte[] buffer) {
+        sharedIndex.set(new ProtobufIndex(buffer));
+    }
+
+    /**
+     * Stops sharing the index set by {@link #beginShared(byte[])}.
+     */
+    public static void endShared() {
+        sharedIndex.remove();
+    }
+
+    /**
+     * @return If the whole buffer is a valid protobuf message.
+     */
+    public boolean isValid() {
+        index();
+        return valid;
+    }
+
+    /**
+     * Searches the strings and raw bytes fields of the buffer, or the whole buffer if it's not a valid protobuf.
+     * Match indexes passed to callbacks are indexes of the whole buffer.
+     *
+     * @return If any pattern matched, and it's callback halted searching.
+     */
+    public boolean matches(@NonNull ByteTrieSearch search, @Nullable Object callbackParameter) {
+        if (!isValid()) {
+            return search.matches(buffer, 0, buffer.length, callbackParameter);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] != KIND_MESSAGE
+                    && search.matches(buffer, offsets[i], offsets[i] + lengths[i], callbackParameter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first occurrence of a pattern in the strings and raw bytes fields of the buffer,
+     * or in the whole buffer if it's not a valid protobuf.
+     *
+     * @param failure KMP failure function of the pattern.
+     * @return The index in the whole buffer, or -1 if not found.
+     */
+    public int indexOf(@NonNull byte[] pattern, @NonNull int[] failure) {
+        if (!isValid()) {
+            return indexOf(buffer, 0, buffer.length, pattern, failure);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] != KIND_MESSAGE && lengths[i] >= pattern.length) {
+                final int index = indexOf(buffer, offsets[i], offsets[i] + lengths[i], pattern, failure);
+                if (index >= 0) return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the pattern in a range of the data, using the KMP matching algorithm.
+     */
+    public static int indexOf(byte[] data, int start, int end, byte[] pattern, int[] failure) {
+        // Modified implementation from https://stackoverflow.com/a/1507813
+        final int patternLength = pattern.length;
+        for (int i = start, j = 0; i < end; i++) {
+            while (j > 0 && pattern[j] != data[i]) {
+                j = failure[j - 1];
+            }
+            if (pattern[j] == data[i]) {
+                j++;
+            }
+            if (j == patternLength) {
+                return i - patternLength + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The number of string fields, or zero if the buffer is not a valid protobuf.
+     */
+    public int getStringCount() {
+        index();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == KIND_STRING) count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return All strings of the buffer, in the order of the buffer.
+     * Empty if the buffer is not a valid protobuf.
+     */
+    @NonNull
+    public String[] getStrings() {
+        String[] strings = new String[getStringCount()];
+        for (int i = 0, stringIndex = 0; i < size; i++) {
+            if (kinds[i] == KIND_STRING) {
+                strings[stringIndex++] = decode(i);
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * @param fieldPath Field numbers from the outermost message to the string field.
+     * @return The first string with the field path, or null if there is none.
+     */
+    @Nullable
+    public String getString(int... fieldPath) {
+        index();
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == KIND_STRING && hasFieldPath(i, fieldPath)) {
+                return decode(i);
+            }
+        }
+        return null;
+    }
+
+    private boolean hasFieldPath(int entry, int[] fieldPath) {
+        for (int i = fieldPath.length - 1; i >= 0; i--) {
+            if (entry < 0 || fieldNumbers[entry] != fieldPath[i]) return false;
+            entry = parents[entry];
+        }
+        return entry < 0;
+    }
+
+    private String decode(int entry) {
+        return new String(buffer, offsets[entry], lengths[entry], StandardCharsets.UTF_8);
+    }
+
+    private void index() {
+        if (indexed) return;
+        indexed = true;
+
+        fieldNumbers = new int[32];
+        kinds = new int[32];
+        offsets = new int[32];
+        lengths = new int[32];
+        parents = new int[32];
+
+        valid = indexMessage(0, buffer.length, -1, 0);
+        if (!valid) {
+            size = 0;
+        }
+    }
+
+    /**
+     * Indexes the fields of a message.
+     *
+     * @return If the range is a valid message. If not, the fields added by this call are removed.
+     */
+    private boolean indexMessage(int start, final int end, final int parent, final int depth) {
+        final int sizeBefore = size;
+        int position = start;
+
+        while (position < end) {
+            final long tag = readVarint(position, end);
+            if (tag < 0) return invalid(sizeBefore);
+            position += (int) (tag >>> 56);
+
+            final int fieldNumber = (int) ((tag & 0x00FFFFFFFFFFFFFFL) >>> 3);
+            if (fieldNumber == 0) return invalid(sizeBefore);
+
+            switch ((int) (tag & 0x7)) {
+                case WIRE_TYPE_VARINT -> {
+                    final int varintLength = getVarintLength(position, end);
+                    if (varintLength < 0) return invalid(sizeBefore);
+                    position += varintLength;
+                }
+                case WIRE_TYPE_FIXED64 -> position += 8;
+                case WIRE_TYPE_FIXED32 -> position += 4;
+                case WIRE_TYPE_LENGTH_DELIMITED -> {
+                    final long lengthVarint = readVarint(position, end);
+                    if (lengthVarint < 0) return invalid(sizeBefore);
+                    position += (int) (lengthVarint >>> 56);
+
+                    final long length = lengthVarint & 0x00FFFFFFFFFFFFFFL;
+                    if (length > end - position) return invalid(sizeBefore);
+
+                    indexLengthDelimited(fieldNumber, position, (int) length, parent, depth);
+                    position += (int) length;
+                }
+                // Groups are deprecated and not used.
+                default -> {
+                    return invalid(sizeBefore);
+                }
+            }
+        }
+
+        return position == end || invalid(sizeBefore);
+    }
+
+    private void indexLengthDelimited(int fieldNumber, int offset, int length, int parent, int depth) {
+        if (length == 0) return;
+
+        if (isText(offset, offset + length)) {
+            add(fieldNumber, KIND_STRING, offset, length, parent);
+            return;
+        }
+
+        if (depth < MAXIMUM_MESSAGE_DEPTH) {
+            final int message = add(fieldNumber, KIND_MESSAGE, offset, length, parent);
+            if (indexMessage(offset, offset + length, message, depth + 1)) {
+                return;
+            }
+            size = message;
+        }
+
+        // Other binary data, such as packed numbers or text with control characters.
+        // Searched as is, so patterns in it are still found.
+        add(fieldNumber, KIND_BYTES, offset, length, parent);
+    }
+
+    private boolean invalid(int sizeBefore) {
+        size = sizeBefore;
+        return false;
+    }
+
+    /**
+     * Reads a tag or length, which are at most 5 bytes.
+     *
+     * @return The value in the lower 56 bits and the number of bytes read in the upper 8 bits,
+     * or -1 if the varint is not valid.
+     */
+    private long readVarint(int position, int end) {
+        long value = 0;
+        for (int shift = 0, i = position; i < end && shift < 35; shift += 7, i++) {
+            final int b = buffer[i];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value | ((long) (i - position + 1) << 56);
+            }
+        }
+        // Truncated, or larger than any length or field number.
+        return -1;
+    }
+
+    /**
+     * @return The number of bytes of a varint value, which is at most 10 bytes, or -1 if it's not valid.
+     */
+    private int getVarintLength(int position, int end) {
+        for (int i = position, maximumEnd = Math.min(end, position + 10); i < maximumEnd; i++) {
+            if (buffer[i] >= 0) {
+                return i - position + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return If the range is valid UTF-8 without control characters, other than whitespace.
+     */
+    private boolean isText(int start, int end) {
+        int i = start;
+        while (i < end) {
+            final int b = buffer[i] & 0xFF;
+            if (b < 0x80) {
+                if ((b < 0x20 && b != '\n' && b != '\r' && b != '\t') || b == 0x7F) return false;
+                i++;
+                continue;
+            }
+
+            final int continuationBytes;
+            if (b >= 0xC2 && b <= 0xDF) continuationBytes = 1;
+            else if (b >= 0xE0 && b <= 0xEF) continuationBytes = 2;
+            else if (b >= 0xF0 && b <= 0xF4) continuationBytes = 3;
+            else return false;
+
+            if (i + continuationBytes >= end) return false;
+            for (int j = 1; j <= continuationBytes; j++) {
+                if ((buffer[i + j] & 0xC0) != 0x80) return false;
+            }
+            i += continuationBytes + 1;
+        }
+        return true;
+    }
+
+    private int add(int fieldNumber, int kind, int offset, int length, int parent) {
+        if (size == fieldNumbers.length) {
+            final int capacity = size * 2;
+            fieldNumbers = Arrays.copyOf(fieldNumbers, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+        }
+        fieldNumbers[size] = fieldNumber;
+        kinds[size] = kind;
+        offsets[size] = offset;
+        lengths[size] = length;
+        parents[size] = parent;
+        return size++;
+    }
+}
@@ -13,6 +13,9 @@ import androidx.annotation.Nullable;
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import app.revanced.extension.shared.settings.Setting;
 import kotlin.io.TextStreamsKt;
@@ -35,10 +38,22 @@ public class ResourceUtils extends Utils {
         return getIdentifier(str, resourceType, mContext);
     }
 
+    /**
+     * Identifiers are cached, including resources that do not exist,
+     * because {@link android.content.res.Resources#getIdentifier(String, String, String)}
+     * does a slow lookup by name and identifiers do not change while the app is running.
+     */
     public static int getIdentifier(@NonNull String str, @NonNull ResourceType resourceType,
                                     @NonNull Context context) {
+        Integer cachedIdentifier = resourceType.identifiers.get(str);
+        if (cachedIdentifier != null) {
+            return cachedIdentifier;
+        }
+
         try {
-            return context.getResources().getIdentifier(str, resourceType.getType(), context.getPackageName());
+            final int identifier = context.getResources().getIdentifier(str, resourceType.getType(), context.getPackageName());
+            resourceType.identifiers.put(str, identifier);
+            return identifier;
         } catch (Exception ex) {
             handleException(str, resourceType);
         }
@@ -240,7 +255,19 @@ public class ResourceUtils extends Utils {
         STYLE("style"),
         XML("xml");
 
+        private static final Map<String, ResourceType> typeNames = new HashMap<>();
+
+        static {
+            for (ResourceType resourceType : values()) {
+                typeNames.put(resourceType.type, resourceType);
+            }
+        }
+
         private final String type;
+        /**
+         * Resource name to identifier, or zero if the resource does not exist.
+         */
+        private final Map<String, Integer> identifiers = new ConcurrentHashMap<>();
 
         ResourceType(String type) {
             this.type = type;
@@ -249,5 +276,13 @@ public class ResourceUtils extends Utils {
         public final String getType() {
             return type;
         }
+
+        /**
+         * @return The resource type of the type name, such as 'drawable', or null if it is not one of these types.
+         */
+        @Nullable
+        public static ResourceType fromType(@Nullable String type) {
+            return type == null ? null : typeNames.get(type);
+        }
     }
 }
@@ -78,7 +78,7 @@ public class StringRef extends Utils {
             Context context = mActivity != null ? mActivity : getContext();
 
             if (context != null) {
-                return context.getResources().getIdentifier(resName, "string", context.getPackageName());
+                return ResourceUtils.getIdentifier(resName, ResourceUtils.ResourceType.STRING, context);
             }
         } catch (Exception ex) {
             Logger.printException(() -> "Error getting resource ID for: " + resName, ex);
@@ -128,8 +128,7 @@ public class StringRef extends Utils {
                     resources = context.getResources();
                 }
                 if (resources != null) {
-                    final String packageName = context.getPackageName();
-                    final int identifier = resources.getIdentifier(value, "string", packageName);
+                    final int identifier = ResourceUtils.getIdentifier(value, ResourceUtils.ResourceType.STRING, context);
                     if (identifier == 0)
                         Logger.printException(() -> "Resource not found: " + value);
                     else
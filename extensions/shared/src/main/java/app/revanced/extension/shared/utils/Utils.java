@@ -1206,10 +1206,16 @@ public class Utils {
     }
 
     /**
+     * Uses the identifier cache of {@link ResourceUtils} for the types it lists.
+     *
      * @return zero, if the resource is not found
      */
     @SuppressLint("DiscouragedApi")
     public static int getResourceIdentifier(@NonNull Context context, @NonNull String resourceIdentifierName, @NonNull String type) {
+        ResourceUtils.ResourceType resourceType = ResourceUtils.ResourceType.fromType(type);
+        if (resourceType != null) {
+            return ResourceUtils.getIdentifier(resourceIdentifierName, resourceType, context);
+        }
         return context.getResources().getIdentifier(resourceIdentifierName, type, context.getPackageName());
     }
 
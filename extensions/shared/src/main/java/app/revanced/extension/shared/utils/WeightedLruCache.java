@@ -0,0 +1,138 @@
+package app.revanced.extension.shared.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread safe least recently used cache bounded by the total weight of its values,
+ * instead of by the number of entries.
+ * <p>
+ * The most recently written entry is never evicted, so a single value heavier than
+ * the maximum weight is still kept until another value is added.
+ */
+public final class WeightedLruCache<K, V> {
+
+    public interface Weigher<K, V> {
+        /**
+         * @return The weight of the entry. Must not be negative and must not change while cached.
+         */
+        int weigh(@NonNull K key, @NonNull V value);
+    }
+
+    public interface EvictionListener<K, V> {
+        /**
+         * Called after an entry was evicted to make room for other entries.
+         * Not called for entries that are explicitly removed or replaced.
+         * Called outside the cache lock, on the thread that added the entry causing the eviction.
+         */
+        void onEvicted(@NonNull K key, @NonNull V value);
+    }
+
+    private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final Weigher<K, V> weigher;
+    @Nullable
+    private final EvictionListener<K, V> evictionListener;
+    private long weight;
+
+    /**
+     * Cache limited by the number of entries.
+     */
+    public WeightedLruCache(int maxEntries) {
+        this(maxEntries, (key, value) -> 1, null);
+    }
+
+    public WeightedLruCache(long maxWeight, @NonNull Weigher<K, V> weigher) {
+        this(maxWeight, weigher, null);
+    }
+
+    public WeightedLruCache(long maxWeight, @NonNull Weigher<K, V> weigher,
+                            @Nullable EvictionListener<K, V> evictionListener) {
+        if (maxWeight <= 0) throw new IllegalArgumentException("maxWeight: " + maxWeight);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+    }
+
+    @Nullable
+    public synchronized V get(@NonNull K key) {
+        return map.get(key);
+    }
+
+    @NonNull
+    public synchronized V getOrDefault(@NonNull K key, @NonNull V defaultValue) {
+        V value = map.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public synchronized boolean containsKey(@NonNull K key) {
+        return map.containsKey(key);
+    }
+
+    /**
+     * @return The previous value for the key, or null if none existed.
+     */
+    @Nullable
+    public V put(@NonNull K key, @NonNull V value) {
+        V previous;
+        List<Map.Entry<K, V>> evicted = null;
+
+        synchronized (this) {
+            previous = map.put(key, value);
+            if (previous != null) {
+                weight -= weigher.weigh(key, previous);
+            }
+            weight += weigher.weigh(key, value);
+
+            Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+            while (weight > maxWeight && map.size() > 1) {
+                Map.Entry<K, V> eldest = iterator.next();
+                iterator.remove();
+                weight -= weigher.weigh(eldest.getKey(), eldest.getValue());
+                if (evictionListener != null) {
+                    if (evicted == null) evicted = new ArrayList<>();
+                    evicted.add(eldest);
+                }
+            }
+        }
+
+        if (evicted != null) {
+            for (Map.Entry<K, V> entry : evicted) {
+                evictionListener.onEvicted(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return previous;
+    }
+
+    @Nullable
+    public synchronized V remove(@NonNull K key) {
+        V previous = map.remove(key);
+        if (previous != null) {
+            weight -= weigher.weigh(key, previous);
+        }
+        return previous;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * @return The current total weight of all entries.
+     */
+    public synchronized long weight() {
+        return weight;
+    }
+}
@@ -8,6 +8,7 @@ import static app.revanced.extension.youtube.settings.Settings.ALT_THUMBNAIL_SEA
 import static app.revanced.extension.youtube.settings.Settings.ALT_THUMBNAIL_SUBSCRIPTIONS;
 import static app.revanced.extension.youtube.shared.NavigationBar.NavigationButton;
 
+import android.content.Context;
 import android.net.Uri;
 
 import androidx.annotation.GuardedBy;
@@ -18,14 +19,25 @@ import org.chromium.net.UrlRequest;
 import org.chromium.net.UrlResponseInfo;
 import org.chromium.net.impl.CronetUrlRequest;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
 
 import app.revanced.extension.shared.settings.Setting;
@@ -523,8 +535,11 @@ public final class AlternativeThumbnailsPatch {
     }
 
     /**
-     * Uses HTTP HEAD requests to verify and keep track of which thumbnail sizes
+     * Uses ranged HTTP GET requests to verify and keep track of which thumbnail sizes
      * are available and not available.
+     * <p>
+     * Verification results are saved to a compact index file, so thumbnails
+     * shown before an app restart do not need to be verified again.
      */
     private static class VerifiedQualities {
         /**
@@ -534,21 +549,54 @@ public final class AlternativeThumbnailsPatch {
          */
         private static final long NOT_AVAILABLE_TIMEOUT_MILLISECONDS = 10 * 60 * 1000; // 10 minutes.
 
+        /**
+         * How long a saved verification is used, before it's dropped from the index.
+         */
+        private static final long INDEX_ENTRY_MAX_AGE_MILLISECONDS = 7 * 24 * 60 * 60 * 1000L; // 7 days.
+
+        /**
+         * How long after a verification change the index is saved.
+         * Changes usually arrive in bursts while scrolling a feed, and are saved together.
+         */
+        private static final long INDEX_SAVE_DELAY_MILLISECONDS = 10 * 1000; // 10 seconds.
+
+        private static final String INDEX_FILE_NAME = "revanced_alt_thumbnail_verified.bin";
+        private static final int INDEX_FILE_MAGIC = 0x52564154; // "RVAT"
+        private static final int INDEX_FILE_VERSION = 1;
+
+        /**
+         * Maximum number of verification requests made at the same time to a single host.
+         * Feeds can request dozens of thumbnails at once, and all are hosted on the same domain.
+         */
+        private static final int MAX_CONCURRENT_VERIFICATIONS_PER_HOST = 4;
+
+        private static final int CACHE_LIMIT = 1000;
+
         /**
          * Cache used to verify if an alternative thumbnails exists for a given video id.
          */
         @GuardedBy("itself")
         private static final Map<String, VerifiedQualities> altVideoIdLookup = new LinkedHashMap<>(100) {
-            private static final int CACHE_LIMIT = 1000;
-
             @Override
             protected boolean removeEldestEntry(Entry eldest) {
                 return size() > CACHE_LIMIT; // Evict the oldest entry if over the cache limit.
             }
         };
 
+        @GuardedBy("altVideoIdLookup")
+        private static boolean indexLoaded;
+
+        private static final AtomicBoolean indexSaveScheduled = new AtomicBoolean();
+
+        private static final Map<String, Semaphore> hostVerificationPermits = new ConcurrentHashMap<>();
+
         private static VerifiedQualities getVerifiedQualities(@NonNull String videoId, boolean returnNullIfDoesNotExist) {
             synchronized (altVideoIdLookup) {
+                if (!indexLoaded) {
+                    indexLoaded = true;
+                    loadIndex();
+                }
+
                 VerifiedQualities verified = altVideoIdLookup.get(videoId);
                 if (verified == null) {
                     if (returnNullIfDoesNotExist) {
@@ -574,22 +622,180 @@ public final class AlternativeThumbnailsPatch {
             verified.setQualityVerified(videoId, quality, false);
         }
 
+        @Nullable
+        private static File getIndexFile() {
+            Context context = Utils.getContext();
+            return context == null ? null : new File(context.getCacheDir(), INDEX_FILE_NAME);
+        }
+
+        /**
+         * Loads the saved index into {@link #altVideoIdLookup}.
+         * The index is only a few tens of kilobytes, and is read once on the first thumbnail lookup.
+         */
+        @GuardedBy("altVideoIdLookup")
+        private static void loadIndex() {
+            File file = getIndexFile();
+            if (file == null || !file.isFile()) return;
+
+            final long start = System.currentTimeMillis();
+            final ThumbnailQuality[] qualities = ThumbnailQuality.values();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (in.readInt() != INDEX_FILE_MAGIC || in.readUnsignedByte() != INDEX_FILE_VERSION) {
+                    Logger.printDebug(() -> "Ignoring unknown thumbnail verification index");
+                    return;
+                }
+
+                final int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    String videoId = in.readUTF();
+                    final int highest = in.readUnsignedByte();
+                    final int lowest = in.readUnsignedByte();
+                    final long timeToReVerify = in.readLong();
+                    final long lastVerified = in.readLong();
+
+                    if (start - lastVerified > INDEX_ENTRY_MAX_AGE_MILLISECONDS
+                            || highest > qualities.length || lowest > qualities.length) {
+                        continue;
+                    }
+
+                    VerifiedQualities verified = new VerifiedQualities();
+                    verified.highestQualityVerified = highest > 0 ? qualities[highest - 1] : null;
+                    verified.lowestQualityNotAvailable = lowest > 0 ? qualities[lowest - 1] : null;
+                    verified.timeToReVerifyLowestQuality = timeToReVerify;
+                    verified.lastVerifiedTime = lastVerified;
+                    altVideoIdLookup.put(videoId, verified);
+                }
+
+                final int loadedCount = altVideoIdLookup.size();
+                final long elapsedMillis = System.currentTimeMillis() - start;
+                Logger.printDebug(() -> "Loaded " + loadedCount + " thumbnail verifications in " + elapsedMillis + "ms");
+            } catch (IOException ex) {
+                Logger.printInfo(() -> "Could not load thumbnail verification index", ex);
+                altVideoIdLookup.clear();
+            }
+        }
+
+        private static void scheduleIndexSave() {
+            if (indexSaveScheduled.compareAndSet(false, true)) {
+                Utils.runOnMainThreadDelayed(() -> Utils.runOnBackgroundThread(() -> {
+                    indexSaveScheduled.set(false);
+                    saveIndex();
+                }), INDEX_SAVE_DELAY_MILLISECONDS);
+            }
+        }
+
+        private static void saveIndex() {
+            File file = getIndexFile();
+            if (file == null) return;
+
+            final String[] videoIds;
+            final VerifiedQualities[] entries;
+            synchronized (altVideoIdLookup) {
+                videoIds = altVideoIdLookup.keySet().toArray(new String[0]);
+                entries = altVideoIdLookup.values().toArray(new VerifiedQualities[0]);
+            }
+
+            // Write to a temporary file, so a partially written index is never loaded.
+            File tempFile = new File(file.getPath() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(INDEX_FILE_MAGIC);
+                out.writeByte(INDEX_FILE_VERSION);
+                out.writeInt(entries.length);
+                for (int i = 0, length = entries.length; i < length; i++) {
+                    // Fields are read without locking, as an entry may be locked during a network request.
+                    // A slightly stale value is harmless, and is corrected on the next save.
+                    VerifiedQualities verified = entries[i];
+                    ThumbnailQuality highest = verified.highestQualityVerified;
+                    ThumbnailQuality lowest = verified.lowestQualityNotAvailable;
+                    out.writeUTF(videoIds[i]);
+                    out.writeByte(highest == null ? 0 : highest.ordinal() + 1);
+                    out.writeByte(lowest == null ? 0 : lowest.ordinal() + 1);
+                    out.writeLong(verified.timeToReVerifyLowestQuality);
+                    out.writeLong(verified.lastVerifiedTime);
+                }
+            } catch (IOException ex) {
+                Logger.printInfo(() -> "Could not save thumbnail verification index", ex);
+                //noinspection ResultOfMethodCallIgnored
+                tempFile.delete();
+                return;
+            }
+
+            if (!tempFile.renameTo(file)) {
+                Logger.printDebug(() -> "Could not replace thumbnail verification index");
+                //noinspection ResultOfMethodCallIgnored
+                tempFile.delete();
+                return;
+            }
+            Logger.printDebug(() -> "Saved " + entries.length + " thumbnail verifications");
+        }
+
+        /**
+         * Verify an image exists, by requesting only the first byte of the image.
+         * A HEAD request cannot be used, because the server responds with the full image size.
+         * <p>
+         * The response is fully read and closed so the connection returns to the shared
+         * keep-alive pool, and the number of verifications running at once per host is capped.
+         */
+        private static boolean fetchImageExists(@NonNull String imageUrl) throws IOException, InterruptedException {
+            URL url = new URL(imageUrl);
+            Semaphore permits = hostVerificationPermits.computeIfAbsent(url.getHost(),
+                    host -> new Semaphore(MAX_CONCURRENT_VERIFICATIONS_PER_HOST));
+            permits.acquire();
+            try {
+                final int connectionTimeoutMillis = 10000; // 10 seconds.
+                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                connection.setConnectTimeout(connectionTimeoutMillis);
+                connection.setReadTimeout(connectionTimeoutMillis);
+                connection.setRequestProperty("Range", "bytes=0-0");
+                final int responseCode = connection.getResponseCode();
+
+                InputStream body = responseCode < HttpURLConnection.HTTP_BAD_REQUEST
+                        ? connection.getInputStream()
+                        : connection.getErrorStream();
+                if (body != null) {
+                    try (body) {
+                        byte[] buffer = new byte[256];
+                        //noinspection StatementWithEmptyBody
+                        while (body.read(buffer) != -1) {
+                            // Drain, so the connection can be reused.
+                        }
+                    }
+                }
+
+                if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
+                    String contentType = connection.getContentType();
+                    return (contentType != null && contentType.startsWith("image"));
+                }
+                if (responseCode != HttpURLConnection.HTTP_NOT_FOUND) {
+                    Logger.printDebug(() -> "Unexpected response code: " + responseCode + " for url: " + imageUrl);
+                }
+                return false;
+            } finally {
+                permits.release();
+            }
+        }
+
         /**
          * Highest quality verified as existing.
          */
         @Nullable
-        private ThumbnailQuality highestQualityVerified;
+        private volatile ThumbnailQuality highestQualityVerified;
         /**
          * Lowest quality verified as not existing.
          */
         @Nullable
-        private ThumbnailQuality lowestQualityNotAvailable;
+        private volatile ThumbnailQuality lowestQualityNotAvailable;
 
         /**
          * System time, of when to invalidate {@link #lowestQualityNotAvailable}.
          * Used only if fast mode is not enabled.
          */
-        private long timeToReVerifyLowestQuality;
+        private volatile long timeToReVerifyLowestQuality;
+
+        /**
+         * System time of the last change to this entry. Used to expire saved entries.
+         */
+        private volatile long lastVerifiedTime;
 
         private synchronized void setQualityVerified(String videoId, ThumbnailQuality quality, boolean isVerified) {
             if (isVerified) {
@@ -603,10 +809,12 @@ public final class AlternativeThumbnailsPatch {
                 }
                 Logger.printDebug(() -> quality + " not available for video: " + videoId);
             }
+            lastVerifiedTime = System.currentTimeMillis();
+            scheduleIndexSave();
         }
 
         /**
-         * Verify if a video alt thumbnail exists.  Does so by making a minimal HEAD http request.
+         * Verify if a video alt thumbnail exists.  Does so by making a minimal ranged GET http request.
          */
         synchronized boolean verifyYouTubeThumbnailExists(@NonNull String videoId, @NonNull ThumbnailQuality quality,
                                                           @NonNull String imageUrl) {
@@ -633,26 +841,9 @@ public final class AlternativeThumbnailsPatch {
                 // This hooked code is running on a low priority thread, and it's slightly faster
                 // to run the url connection thru the integrations thread pool which runs at the highest priority.
                 final long start = System.currentTimeMillis();
-                imageFileFound = Utils.submitOnBackgroundThread(() -> {
-                    final int connectionTimeoutMillis = 10000; // 10 seconds.
-                    HttpURLConnection connection = (HttpURLConnection) new URL(imageUrl).openConnection();
-                    connection.setConnectTimeout(connectionTimeoutMillis);
-                    connection.setReadTimeout(connectionTimeoutMillis);
-                    connection.setRequestMethod("HEAD");
-                    // Even with a HEAD request, the response is the same size as a full GET request.
-                    // Using an empty range fixes this.
-                    connection.setRequestProperty("Range", "bytes=0-0");
-                    final int responseCode = connection.getResponseCode();
-                    if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
-                        String contentType = connection.getContentType();
-                        return (contentType != null && contentType.startsWith("image"));
-                    }
-                    if (responseCode != HttpURLConnection.HTTP_NOT_FOUND) {
-                        Logger.printDebug(() -> "Unexpected response code: " + responseCode + " for url: " + imageUrl);
-                    }
-                    return false;
-                }).get();
-                Logger.printDebug(() -> "Verification took: " + (System.currentTimeMillis() - start) + "ms for image: " + imageUrl);
+                imageFileFound = Utils.submitOnBackgroundThread(() -> fetchImageExists(imageUrl)).get();
+                final long elapsedMillis = System.currentTimeMillis() - start;
+                Logger.printDebug(() -> "Verification took: " + elapsedMillis + "ms for image: " + imageUrl);
             } catch (ExecutionException | InterruptedException ex) {
                 Logger.printInfo(() -> "Could not verify alt url: " + imageUrl, ex);
                 imageFileFound = false;
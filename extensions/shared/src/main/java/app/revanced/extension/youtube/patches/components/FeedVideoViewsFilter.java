@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 import app.revanced.extension.shared.patches.components.Filter;
 import app.revanced.extension.shared.patches.components.StringFilterGroup;
 import app.revanced.extension.shared.settings.StringSetting;
+import app.revanced.extension.shared.utils.ProtobufIndex;
 import app.revanced.extension.shared.utils.ResourceUtils;
 import app.revanced.extension.youtube.settings.Settings;
 import app.revanced.extension.youtube.shared.NavigationBar;
@@ -93,7 +94,11 @@ public final class FeedVideoViewsFilter extends Filter {
      * Hide videos based on views count
      */
     private synchronized boolean filterByViews(byte[] buffer) {
-        final String protobufString = new String(buffer);
+        // Search only the strings of the buffer, and not binary data that can look like a view count.
+        ProtobufIndex protobufIndex = ProtobufIndex.of(buffer);
+        final String[] protobufStrings = protobufIndex.isValid()
+                ? protobufIndex.getStrings()
+                : new String[]{new String(buffer)};
         final long lessThan = Settings.HIDE_VIDEO_VIEW_COUNTS_LESS_THAN.get();
         final long greaterThan = Settings.HIDE_VIDEO_VIEW_COUNTS_GREATER_THAN.get();
 
@@ -102,13 +107,15 @@ public final class FeedVideoViewsFilter extends Filter {
         }
 
         for (Pattern pattern : viewCountPatterns) {
-            final Matcher matcher = pattern.matcher(protobufString);
-            if (matcher.find()) {
-                String numString = Objects.requireNonNull(matcher.group(1));
-                double num = parseNumber(numString);
-                String multiplierKey = matcher.group(2);
-                long multiplierValue = getMultiplierValue(parts, multiplierKey);
-                return num * multiplierValue < lessThan || num * multiplierValue > greaterThan;
+            for (String protobufString : protobufStrings) {
+                final Matcher matcher = pattern.matcher(protobufString);
+                if (matcher.find()) {
+                    String numString = Objects.requireNonNull(matcher.group(1));
+                    double num = parseNumber(numString);
+                    String multiplierKey = matcher.group(2);
+                    long multiplierValue = getMultiplierValue(parts, multiplierKey);
+                    return num * multiplierValue < lessThan || num * multiplierValue > greaterThan;
+                }
             }
         }
 
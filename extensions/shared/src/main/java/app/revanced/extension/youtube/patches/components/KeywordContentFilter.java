@@ -26,6 +26,7 @@ import app.revanced.extension.shared.patches.components.Filter;
 import app.revanced.extension.shared.patches.components.StringFilterGroup;
 import app.revanced.extension.shared.utils.ByteTrieSearch;
 import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.ProtobufIndex;
 import app.revanced.extension.shared.utils.StringTrieSearch;
 import app.revanced.extension.shared.utils.TrieSearch;
 import app.revanced.extension.shared.utils.Utils;
@@ -706,7 +707,7 @@ public final class KeywordContentFilter extends Filter {
         }
 
         MutableReference<String> matchRef = new MutableReference<>();
-        if (bufferSearch.matches(buffer, matchRef)) {
+        if (ProtobufIndex.of(buffer).matches(bufferSearch, matchRef)) {
             updateStats(true, matchRef.value);
             return true;
         }
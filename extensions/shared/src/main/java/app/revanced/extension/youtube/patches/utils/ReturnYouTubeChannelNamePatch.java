@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import app.revanced.extension.shared.patches.components.ConversionContextClassifier;
 import app.revanced.extension.shared.utils.Logger;
 import app.revanced.extension.youtube.settings.Settings;
 
@@ -73,8 +74,8 @@ public class ReturnYouTubeChannelNamePatch {
             if (!REPLACE_CHANNEL_HANDLE) {
                 return charSequence;
             }
-            final String conversionContextString = conversionContext.toString();
-            if (!conversionContextString.contains("|reel_channel_bar_inner.")) {
+            if (!ConversionContextClassifier.isAnyKind(conversionContext,
+                    ConversionContextClassifier.KIND_SHORTS_CHANNEL_BAR)) {
                 return charSequence;
             }
             final String originalString = charSequence.toString();
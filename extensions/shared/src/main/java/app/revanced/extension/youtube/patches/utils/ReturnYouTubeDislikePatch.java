@@ -1,6 +1,12 @@
 package app.revanced.extension.youtube.patches.utils;
 
 import static app.revanced.extension.shared.returnyoutubedislike.ReturnYouTubeDislike.Vote;
+import static app.revanced.extension.shared.patches.components.ConversionContextClassifier.KIND_DISLIKE_BUTTON;
+import static app.revanced.extension.shared.patches.components.ConversionContextClassifier.KIND_LIKE_DISLIKE_BUTTON;
+import static app.revanced.extension.shared.patches.components.ConversionContextClassifier.KIND_LIVE_ACTION_BAR;
+import static app.revanced.extension.shared.patches.components.ConversionContextClassifier.KIND_SHORTS_DISLIKE_BUTTON;
+import static app.revanced.extension.shared.patches.components.ConversionContextClassifier.KIND_SHORTS_LIKE_BUTTON;
+import static app.revanced.extension.shared.patches.components.ConversionContextClassifier.KIND_VIDEO_ACTION_BAR;
 import static app.revanced.extension.youtube.utils.ExtendedUtils.isSpoofingToLessThan;
 
 import android.graphics.Rect;
@@ -23,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import app.revanced.extension.shared.patches.components.ConversionContextClassifier;
 import app.revanced.extension.shared.returnyoutubedislike.requests.ReturnYouTubeDislikeApi;
 import app.revanced.extension.shared.utils.Logger;
 import app.revanced.extension.shared.utils.Utils;
@@ -151,13 +158,13 @@ public class ReturnYouTubeDislikePatch {
                 return original;
             }
 
-            String conversionContextString = conversionContext.toString();
+            final int kinds = ConversionContextClassifier.getKinds(conversionContext);
 
-            if (isRollingNumber && !conversionContextString.contains("video_action_bar.")) {
+            if (isRollingNumber && (kinds & KIND_VIDEO_ACTION_BAR) == 0) {
                 return original;
             }
 
-            if (conversionContextString.contains("segmented_like_dislike_button.")) {
+            if ((kinds & KIND_LIKE_DISLIKE_BUTTON) != 0) {
                 // Regular video.
                 ReturnYouTubeDislike videoData = currentVideoData;
                 if (videoData == null) {
@@ -174,15 +181,11 @@ public class ReturnYouTubeDislikePatch {
                 return original; // No need to check for Shorts in the context.
             }
 
-            if (Utils.containsAny(conversionContextString,
-                    "|shorts_dislike_button.", "|reel_dislike_button."
-            )) {
+            if ((kinds & KIND_SHORTS_DISLIKE_BUTTON) != 0) {
                 return getShortsSpan(original, true);
             }
 
-            if (Utils.containsAny(conversionContextString,
-                    "|shorts_like_button.", "|reel_like_button."
-            )) {
+            if ((kinds & KIND_SHORTS_LIKE_BUTTON) != 0) {
                 if (!Utils.containsNumber(original)) {
                     Logger.printDebug(() -> "Replacing hidden likes count");
                     return getShortsSpan(original, false);
@@ -214,7 +217,6 @@ public class ReturnYouTubeDislikePatch {
     public static CharSequence onCharSequenceLoaded(@NonNull Object conversionContext,
                                                     @NonNull CharSequence original) {
         try {
-            String conversionContextString = conversionContext.toString();
             if (!Settings.RYD_ENABLED.get()) {
                 return original;
             }
@@ -222,9 +224,9 @@ public class ReturnYouTubeDislikePatch {
                 return original;
             }
 
+            final int kinds = ConversionContextClassifier.getKinds(conversionContext);
             final boolean fetchDislikeLiveStream =
-                    conversionContextString.contains("immersive_live_video_action_bar.")
-                            && conversionContextString.contains("|dislike_button.");
+                    (kinds & KIND_LIVE_ACTION_BAR) != 0 && (kinds & KIND_DISLIKE_BUTTON) != 0;
 
             if (!fetchDislikeLiveStream) {
                 return original;
@@ -817,19 +817,21 @@ public class Settings extends BaseSettings {
         SharedPrefCategory ytPrefs = new SharedPrefCategory("youtube");
         SharedPrefCategory rydPrefs = new SharedPrefCategory("ryd");
         SharedPrefCategory sbPrefs = new SharedPrefCategory("sponsor-block");
-        for (Setting<?> setting : Setting.allLoadedSettings()) {
-            String key = setting.key;
-            if (setting.key.startsWith("sb_")) {
-                if (sbCategories.contains(setting)) {
-                    key = key.substring(3); // Remove the "sb_" prefix, as old categories are saved without it.
+        SharedPrefCategory.batchEdit(() -> {
+            for (Setting<?> setting : Setting.allLoadedSettings()) {
+                String key = setting.key;
+                if (setting.key.startsWith("sb_")) {
+                    if (sbCategories.contains(setting)) {
+                        key = key.substring(3); // Remove the "sb_" prefix, as old categories are saved without it.
+                    }
+                    migrateFromOldPreferences(sbPrefs, setting, key);
+                } else if (setting.key.startsWith("ryd_")) {
+                    migrateFromOldPreferences(rydPrefs, setting, key);
+                } else {
+                    migrateFromOldPreferences(ytPrefs, setting, key);
                 }
-                migrateFromOldPreferences(sbPrefs, setting, key);
-            } else if (setting.key.startsWith("ryd_")) {
-                migrateFromOldPreferences(rydPrefs, setting, key);
-            } else {
-                migrateFromOldPreferences(ytPrefs, setting, key);
             }
-        }
+        });
 
         // Migrate old saved data. Must be done here before the settings can be used by any other code.
         applyOldSbOpacityToColor(SB_CATEGORY_SPONSOR_COLOR, DEPRECATED_SB_CATEGORY_SPONSOR_OPACITY);
@@ -85,8 +85,8 @@ public class YouTubePreferenceFragment extends ToolbarPreferenceFragment {
         super.initialize();
 
         try {
+            // Already sorted by super.initialize().
             preferenceScreen = getPreferenceScreen();
-            Utils.sortPreferenceGroups(preferenceScreen);
             setPreferenceScreenToolbar(preferenceScreen);
 
             // Import / Export
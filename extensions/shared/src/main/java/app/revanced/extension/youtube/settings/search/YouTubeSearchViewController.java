@@ -75,5 +75,10 @@ public class YouTubeSearchViewController extends BaseSearchViewController {
         public Activity getActivity() {
             return fragment.getActivity();
         }
+
+        @Override
+        public void syncPreferenceScreensContaining(Preference preference) {
+            fragment.syncPreferenceScreensContaining(preference);
+        }
     }
 }
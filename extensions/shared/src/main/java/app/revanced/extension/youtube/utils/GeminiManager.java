@@ -10,7 +10,6 @@ import android.os.Looper;
 import android.text.SpannableStringBuilder;
 import android.text.Spanned;
 import android.text.TextUtils;
-import android.util.Pair;
 import android.view.View;
 import android.view.Window;
 import android.view.WindowManager;
@@ -20,6 +19,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import app.revanced.extension.shared.settings.AppLanguage;
 import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.WeightedLruCache;
 import app.revanced.extension.youtube.settings.Settings;
 import app.revanced.extension.youtube.shared.VideoInformation;
 import org.jetbrains.annotations.NotNull;
@@ -49,7 +49,9 @@ import static app.revanced.extension.shared.utils.Utils.showToastShort;
  * Handles UI display (progress dialogs, results, subtitle overlay), caching, and state management.
  * This class is designed as a singleton to maintain a consistent state across the application.
  * <p>
- * It supports simultaneous operations and persists results for all videos until the app is restarted.
+ * It supports simultaneous operations and keeps results until the app is restarted.
+ * Results are held in caches bounded by character count, and transcripts evicted from memory
+ * are spilled to a {@link TranscriptDiskCache} instead of being discarded.
  */
 @SuppressWarnings("RegExpRedundantEscape")
 public final class GeminiManager {
@@ -67,15 +69,48 @@ public final class GeminiManager {
     private static final Pattern VIDEO_ID_PATTERN = Pattern.compile("(?<=v=|/)([0-9A-Za-z_-]{11})(?![0-9A-Za-z_-])");
 
     /**
-     * Interval for updating subtitles in milliseconds.
+     * Shortest delay between subtitle updates, in milliseconds.
+     * Prevents busy rescheduling while the reported video time lags behind a cue transition.
      */
-    private static final long SUBTITLE_UPDATE_INTERVAL_MS = 250;
+    private static final long SUBTITLE_MIN_UPDATE_INTERVAL_MS = 50;
+
+    /**
+     * Longest delay between subtitle updates, in milliseconds.
+     * Updates are armed for the next cue transition, but this bounds how long a seek or pause goes unnoticed.
+     */
+    private static final long SUBTITLE_RESYNC_INTERVAL_MS = 500;
+
+    /**
+     * Maximum characters of a streamed transcription shown in the progress dialog.
+     * Only the most recent text is shown, so the dialog stays cheap to update for long videos.
+     */
+    private static final int STREAMING_TRANSCRIPTION_PREVIEW_CHARS = 2000;
 
     /**
      * Placeholder text for empty subtitles.
      */
     private static final String EMPTY_SUBTITLE_PLACEHOLDER = "...";
 
+    /**
+     * Maximum characters of summaries kept in memory.
+     */
+    private static final int MAX_SUMMARY_CACHE_CHARS = 256 * 1024;
+
+    /**
+     * Maximum weight of parsed transcriptions kept in memory, see {@link SubtitleTrack#weight()}.
+     */
+    private static final int MAX_TRANSCRIPTION_CACHE_CHARS = 512 * 1024;
+
+    /**
+     * Maximum characters of raw transcriptions kept in memory.
+     */
+    private static final int MAX_RAW_TRANSCRIPTION_CACHE_CHARS = 512 * 1024;
+
+    /**
+     * Maximum number of videos with cached metadata or operation times.
+     */
+    private static final int MAX_VIDEO_ENTRIES = 100;
+
     /**
      * Key for using app language in Yandex settings.
      */
@@ -175,6 +210,29 @@ public final class GeminiManager {
     @Nullable
     private String baseLoadingMessage;
 
+    /**
+     * Text streamed so far for the current operation, shown below the progress message.
+     */
+    @Nullable
+    private CharSequence streamingPreview;
+
+    /**
+     * Complete text streamed so far for the current Gemini transcription.
+     */
+    @Nullable
+    private String streamingTranscription;
+
+    /**
+     * Cues parsed so far from {@link #streamingTranscription}.
+     */
+    @Nullable
+    private SubtitleTrack.Builder streamingTrackBuilder;
+
+    /**
+     * Length of the streamed transcription text already parsed into {@link #streamingTrackBuilder}.
+     */
+    private int streamingParsedLength;
+
     /**
      * Flag indicating if waiting for Yandex retry.
      */
@@ -206,35 +264,49 @@ public final class GeminiManager {
     @Nullable
     private volatile String intermediateLanguageCode = null;
 
+    /**
+     * Disk tier for transcripts evicted from {@link #transcriptionCache} and {@link #rawTranscriptionCache}.
+     */
+    private final TranscriptDiskCache transcriptDiskCache = new TranscriptDiskCache();
+
     /**
      * Cache for video summaries.
      */
-    private final Map<String, String> summaryCache = new ConcurrentHashMap<>();
+    private final WeightedLruCache<String, String> summaryCache =
+            new WeightedLruCache<>(MAX_SUMMARY_CACHE_CHARS, (key, value) -> value.length());
 
     /**
      * Cache for summary times.
      */
-    private final Map<String, Integer> summaryTimeCache = new ConcurrentHashMap<>();
+    private final WeightedLruCache<String, Integer> summaryTimeCache = new WeightedLruCache<>(MAX_VIDEO_ENTRIES);
 
     /**
      * Cache for parsed transcriptions.
      */
-    private final Map<String, TreeMap<Long, Pair<Long, String>>> transcriptionCache = new ConcurrentHashMap<>();
+    private final WeightedLruCache<String, SubtitleTrack> transcriptionCache = new WeightedLruCache<>(
+            MAX_TRANSCRIPTION_CACHE_CHARS,
+            (key, value) -> value.weight(),
+            transcriptDiskCache::spillTrack
+    );
 
     /**
      * Cache for raw transcriptions.
      */
-    private final Map<String, String> rawTranscriptionCache = new ConcurrentHashMap<>();
+    private final WeightedLruCache<String, String> rawTranscriptionCache = new WeightedLruCache<>(
+            MAX_RAW_TRANSCRIPTION_CACHE_CHARS,
+            (key, value) -> value.length(),
+            transcriptDiskCache::spillRaw
+    );
 
     /**
      * Cache for transcription times.
      */
-    private final Map<String, Integer> transcriptionTimeCache = new ConcurrentHashMap<>();
+    private final WeightedLruCache<String, Integer> transcriptionTimeCache = new WeightedLruCache<>(MAX_VIDEO_ENTRIES);
 
     /**
      * Cache for video metadata.
      */
-    private final Map<String, String> videoMetadataCache = new ConcurrentHashMap<>();
+    private final WeightedLruCache<String, String> videoMetadataCache = new WeightedLruCache<>(MAX_VIDEO_ENTRIES);
 
     /**
      * Reference to the subtitle overlay.
@@ -259,6 +331,12 @@ public final class GeminiManager {
     @Nullable
     private Runnable subtitleUpdateRunnable;
 
+    /**
+     * Timeline of the running subtitle updater, or null if the updater is not running.
+     */
+    @Nullable
+    private SubtitleTimeline subtitleTimeline;
+
     /**
      * Private constructor for the Singleton pattern.
      */
@@ -325,11 +403,11 @@ public final class GeminiManager {
             String videoId = getVideoIdFromUrl(videoUrl);
             captureVideoMetadata(videoId);
 
-            if (summaryCache.containsKey(videoId)) {
+            String cachedSummary = summaryCache.get(videoId);
+            if (cachedSummary != null) {
                 Logger.printDebug(() -> "Displaying cached summary for ID: " + videoId);
-                String result = summaryCache.get(videoId);
                 Integer time = summaryTimeCache.getOrDefault(videoId, -1);
-                showSummaryDialog(context, Objects.requireNonNull(result), Objects.requireNonNull(time), videoUrl);
+                showSummaryDialog(context, cachedSummary, time, videoUrl);
                 resetOperationStateInternal(OperationType.SUMMARIZE, false);
                 return;
             }
@@ -377,6 +455,20 @@ public final class GeminiManager {
                     activeTasks.remove(taskKey);
                     handleApiResponseInternal(context, OperationType.SUMMARIZE, videoUrl, null, error);
                 }
+
+                @Override
+                public void onPartialResult(String partialResult) {
+                    if (activeTasks.containsKey(taskKey)) {
+                        handleStreamingPartialInternal(OperationType.SUMMARIZE, videoUrl, partialResult);
+                    }
+                }
+
+                @Override
+                public void onPartialResultsDiscarded() {
+                    if (activeTasks.containsKey(taskKey)) {
+                        handleStreamingDiscardedInternal(OperationType.SUMMARIZE, videoUrl);
+                    }
+                }
             });
         });
     }
@@ -393,6 +485,14 @@ public final class GeminiManager {
      * @param videoUrl The URL of the video to transcribe. Must be a valid, non-placeholder URL.
      */
     public void startTranscription(@NonNull Context context, @NonNull final String videoUrl) {
+        startTranscription(context, videoUrl, false);
+    }
+
+    /**
+     * @param diskCacheChecked If the disk tier was already checked for this video,
+     *                         and a memory cache miss should start a new operation.
+     */
+    private void startTranscription(@NonNull Context context, @NonNull final String videoUrl, boolean diskCacheChecked) {
         ensureMainThread(() -> {
             final long videoLengthMs = VideoInformation.getVideoLength();
             final double durationSeconds = videoLengthMs > 0 ? videoLengthMs / 1000.0 : 0;
@@ -403,6 +503,17 @@ public final class GeminiManager {
             captureVideoMetadata(videoId);
 
             // region Cache check
+            if (!diskCacheChecked && !transcriptionCache.containsKey(videoId)
+                    && !rawTranscriptionCache.containsKey(videoId) && transcriptDiskCache.contains(videoId)) {
+                Logger.printDebug(() -> "Restoring spilled transcription from disk for ID: " + videoId);
+                transcriptDiskCache.restoreAsync(videoId, (track, rawTranscription) -> {
+                    if (track != null) transcriptionCache.put(videoId, track);
+                    if (rawTranscription != null) rawTranscriptionCache.put(videoId, rawTranscription);
+                    ensureMainThread(() -> startTranscription(context, videoUrl, true));
+                });
+                return;
+            }
+
             boolean cacheDisplayed = false;
             // Check for previously parsed result (could be from Yandex direct or Yandex+Gemini)
             if (transcriptionCache.containsKey(videoId)) {
@@ -414,12 +525,14 @@ public final class GeminiManager {
                 }
             }
             // Check for raw Gemini result (only relevant if Yandex was OFF last time)
-            else if (!Settings.YANDEX_TRANSCRIBE_SUBTITLES.get() && rawTranscriptionCache.containsKey(videoId)) {
-                Logger.printDebug(() -> "Displaying cached Gemini raw transcription dialog: " + videoId);
+            else if (!Settings.YANDEX_TRANSCRIBE_SUBTITLES.get()) {
                 String result = rawTranscriptionCache.get(videoId);
-                Integer time = transcriptionTimeCache.getOrDefault(videoId, -1);
-                showTranscriptionResultDialogInternal(context, Objects.requireNonNull(result), Objects.requireNonNull(time), videoUrl);
-                cacheDisplayed = true;
+                if (result != null) {
+                    Logger.printDebug(() -> "Displaying cached Gemini raw transcription dialog: " + videoId);
+                    Integer time = transcriptionTimeCache.getOrDefault(videoId, -1);
+                    showTranscriptionResultDialogInternal(context, result, time, videoUrl);
+                    cacheDisplayed = true;
+                }
             }
 
             if (cacheDisplayed) {
@@ -583,7 +696,7 @@ public final class GeminiManager {
                     }
 
                     @Override
-                    public void onFinalSuccess(TreeMap<Long, Pair<Long, String>> parsedData) {
+                    public void onFinalSuccess(SubtitleTrack parsedData) {
                         ensureMainThread(() -> {
                             if (!activeTasks.containsKey(taskKey)) {
                                 Logger.printDebug(() -> "Yandex final success ignored - task was cancelled: " + taskKey);
@@ -669,7 +782,7 @@ public final class GeminiManager {
             }
 
             try {
-                TreeMap<Long, Pair<Long, String>> finalParsedData = YandexVotUtils.parseYandexJsonSubtitles(translatedJson);
+                SubtitleTrack finalParsedData = YandexVotUtils.parseYandexJsonSubtitles(translatedJson);
 
                 if (finalParsedData == null) {
                     Logger.printException(() -> "Gemini returned unparseable JSON after translation.", null);
@@ -681,7 +794,7 @@ public final class GeminiManager {
                     return;
                 }
 
-                transcriptionCache.put(videoId, finalParsedData);
+                putTranscriptionInternal(videoId, finalParsedData, null);
                 int time = calculateElapsedTimeSeconds(videoId, OperationType.TRANSCRIBE);
                 taskStartTimes.remove(taskKey);
                 transcriptionTimeCache.put(videoId, Math.max(time, 0));
@@ -745,7 +858,7 @@ public final class GeminiManager {
      * @param parsedData The successfully parsed subtitle data in the final language.
      */
     @MainThread
-    private void handleYandexDirectSuccess(@NonNull String videoUrl, @Nullable TreeMap<Long, Pair<Long, String>> parsedData) {
+    private void handleYandexDirectSuccess(@NonNull String videoUrl, @Nullable SubtitleTrack parsedData) {
         ensureMainThread(() -> {
             String videoId = getVideoIdFromUrl(videoUrl);
 
@@ -763,7 +876,7 @@ public final class GeminiManager {
 
             Logger.printInfo(() -> "Yandex Workflow SUCCEEDED directly for " + videoId);
 
-            transcriptionCache.put(videoId, parsedData);
+            putTranscriptionInternal(videoId, parsedData, null);
             int time = calculateElapsedTimeSeconds(videoId, OperationType.TRANSCRIBE);
             taskStartTimes.remove(getTaskKey(videoId, OperationType.TRANSCRIBE));
             transcriptionTimeCache.put(videoId, Math.max(time, 0));
@@ -853,9 +966,124 @@ public final class GeminiManager {
                 activeTasks.remove(taskKey);
                 handleApiResponseInternal(context, OperationType.TRANSCRIBE, videoUrl, null, error);
             }
+
+            @Override
+            public void onPartialResult(String partialResult) {
+                if (activeTasks.containsKey(taskKey)) {
+                    handleStreamingPartialInternal(OperationType.TRANSCRIBE, videoUrl, partialResult);
+                }
+            }
+
+            @Override
+            public void onPartialResultsDiscarded() {
+                if (activeTasks.containsKey(taskKey)) {
+                    handleStreamingDiscardedInternal(OperationType.TRANSCRIBE, videoUrl);
+                }
+            }
         });
     }
 
+    /**
+     * Handles text streamed so far by a direct Gemini request.
+     * The text is shown in the progress dialog, and for a transcription with a minimized progress dialog
+     * the complete lines received so far are shown with the subtitle overlay.
+     * Ignored if the operation is no longer the current one.
+     * Must be called on the Main Thread.
+     *
+     * @param opType        The operation type of the request.
+     * @param videoUrl      The video URL of the request.
+     * @param partialResult All text received so far.
+     */
+    @MainThread
+    private void handleStreamingPartialInternal(@NonNull OperationType opType, @NonNull String videoUrl, @NonNull String partialResult) {
+        if (currentOperation != opType || !Objects.equals(currentVideoUrl, videoUrl) || isCancelled) {
+            return;
+        }
+
+        if (opType == OperationType.SUMMARIZE) {
+            streamingPreview = MarkdownUtils.fromMarkdown(partialResult);
+        } else {
+            streamingTranscription = partialResult;
+            streamingPreview = partialResult.length() > STREAMING_TRANSCRIPTION_PREVIEW_CHARS
+                    ? "…" + partialResult.substring(partialResult.length() - STREAMING_TRANSCRIPTION_PREVIEW_CHARS)
+                    : partialResult;
+            if (isProgressDialogMinimized) {
+                showStreamingTranscriptionOverlayInternal(partialResult);
+            }
+        }
+
+        updateTimerMessageInternal();
+    }
+
+    /**
+     * Handles a direct Gemini request that failed after streaming text, and is retried with the fallback model.
+     * The text and cues streamed so far are discarded, as the retry streams its text from the start.
+     * Ignored if the operation is no longer the current one.
+     * Must be called on the Main Thread.
+     *
+     * @param opType   The operation type of the request.
+     * @param videoUrl The video URL of the request.
+     */
+    @MainThread
+    private void handleStreamingDiscardedInternal(@NonNull OperationType opType, @NonNull String videoUrl) {
+        if (currentOperation != opType || !Objects.equals(currentVideoUrl, videoUrl) || isCancelled) {
+            return;
+        }
+
+        Logger.printDebug(() -> "Discarding streamed text of the failed request: " + opType);
+        final boolean showedStreamedCues = streamingTrackBuilder != null && isSubtitleOverlayShowing;
+        clearStreamingStateInternal();
+        if (showedStreamedCues) {
+            hideTranscriptionOverlayInternal();
+        }
+
+        updateTimerMessageInternal();
+    }
+
+    /**
+     * Parses newly completed lines of a streamed transcription and shows
+     * all cues parsed so far with the subtitle overlay.
+     * Must be called on the Main Thread.
+     *
+     * @param partialResult All transcription text received so far.
+     */
+    @MainThread
+    private void showStreamingTranscriptionOverlayInternal(@NonNull String partialResult) {
+        if (streamingTrackBuilder == null) {
+            streamingTrackBuilder = new SubtitleTrack.Builder();
+            streamingParsedLength = 0;
+        }
+
+        // Only parse complete lines, the last line may still be arriving.
+        final int parseEnd = partialResult.lastIndexOf('\n') + 1;
+        if (parseEnd <= streamingParsedLength) {
+            return;
+        }
+
+        final int previousSize = streamingTrackBuilder.size();
+        Matcher matcher = TRANSCRIPTION_PATTERN.matcher("");
+        for (String line : partialResult.substring(streamingParsedLength, parseEnd).split("\r?\n")) {
+            parseGeminiTranscriptionLineInternal(matcher, line, streamingTrackBuilder);
+        }
+        streamingParsedLength = parseEnd;
+
+        if (streamingTrackBuilder.size() == previousSize && isSubtitleOverlayShowing) {
+            return;
+        }
+
+        // Snapshots share the arrays of the builder, so each new line only costs the parsing of that line.
+        SubtitleTrack partialTrack = streamingTrackBuilder.snapshot();
+        if (partialTrack.isEmpty()) {
+            return;
+        }
+
+        if (isSubtitleOverlayShowing && subtitleOverlayRef != null && subtitleOverlayRef.get() != null) {
+            updateSubtitleTrackInternal(partialTrack);
+        } else {
+            displayTranscriptionOverlayInternal(partialTrack);
+        }
+    }
+
     /**
      * Rebuilds the {@link #baseLoadingMessage} based on the current operation type and state,
      * including the Gemini translation step if active.
@@ -902,12 +1130,25 @@ public final class GeminiManager {
         isWaitingForYandexRetry = false;
         lastYandexStatusMessage = null;
         baseLoadingMessage = null;
+        clearStreamingStateInternal();
 
         currentOperation = newOperationType;
         currentVideoUrl = newVideoUrl;
 
     }
 
+    /**
+     * Discards text and cues streamed for the current operation.
+     * Must be called on the Main Thread.
+     */
+    @MainThread
+    private void clearStreamingStateInternal() {
+        streamingPreview = null;
+        streamingTranscription = null;
+        streamingTrackBuilder = null;
+        streamingParsedLength = 0;
+    }
+
     /**
      * Handles the result (success or failure) from the *direct* Gemini API callback
      * (used for Summarize or direct Transcribe when Yandex is OFF).
@@ -949,7 +1190,7 @@ public final class GeminiManager {
                     resetOperationStateInternal(opType, false);
                 }
             } else if (opType == OperationType.TRANSCRIBE) {
-                rawTranscriptionCache.put(videoId, result);
+                putTranscriptionInternal(videoId, null, result);
                 transcriptionTimeCache.put(videoId, time);
 
                 if (Objects.equals(currentVideoUrl, videoUrl)) {
@@ -986,6 +1227,7 @@ public final class GeminiManager {
             currentOperation = OperationType.NONE;
             currentVideoUrl = null;
             baseLoadingMessage = null;
+            clearStreamingStateInternal();
             determinedTargetLanguageCode = null;
             intermediateLanguageCode = null;
         }
@@ -1012,7 +1254,7 @@ public final class GeminiManager {
      * @return The extracted video ID.
      */
     @NonNull
-    private String getVideoIdFromUrl(@Nullable String videoUrl) {
+    static String getVideoIdFromUrl(@Nullable String videoUrl) {
         if (videoUrl == null) return "";
         try {
             Matcher matcher = VIDEO_ID_PATTERN.matcher(videoUrl);
@@ -1360,6 +1602,11 @@ public final class GeminiManager {
                     isProgressDialogMinimized = true;
                     stopTimerInternal();
                     dismissProgressDialogInternal();
+
+                    // Continue showing a streamed Gemini transcription with the overlay.
+                    if (opType == OperationType.TRANSCRIBE && streamingTranscription != null) {
+                        showStreamingTranscriptionOverlayInternal(streamingTranscription);
+                    }
                 }
             });
         });
@@ -1532,7 +1779,7 @@ public final class GeminiManager {
             return;
         }
 
-        TreeMap<Long, Pair<Long, String>> parsedData;
+        SubtitleTrack parsedData;
         try {
             parsedData = parseGeminiTranscriptionInternal(rawText);
         } catch (Exception e) {
@@ -1548,14 +1795,12 @@ public final class GeminiManager {
             if (!rawText.trim().isEmpty()) {
                 showToastLong(str("revanced_gemini_error_transcription_parse"));
             }
-            transcriptionCache.put(videoId, parsedData);
-            rawTranscriptionCache.put(videoId, rawText);
+            putTranscriptionInternal(videoId, parsedData, rawText);
             hideTranscriptionOverlayInternal();
             return;
         }
 
-        transcriptionCache.put(videoId, parsedData);
-        rawTranscriptionCache.put(videoId, rawText);
+        putTranscriptionInternal(videoId, parsedData, rawText);
 
         if (displayTranscriptionOverlayInternal(videoUrl)) {
             showToastShort(str("revanced_gemini_transcription_parse_success"));
@@ -1564,56 +1809,81 @@ public final class GeminiManager {
     }
 
     /**
-     * Parses the raw transcription text (expected Gemini format) into a timed map.
+     * Stores a new transcription result, replacing any older result for the video
+     * including anything previously spilled to disk.
+     *
+     * @param videoId          The video ID.
+     * @param parsedData       The parsed transcription, or null to leave unchanged.
+     * @param rawTranscription The raw transcription, or null to leave unchanged.
+     */
+    private void putTranscriptionInternal(@NonNull String videoId, @Nullable SubtitleTrack parsedData, @Nullable String rawTranscription) {
+        transcriptDiskCache.invalidate(videoId);
+        if (parsedData != null) transcriptionCache.put(videoId, parsedData);
+        if (rawTranscription != null) rawTranscriptionCache.put(videoId, rawTranscription);
+    }
+
+    /**
+     * Parses the raw transcription text (expected Gemini format) into a timed track.
      *
      * @param rawText The raw transcription string.
-     * @return A TreeMap mapping start times (ms) to Pairs of end times (ms) and subtitle text.
-     * Returns an empty map if the input is empty or no valid lines are found.
+     * @return A track of start times (ms), end times (ms) and subtitle text.
+     * Returns an empty track if the input is empty or no valid lines are found.
      */
     @NotNull
-    private TreeMap<Long, Pair<Long, String>> parseGeminiTranscriptionInternal(@NonNull String rawText) {
+    private SubtitleTrack parseGeminiTranscriptionInternal(@NonNull String rawText) {
         if (TextUtils.isEmpty(rawText)) {
-            return new TreeMap<>();
+            return SubtitleTrack.EMPTY;
         }
-        TreeMap<Long, Pair<Long, String>> map = new TreeMap<>();
+        SubtitleTrack.Builder builder = new SubtitleTrack.Builder();
         Matcher m = TRANSCRIPTION_PATTERN.matcher("");
 
         for (String line : rawText.split("\r?\n")) {
-            String trimmedLine = line.trim();
-            if (trimmedLine.isEmpty()) continue;
+            parseGeminiTranscriptionLineInternal(m, line, builder);
+        }
+        return builder.build();
+    }
 
-            m.reset(trimmedLine);
-            if (m.find()) {
-                try {
-                    // Group indices from TRANSCRIPTION_PATTERN:
-                    // 1: start Hr (opt), 2: start Min, 3: start Sec, 4: start Ms
-                    // 5: end Hr (opt),   6: end Min,   7: end Sec,   8: end Ms
-                    // 9: text
-
-                    long sh = (m.group(1) != null) ? Long.parseLong(Objects.requireNonNull(m.group(1))) : 0;
-                    long sm = Long.parseLong(Objects.requireNonNull(m.group(2)));
-                    long ss = Long.parseLong(Objects.requireNonNull(m.group(3)));
-                    long sms = parseAndPadMilliseconds(m.group(4));
-                    long st = TimeUnit.HOURS.toMillis(sh) + TimeUnit.MINUTES.toMillis(sm) + TimeUnit.SECONDS.toMillis(ss) + sms;
-
-                    long eh = (m.group(5) != null) ? Long.parseLong(Objects.requireNonNull(m.group(5))) : 0;
-                    long em = Long.parseLong(Objects.requireNonNull(m.group(6)));
-                    long es = Long.parseLong(Objects.requireNonNull(m.group(7)));
-                    long ems = parseAndPadMilliseconds(m.group(8));
-                    long et = TimeUnit.HOURS.toMillis(eh) + TimeUnit.MINUTES.toMillis(em) + TimeUnit.SECONDS.toMillis(es) + ems;
-
-                    String text = m.group(9);
-                    String trimmedText = (text != null) ? text.trim() : "";
-
-                    if (et > st && !trimmedText.isEmpty()) {
-                        map.put(st, new Pair<>(et, trimmedText));
-                    }
-                } catch (Exception e) {
-                    Logger.printException(() -> "Unexpected error processing Gemini line: " + trimmedLine, e);
+    /**
+     * Parses a single line of a Gemini transcription, and adds it to the builder if it is a valid cue.
+     *
+     * @param m       A matcher of {@link #TRANSCRIPTION_PATTERN}, reused between lines.
+     * @param line    The line to parse.
+     * @param builder The builder to add the cue to.
+     */
+    private void parseGeminiTranscriptionLineInternal(@NonNull Matcher m, @NonNull String line, @NonNull SubtitleTrack.Builder builder) {
+        String trimmedLine = line.trim();
+        if (trimmedLine.isEmpty()) return;
+
+        m.reset(trimmedLine);
+        if (m.find()) {
+            try {
+                // Group indices from TRANSCRIPTION_PATTERN:
+                // 1: start Hr (opt), 2: start Min, 3: start Sec, 4: start Ms
+                // 5: end Hr (opt),   6: end Min,   7: end Sec,   8: end Ms
+                // 9: text
+
+                long sh = (m.group(1) != null) ? Long.parseLong(Objects.requireNonNull(m.group(1))) : 0;
+                long sm = Long.parseLong(Objects.requireNonNull(m.group(2)));
+                long ss = Long.parseLong(Objects.requireNonNull(m.group(3)));
+                long sms = parseAndPadMilliseconds(m.group(4));
+                long st = TimeUnit.HOURS.toMillis(sh) + TimeUnit.MINUTES.toMillis(sm) + TimeUnit.SECONDS.toMillis(ss) + sms;
+
+                long eh = (m.group(5) != null) ? Long.parseLong(Objects.requireNonNull(m.group(5))) : 0;
+                long em = Long.parseLong(Objects.requireNonNull(m.group(6)));
+                long es = Long.parseLong(Objects.requireNonNull(m.group(7)));
+                long ems = parseAndPadMilliseconds(m.group(8));
+                long et = TimeUnit.HOURS.toMillis(eh) + TimeUnit.MINUTES.toMillis(em) + TimeUnit.SECONDS.toMillis(es) + ems;
+
+                String text = m.group(9);
+                String trimmedText = (text != null) ? text.trim() : "";
+
+                if (et > st && !trimmedText.isEmpty()) {
+                    builder.add(st, et, trimmedText);
                 }
+            } catch (Exception e) {
+                Logger.printException(() -> "Unexpected error processing Gemini line: " + trimmedLine, e);
             }
         }
-        return map;
     }
 
     /**
@@ -1658,13 +1928,25 @@ public final class GeminiManager {
         Logger.printDebug(() -> "Attempting display transcription overlay...");
 
         String videoId = getVideoIdFromUrl(videoUrl);
-        TreeMap<Long, Pair<Long, String>> data = transcriptionCache.get(videoId);
+        SubtitleTrack data = transcriptionCache.get(videoId);
 
         if (data == null) {
             hideTranscriptionOverlayInternal();
             return false;
         }
 
+        return displayTranscriptionOverlayInternal(data);
+    }
+
+    /**
+     * Displays the transcription overlay for the given data.
+     * Must be called on the Main Thread.
+     *
+     * @param data The transcription data.
+     * @return True if displayed successfully, false otherwise.
+     */
+    @MainThread
+    private boolean displayTranscriptionOverlayInternal(@NonNull SubtitleTrack data) {
         hideTranscriptionOverlayInternal();
 
         try {
@@ -1702,7 +1984,7 @@ public final class GeminiManager {
      * @param data The transcription data.
      */
     @MainThread
-    private void startSubtitleUpdaterInternal(TreeMap<Long, Pair<Long, String>> data) {
+    private void startSubtitleUpdaterInternal(SubtitleTrack data) {
         if (!isSubtitleOverlayShowing || data == null || subtitleOverlayRef == null) {
             stopSubtitleUpdaterInternal();
             return;
@@ -1710,9 +1992,10 @@ public final class GeminiManager {
 
         stopSubtitleUpdaterInternal();
 
-        subtitleUpdateRunnable = new Runnable() {
-            private String lastTextSentToOverlay = null;
+        final SubtitleTimeline timeline = new SubtitleTimeline(data);
+        subtitleTimeline = timeline;
 
+        subtitleUpdateRunnable = new Runnable() {
             @Override
             public void run() {
                 SubtitleOverlay currentOverlay = subtitleOverlayRef.get();
@@ -1725,19 +2008,18 @@ public final class GeminiManager {
                 long currentTime = VideoInformation.getVideoTime();
                 if (currentTime < 0) {
                     if (isSubtitleOverlayShowing) {
-                        subtitleUpdateHandler.postDelayed(this, SUBTITLE_UPDATE_INTERVAL_MS);
+                        subtitleUpdateHandler.postDelayed(this, SUBTITLE_RESYNC_INTERVAL_MS);
                     } else {
                         subtitleUpdateRunnable = null;
                     }
                     return;
                 }
 
-                String textToShow = findSubtitleTextForTimeInternal(data, currentTime);
-
-                if (!Objects.equals(textToShow, lastTextSentToOverlay)) {
+                // Only cue transitions cause UI work.
+                if (timeline.seekTo(currentTime)) {
+                    String text = timeline.getActiveText();
                     try {
-                        currentOverlay.updateText(textToShow);
-                        lastTextSentToOverlay = textToShow;
+                        currentOverlay.updateText(!TextUtils.isEmpty(text) ? text : EMPTY_SUBTITLE_PLACEHOLDER);
                     } catch (Exception e) {
                         hideTranscriptionOverlayInternal();
                         return;
@@ -1745,7 +2027,7 @@ public final class GeminiManager {
                 }
 
                 if (isSubtitleOverlayShowing) {
-                    subtitleUpdateHandler.postDelayed(this, SUBTITLE_UPDATE_INTERVAL_MS);
+                    subtitleUpdateHandler.postDelayed(this, getSubtitleUpdateDelayInternal(timeline, currentTime));
                 } else {
                     subtitleUpdateRunnable = null;
                 }
@@ -1755,6 +2037,26 @@ public final class GeminiManager {
         subtitleUpdateHandler.post(subtitleUpdateRunnable);
     }
 
+    /**
+     * Replaces the track of the running subtitle updater without restarting it,
+     * or starts the updater if it's not running.
+     * Must be called on the Main Thread.
+     *
+     * @param data The transcription data.
+     */
+    @MainThread
+    private void updateSubtitleTrackInternal(@NonNull SubtitleTrack data) {
+        if (subtitleTimeline == null || subtitleUpdateRunnable == null) {
+            startSubtitleUpdaterInternal(data);
+            return;
+        }
+
+        subtitleTimeline.setTrack(data);
+        // The pending update was armed for a transition of the previous track.
+        subtitleUpdateHandler.removeCallbacks(subtitleUpdateRunnable);
+        subtitleUpdateHandler.post(subtitleUpdateRunnable);
+    }
+
     /**
      * Stops the periodic runnable that updates the subtitle overlay text.
      * Safe to call multiple times or if not running.
@@ -1766,6 +2068,22 @@ public final class GeminiManager {
             subtitleUpdateHandler.removeCallbacks(subtitleUpdateRunnable);
             subtitleUpdateRunnable = null;
         }
+        subtitleTimeline = null;
+    }
+
+    /**
+     * Calculates the delay until the next subtitle update, arming the update for the next cue transition.
+     *
+     * @param timeline          The subtitle timeline, positioned at the current time.
+     * @param currentTimeMillis The current time in milliseconds.
+     * @return The delay in milliseconds.
+     */
+    private long getSubtitleUpdateDelayInternal(@NonNull SubtitleTimeline timeline, long currentTimeMillis) {
+        final long untilTransition = timeline.getNextTransitionMs() - currentTimeMillis;
+        float speed = VideoInformation.getPlaybackSpeed();
+        if (speed <= 0) speed = 1;
+        final long delay = (long) (untilTransition / speed);
+        return Math.max(SUBTITLE_MIN_UPDATE_INTERVAL_MS, Math.min(SUBTITLE_RESYNC_INTERVAL_MS, delay));
     }
 
     /**
@@ -1776,25 +2094,13 @@ public final class GeminiManager {
      * @return The subtitle text or placeholder.
      */
     @NonNull
-    private String findSubtitleTextForTimeInternal(TreeMap<Long, Pair<Long, String>> data, long currentTimeMillis) {
+    private String findSubtitleTextForTimeInternal(SubtitleTrack data, long currentTimeMillis) {
         if (data == null || data.isEmpty() || currentTimeMillis < 0) {
             return EMPTY_SUBTITLE_PLACEHOLDER;
         }
 
-        Map.Entry<Long, Pair<Long, String>> entry = data.floorEntry(currentTimeMillis);
-
-        if (entry != null) {
-            long startTime = entry.getKey();
-            Pair<Long, String> value = entry.getValue();
-            long endTime = value.first;
-            String text = value.second;
-
-            if (currentTimeMillis >= startTime && currentTimeMillis < endTime) {
-                return !TextUtils.isEmpty(text) ? text : EMPTY_SUBTITLE_PLACEHOLDER;
-            }
-        }
-
-        return EMPTY_SUBTITLE_PLACEHOLDER;
+        String text = data.textAt(currentTimeMillis);
+        return !TextUtils.isEmpty(text) ? text : EMPTY_SUBTITLE_PLACEHOLDER;
     }
 
     // endregion UI Methods: Transcription Parsing and Overlay
@@ -1880,7 +2186,10 @@ public final class GeminiManager {
                 }
             }
 
-            String msg = metaPrefix + base + time;
+            CharSequence msg = metaPrefix + base + time;
+            if (!TextUtils.isEmpty(streamingPreview)) {
+                msg = new SpannableStringBuilder(msg).append("\n\n").append(streamingPreview);
+            }
 
             try {
                 TextView tv = currentDialog.findViewById(android.R.id.message);
@@ -29,6 +29,18 @@ public class GeminiUtils {
     private static final String GEMINI_MODEL = "gemini-3-flash-preview";
     private static final String GEMINI_FALLBACK_MODEL = "gemini-2.5-flash";
     private static final String ACTION = ":generateContent?key=";
+    /**
+     * Server-sent events variant of {@link #ACTION}, where the response is a series of
+     * {@code data: } lines each holding a partial GenerateContentResponse.
+     */
+    private static final String STREAM_ACTION = ":streamGenerateContent?alt=sse&key=";
+    private static final String SSE_DATA_PREFIX = "data:";
+
+    /**
+     * Minimum time between partial results posted to the main thread while streaming.
+     * Chunks arriving in between are coalesced into the next post.
+     */
+    private static final long STREAM_PARTIAL_UPDATE_INTERVAL_MS = 150;
 
     private static final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
 
@@ -43,7 +55,7 @@ public class GeminiUtils {
         String langName = getLanguageName();
         String prompt = "Summarize the key points of this video in " + langName + ". Skip any preamble, intro phrases, or explanations — output only the summary.";
         Logger.printDebug(() -> "GeminiUtils (SUMMARY): Sending Prompt: " + prompt);
-        generateContent(videoUrl, apiKey, prompt, GEMINI_MODEL, callback, true);
+        generateContent(videoUrl, apiKey, prompt, GEMINI_MODEL, callback, true, true);
     }
 
     /**
@@ -57,7 +69,7 @@ public class GeminiUtils {
         String langName = getLanguageName();
         String prompt = "Transcribe this video precisely in " + langName + ", including spoken words, written words in the video and significant sounds. Provide timestamps for each segment in the format [HH:MM:SS.mmm - HH:MM:SS.mmm]: Text. Skip any preamble, intro phrases, or explanations — output only the transcription.";
         Logger.printDebug(() -> "GeminiUtils (TRANSCRIPTION): Sending Prompt: " + prompt);
-        generateContent(videoUrl, apiKey, prompt, GEMINI_MODEL, callback, true);
+        generateContent(videoUrl, apiKey, prompt, GEMINI_MODEL, callback, true, true);
     }
 
     /**
@@ -88,7 +100,8 @@ public class GeminiUtils {
         String prompt = "Translate ONLY the string values associated with the \"text\" keys within the following JSON subtitle data to " + targetLangName + ". Preserve the exact JSON structure, including all keys (like \"startMs\", \"endMs\", \"durationMs\") and their original numeric values. Output ONLY the fully translated JSON data, without any introductory text, explanations, comments, or markdown formatting (like ```json ... ```).\n\nInput JSON:\n" + yandexJson;
 
         Logger.printDebug(() -> "GeminiUtils (JSON TRANSLATE): Sending Translation Prompt for target '" + targetLangName + "'.");
-        generateContent(null, apiKey, prompt, GEMINI_MODEL, callback, true);
+        // Partial JSON is not usable, so the translation is not streamed.
+        generateContent(null, apiKey, prompt, GEMINI_MODEL, callback, true, false);
     }
 
     /**
@@ -100,18 +113,20 @@ public class GeminiUtils {
      * @param model         The Gemini model to use.
      * @param callback      The {@link Callback} to handle the success or failure response.
      * @param allowFallback If true, a failure will trigger a retry with the fallback model.
+     * @param stream        If true, the streamGenerateContent endpoint is used and
+     *                      {@link Callback#onPartialResult(String)} receives the text as it arrives.
      */
-    private static void generateContent(@Nullable String videoUrl, @NonNull String apiKey, @NonNull String textPrompt, @NonNull String model, @NonNull Callback callback, boolean allowFallback) {
+    private static void generateContent(@Nullable String videoUrl, @NonNull String apiKey, @NonNull String textPrompt, @NonNull String model, @NonNull Callback callback, boolean allowFallback, boolean stream) {
         executor.submit(() -> {
             HttpURLConnection connection = null;
 
             try {
-                URL url = new URL(BASE_API_URL + model + ACTION + apiKey);
+                URL url = new URL(BASE_API_URL + model + (stream ? STREAM_ACTION : ACTION) + apiKey);
                 connection = (HttpURLConnection) url.openConnection();
 
                 connection.setRequestMethod("POST");
                 connection.setRequestProperty("Content-Type", "application/json; utf-8");
-                connection.setRequestProperty("Accept", "application/json");
+                connection.setRequestProperty("Accept", stream ? "text/event-stream" : "application/json");
                 connection.setDoOutput(true);
                 connection.setConnectTimeout(30000);
                 connection.setReadTimeout(6000000);
@@ -189,6 +204,11 @@ public class GeminiUtils {
                 }
 
                 int responseCode = connection.getResponseCode();
+                if (stream && responseCode == HttpURLConnection.HTTP_OK) {
+                    readStreamingResponse(connection, videoUrl, callback);
+                    return;
+                }
+
                 StringBuilder response = new StringBuilder();
                 try (BufferedReader reader = getBufferedReader(responseCode, connection)) {
                     String responseLine;
@@ -255,7 +275,7 @@ public class GeminiUtils {
                 } else {
                     if (allowFallback) {
                         Logger.printDebug(() -> "GeminiUtils: Primary model " + model + " failed (HTTP " + responseCode + "). Fallback to " + GEMINI_FALLBACK_MODEL);
-                        generateContent(videoUrl, apiKey, textPrompt, GEMINI_FALLBACK_MODEL, callback, false);
+                        generateFallbackContent(videoUrl, apiKey, textPrompt, callback, stream);
                         return;
                     }
 
@@ -279,7 +299,7 @@ public class GeminiUtils {
             } catch (java.net.SocketTimeoutException e) {
                 if (allowFallback) {
                     Logger.printDebug(() -> "GeminiUtils: Primary model " + model + " timed out. Fallback to " + GEMINI_FALLBACK_MODEL);
-                    generateContent(videoUrl, apiKey, textPrompt, GEMINI_FALLBACK_MODEL, callback, false);
+                    generateFallbackContent(videoUrl, apiKey, textPrompt, callback, stream);
                     return;
                 }
 
@@ -293,7 +313,7 @@ public class GeminiUtils {
             } catch (IOException e) {
                 if (allowFallback) {
                     Logger.printDebug(() -> "GeminiUtils: Primary model " + model + " network failed. Fallback to " + GEMINI_FALLBACK_MODEL);
-                    generateContent(videoUrl, apiKey, textPrompt, GEMINI_FALLBACK_MODEL, callback, false);
+                    generateFallbackContent(videoUrl, apiKey, textPrompt, callback, stream);
                     return;
                 }
 
@@ -303,7 +323,7 @@ public class GeminiUtils {
             } catch (Exception e) {
                 if (allowFallback) {
                     Logger.printDebug(() -> "GeminiUtils: Primary model " + model + " failed with exception. Fallback to " + GEMINI_FALLBACK_MODEL);
-                    generateContent(videoUrl, apiKey, textPrompt, GEMINI_FALLBACK_MODEL, callback, false);
+                    generateFallbackContent(videoUrl, apiKey, textPrompt, callback, stream);
                     return;
                 }
 
@@ -318,6 +338,145 @@ public class GeminiUtils {
         });
     }
 
+    /**
+     * Retries a failed request with {@link #GEMINI_FALLBACK_MODEL}.
+     * Partial results of a streamed request may already have been delivered,
+     * so {@link Callback#onPartialResultsDiscarded()} is posted before the retry starts.
+     */
+    private static void generateFallbackContent(@Nullable String videoUrl, @NonNull String apiKey, @NonNull String textPrompt, @NonNull Callback callback, boolean stream) {
+        if (stream) {
+            mainThreadHandler.post(callback::onPartialResultsDiscarded);
+        }
+        generateContent(videoUrl, apiKey, textPrompt, GEMINI_FALLBACK_MODEL, callback, false, stream);
+    }
+
+    /**
+     * Reads a server-sent events response of the streamGenerateContent endpoint.
+     * Text of each chunk is appended as it arrives, and the accumulated text is posted to
+     * {@link Callback#onPartialResult(String)} at most every {@link #STREAM_PARTIAL_UPDATE_INTERVAL_MS}.
+     * When the stream ends the complete text is posted to {@link Callback#onSuccess(String)},
+     * unless the finish reason shows the response was blocked.
+     *
+     * @param connection The connection, with a successful response code.
+     * @param videoUrl   The video URL of the request, or null for text only requests.
+     * @param callback   The callback.
+     * @throws IOException          If reading the stream fails or the stream ends without a finish reason,
+     *                              so the caller can fall back to another model.
+     * @throws InterruptedException If the task was cancelled.
+     */
+    private static void readStreamingResponse(@NonNull HttpURLConnection connection, @Nullable String videoUrl, @NonNull Callback callback) throws IOException, InterruptedException {
+        StringBuilder resultBuilder = new StringBuilder();
+        JSONObject lastChunk = null;
+        JSONObject finishChunk = null;
+        String finishReason = null;
+        long lastPartialPostTime = 0;
+        int postedLength = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException("Gemini task cancelled while reading stream.");
+                }
+                if (!line.startsWith(SSE_DATA_PREFIX)) {
+                    continue; // Blank event separators or comments.
+                }
+
+                String data = line.substring(SSE_DATA_PREFIX.length()).trim();
+                if (data.isEmpty()) continue;
+
+                try {
+                    lastChunk = new JSONObject(data);
+                } catch (JSONException ex) {
+                    Logger.printDebug(() -> "GeminiUtils: Ignoring malformed stream chunk: " + data.substring(0, Math.min(data.length(), 200)));
+                    continue;
+                }
+                String chunkFinishReason = appendChunkText(lastChunk, resultBuilder);
+                if (chunkFinishReason != null) {
+                    finishReason = chunkFinishReason;
+                    finishChunk = lastChunk;
+                }
+
+                final long now = System.currentTimeMillis();
+                if (resultBuilder.length() > postedLength && now - lastPartialPostTime >= STREAM_PARTIAL_UPDATE_INTERVAL_MS) {
+                    lastPartialPostTime = now;
+                    postedLength = resultBuilder.length();
+                    final String partial = resultBuilder.toString();
+                    mainThreadHandler.post(() -> callback.onPartialResult(partial));
+                }
+            }
+        }
+
+        final boolean finished = finishReason != null;
+        if (!finished && (lastChunk == null || extractBlockReason(lastChunk) == null)) {
+            // The connection closed before the last chunk, and the text may be cut off.
+            throw new IOException("Gemini stream ended without a finish reason.");
+        }
+
+        if (finished && !"STOP".equals(finishReason) && !"MAX_TOKENS".equals(finishReason)) {
+            // Blocked part way, such as for SAFETY or RECITATION. The text received is incomplete.
+            String blockReason = extractBlockReason(finishChunk);
+            final String finalError = "Content blocked: " + (blockReason != null ? blockReason : finishReason);
+            Logger.printException(() -> "Gemini API Error: " + finalError);
+            mainThreadHandler.post(() -> callback.onFailure(finalError));
+            return;
+        }
+        if ("MAX_TOKENS".equals(finishReason)) {
+            Logger.printInfo(() -> "Gemini streamed result reached the maximum output tokens, and may be incomplete.");
+        }
+
+        final String finalResult = sanitizeJsonOutput(resultBuilder.toString());
+        if (finalResult.isEmpty()) {
+            String blockReason = lastChunk != null ? extractBlockReason(lastChunk) : null;
+            final String finalError = blockReason != null ? "Content blocked: " + blockReason
+                    : "API stream ended without any content.";
+            Logger.printException(() -> "Gemini API Error: " + finalError);
+            mainThreadHandler.post(() -> callback.onFailure(finalError));
+            return;
+        }
+
+        if (videoUrl == null && !(finalResult.startsWith("[") || finalResult.startsWith("{"))) {
+            Logger.printInfo(() -> "Gemini JSON translation result doesn't look like valid JSON!");
+            mainThreadHandler.post(() -> callback.onFailure("Translation result format error. Expected JSON."));
+            return;
+        }
+
+        Logger.printDebug(() -> "Gemini streamed result received: " + finalResult.substring(0, Math.min(finalResult.length(), 300)) + "...");
+        mainThreadHandler.post(() -> callback.onSuccess(finalResult));
+    }
+
+    /**
+     * Appends the text parts of the first candidate of a streamed response chunk.
+     * Chunks without candidates (such as a final usage metadata chunk) are ignored.
+     *
+     * @return The finish reason of the candidate, or null if the chunk is not the last chunk of the candidate.
+     */
+    @Nullable
+    private static String appendChunkText(@NonNull JSONObject chunk, @NonNull StringBuilder builder) {
+        JSONArray candidates = chunk.optJSONArray("candidates");
+        if (candidates == null || candidates.length() == 0) return null;
+
+        JSONObject candidate = candidates.optJSONObject(0);
+        if (candidate == null) return null;
+        String finishReason = candidate.optString("finishReason", "");
+
+        JSONObject content = candidate.optJSONObject("content");
+        JSONArray parts = content != null ? content.optJSONArray("parts") : null;
+        if (parts != null) {
+            appendPartsText(parts, builder);
+        }
+        return finishReason.isEmpty() ? null : finishReason;
+    }
+
+    private static void appendPartsText(@NonNull JSONArray parts, @NonNull StringBuilder builder) {
+        for (int i = 0, length = parts.length(); i < length; i++) {
+            JSONObject part = parts.optJSONObject(i);
+            if (part != null && !part.optBoolean("thought", false)) {
+                builder.append(part.optString("text", ""));
+            }
+        }
+    }
+
     /**
      * Gets a {@link BufferedReader} for reading the response from an {@link HttpURLConnection}.
      * Handles both successful (2xx) and error responses by choosing the appropriate input stream
@@ -515,5 +674,21 @@ public class GeminiUtils {
          * @param error A message describing the error that occurred.
          */
         void onFailure(String error);
+
+        /**
+         * Called on the main thread while a streamed request is still receiving the response.
+         * Not called for requests that are not streamed.
+         *
+         * @param partialResult All text received so far. Not sanitized, and may end mid-line.
+         */
+        default void onPartialResult(String partialResult) {
+        }
+
+        /**
+         * Called on the main thread before a streamed request is retried with another model.
+         * Partial results received so far are not part of the new response, and must be discarded.
+         */
+        default void onPartialResultsDiscarded() {
+        }
     }
 }
@@ -95,6 +95,18 @@ public class SubtitleOverlay {
      */
     private boolean isShowing = false;
 
+    /**
+     * Text currently applied to {@link #subtitleTextView}, used to skip redundant updates.
+     * Only accessed on the main thread.
+     */
+    @Nullable
+    private String displayedText;
+
+    /**
+     * Indicates whether {@link #displayedText} reflects the TextView.
+     */
+    private boolean isTextApplied = false;
+
     /**
      * Indicates whether the overlay is positioned at the bottom of the screen.
      */
@@ -483,40 +495,53 @@ public class SubtitleOverlay {
 
     /**
      * Updates the text displayed in the subtitle overlay.
+     * Applied immediately if called on the main thread, otherwise posted to the main thread.
+     * Updates with the same text as currently displayed are ignored.
      *
      * @param text The text to display, or null/empty to hide the TextView.
      */
     public void updateText(@Nullable final String text) {
-        mainHandler.post(() -> {
-            if (!isShowing || subtitleTextView == null || overlayView == null) return;
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            applyText(text);
+        } else {
+            mainHandler.post(() -> applyText(text));
+        }
+    }
 
-            // Store the current height to detect changes
-            int oldHeight = overlayView.getHeight();
+    private void applyText(@Nullable String text) {
+        if (!isShowing || subtitleTextView == null || overlayView == null) return;
 
-            // Update text and visibility
-            if (text == null || text.isEmpty()) {
-                subtitleTextView.setVisibility(View.INVISIBLE);
-            } else {
-                subtitleTextView.setText(text);
-                subtitleTextView.setVisibility(View.VISIBLE);
-            }
+        if (text != null && text.isEmpty()) text = null;
+        if (isTextApplied && Objects.equals(text, displayedText)) return;
+        displayedText = text;
+        isTextApplied = true;
 
-            // Re-measure the view to account for text changes
-            int widthSpec = View.MeasureSpec.makeMeasureSpec(getScreenWidth(), View.MeasureSpec.EXACTLY);
-            int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-            overlayView.measure(widthSpec, heightSpec);
-            overlayView.layout(0, 0, overlayView.getMeasuredWidth(), overlayView.getMeasuredHeight());
+        // Store the current height to detect changes
+        int oldHeight = overlayView.getHeight();
 
-            // Adjust position if height changes and the overlay is at the bottom
-            int newHeight = overlayView.getMeasuredHeight();
-            if (oldHeight != newHeight) {
-                if (isAtBottom) {
-                    int margin = dipToPixels(MARGIN_DP);
-                    layoutParams.y = getScreenHeight() - newHeight - margin - getNavigationBarHeight();
-                    updateOverlayPosition();
-                }
+        // Update text and visibility
+        if (text == null) {
+            subtitleTextView.setVisibility(View.INVISIBLE);
+        } else {
+            subtitleTextView.setText(text);
+            subtitleTextView.setVisibility(View.VISIBLE);
+        }
+
+        // Re-measure the view to account for text changes
+        int widthSpec = View.MeasureSpec.makeMeasureSpec(getScreenWidth(), View.MeasureSpec.EXACTLY);
+        int heightSpec = View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
+        overlayView.measure(widthSpec, heightSpec);
+        overlayView.layout(0, 0, overlayView.getMeasuredWidth(), overlayView.getMeasuredHeight());
+
+        // Adjust position if height changes and the overlay is at the bottom
+        int newHeight = overlayView.getMeasuredHeight();
+        if (oldHeight != newHeight) {
+            if (isAtBottom) {
+                int margin = dipToPixels(MARGIN_DP);
+                layoutParams.y = getScreenHeight() - newHeight - margin - getNavigationBarHeight();
+                updateOverlayPosition();
             }
-        });
+        }
     }
 
     /**
@@ -529,6 +554,8 @@ public class SubtitleOverlay {
             hide();
             overlayView = null;
             subtitleTextView = null;
+            displayedText = null;
+            isTextApplied = false;
             Logger.printDebug(() -> "Subtitle overlay resources released.");
         });
     }
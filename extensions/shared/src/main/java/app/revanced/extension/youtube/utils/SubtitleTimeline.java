@@ -0,0 +1,117 @@
+package app.revanced.extension.youtube.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Playback cursor over a {@link SubtitleTrack}.
+ * <p>
+ * During normal forward playback the cursor only steps to the following cue, so each update is O(1).
+ * Seeking backwards, or jumping far ahead, falls back to a binary search of the track.
+ * {@link #seekTo(long)} reports if the showing cue changed, so callers only do UI work on transitions,
+ * and {@link #getNextTransitionMs()} gives the time the showing cue will next change.
+ * <p>
+ * Not thread safe. Intended to be used only from the main thread.
+ */
+public final class SubtitleTimeline {
+    /**
+     * Cues to step through linearly before switching to a binary search.
+     */
+    private static final int MAX_LINEAR_STEPS = 8;
+
+    @NonNull
+    private SubtitleTrack track;
+
+    private boolean positioned;
+    private long lastTimeMs;
+    /**
+     * Index of the last cue starting at or before {@link #lastTimeMs}, or -1.
+     */
+    private int floorIndex = -1;
+    /**
+     * Index of the cue showing at {@link #lastTimeMs}, or -1.
+     */
+    private int activeIndex = -1;
+
+    public SubtitleTimeline(@NonNull SubtitleTrack track) {
+        this.track = track;
+    }
+
+    /**
+     * Moves the cursor to the given playback time.
+     *
+     * @return If the showing cue changed, or if this is the first call since creation or {@link #reset()}.
+     */
+    public boolean seekTo(long timeMs) {
+        int floor;
+        if (!positioned || timeMs < lastTimeMs) {
+            floor = track.floorIndex(timeMs);
+        } else {
+            floor = floorIndex;
+            final int size = track.size();
+            int steps = 0;
+            while (floor + 1 < size && track.getStartMs(floor + 1) <= timeMs) {
+                if (++steps > MAX_LINEAR_STEPS) {
+                    floor = track.floorIndex(timeMs);
+                    break;
+                }
+                floor++;
+            }
+        }
+
+        final int active = (floor >= 0 && timeMs < track.getEndMs(floor)) ? floor : -1;
+        final boolean changed = !positioned || active != activeIndex;
+
+        positioned = true;
+        lastTimeMs = timeMs;
+        floorIndex = floor;
+        activeIndex = active;
+        return changed;
+    }
+
+    /**
+     * @return The index of the cue showing at the last seek time, or -1 if no cue is showing.
+     */
+    public int getActiveIndex() {
+        return activeIndex;
+    }
+
+    /**
+     * @return The text of the cue showing at the last seek time, or null if no cue is showing.
+     */
+    @Nullable
+    public String getActiveText() {
+        return activeIndex >= 0 ? track.getText(activeIndex) : null;
+    }
+
+    /**
+     * @return The playback time at which the showing cue will next change,
+     * or {@link Long#MAX_VALUE} if nothing changes after the last seek time.
+     */
+    public long getNextTransitionMs() {
+        final int next = floorIndex + 1;
+        final long nextStart = next < track.size() ? track.getStartMs(next) : Long.MAX_VALUE;
+        if (activeIndex >= 0) {
+            return Math.min(track.getEndMs(activeIndex), nextStart);
+        }
+        return nextStart;
+    }
+
+    /**
+     * Replaces the track, such as with a longer snapshot of a track that is still being streamed.
+     * The cursor position is forgotten, same as {@link #reset()}.
+     */
+    public void setTrack(@NonNull SubtitleTrack track) {
+        this.track = track;
+        reset();
+    }
+
+    /**
+     * Forgets the cursor position, so the next {@link #seekTo(long)} always reports a change.
+     */
+    public void reset() {
+        positioned = false;
+        floorIndex = -1;
+        activeIndex = -1;
+    }
+}
@@ -0,0 +1,296 @@
+package app.revanced.extension.youtube.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable table of timed subtitle cues, sorted by start time.
+ * <p>
+ * Cues are stored as parallel primitive arrays instead of a {@code TreeMap<Long, Pair<Long, String>>},
+ * which removes the boxed keys, the pair objects and the tree nodes for every cue.
+ * A long video with thousands of cues therefore only costs three arrays and the cue strings.
+ */
+public final class SubtitleTrack {
+    /**
+     * Empty track, used when a transcription could not be parsed into any cue.
+     */
+    public static final SubtitleTrack EMPTY = new SubtitleTrack(new long[0], new long[0], new String[0]);
+
+    /**
+     * Identifies a serialized track, and is checked before reading any data.
+     */
+    private static final int SERIALIZATION_MAGIC = 0x52565354; // "RVST"
+    private static final int SERIALIZATION_VERSION = 1;
+
+    /**
+     * Approximate per-cue cost of the two timestamps, expressed in characters.
+     */
+    private static final int CUE_WEIGHT_OVERHEAD = 8;
+
+    private final long[] startMs;
+    private final long[] endMs;
+    private final String[] text;
+    /**
+     * Number of cues. The arrays can be longer if they are shared with a {@link Builder}.
+     */
+    private final int size;
+    private final int weight;
+
+    private SubtitleTrack(long[] startMs, long[] endMs, String[] text) {
+        this(startMs, endMs, text, text.length, computeWeight(text));
+    }
+
+    private SubtitleTrack(long[] startMs, long[] endMs, String[] text, int size, int weight) {
+        this.startMs = startMs;
+        this.endMs = endMs;
+        this.text = text;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    private static int computeWeight(String[] text) {
+        int totalWeight = 0;
+        for (String cueText : text) {
+            totalWeight += cueText.length() + CUE_WEIGHT_OVERHEAD;
+        }
+        return totalWeight;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getStartMs(int index) {
+        return startMs[index];
+    }
+
+    public long getEndMs(int index) {
+        return endMs[index];
+    }
+
+    @NonNull
+    public String getText(int index) {
+        return text[index];
+    }
+
+    /**
+     * @return The index of the last cue starting at or before the given time,
+     * or -1 if the time is before the first cue.
+     */
+    public int floorIndex(long timeMs) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (startMs[mid] <= timeMs) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * @return The index of the cue showing at the given time, or -1 if no cue is showing.
+     */
+    public int indexAt(long timeMs) {
+        final int index = floorIndex(timeMs);
+        return (index >= 0 && timeMs < endMs[index]) ? index : -1;
+    }
+
+    /**
+     * @return The text of the cue showing at the given time, or null if no cue is showing.
+     */
+    @Nullable
+    public String textAt(long timeMs) {
+        final int index = indexAt(timeMs);
+        return index >= 0 ? text[index] : null;
+    }
+
+    /**
+     * Approximate memory weight of this track, in characters.
+     * Used to bound caches holding many tracks.
+     */
+    public int weight() {
+        return weight;
+    }
+
+    /**
+     * Writes this track in a compact binary form readable by {@link #readFrom(DataInputStream)}.
+     * Start times are delta encoded and end times are stored as durations.
+     */
+    public void writeTo(@NonNull DataOutputStream out) throws IOException {
+        out.writeInt(SERIALIZATION_MAGIC);
+        out.writeByte(SERIALIZATION_VERSION);
+        out.writeInt(size);
+        long previousStart = 0;
+        for (int i = 0; i < size; i++) {
+            out.writeLong(startMs[i] - previousStart);
+            out.writeLong(endMs[i] - startMs[i]);
+            byte[] textBytes = text[i].getBytes(StandardCharsets.UTF_8);
+            out.writeInt(textBytes.length);
+            out.write(textBytes);
+            previousStart = startMs[i];
+        }
+    }
+
+    /**
+     * Reads a track previously written with {@link #writeTo(DataOutputStream)}.
+     *
+     * @throws IOException If the data is not a serialized track or is truncated.
+     */
+    @NonNull
+    public static SubtitleTrack readFrom(@NonNull DataInputStream in) throws IOException {
+        if (in.readInt() != SERIALIZATION_MAGIC) {
+            throw new IOException("Not a serialized subtitle track");
+        }
+        final int version = in.readUnsignedByte();
+        if (version != SERIALIZATION_VERSION) {
+            throw new IOException("Unsupported subtitle track version: " + version);
+        }
+        final int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid subtitle track size: " + size);
+        }
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        String[] texts = new String[size];
+        long previousStart = 0;
+        for (int i = 0; i < size; i++) {
+            starts[i] = previousStart + in.readLong();
+            ends[i] = starts[i] + in.readLong();
+            byte[] textBytes = new byte[in.readInt()];
+            in.readFully(textBytes);
+            texts[i] = new String(textBytes, StandardCharsets.UTF_8);
+            previousStart = starts[i];
+        }
+        return new SubtitleTrack(starts, ends, texts);
+    }
+
+    /**
+     * Collects cues in any order and produces a sorted {@link SubtitleTrack}.
+     * If multiple cues share the same start time, the last one added is kept.
+     */
+    public static final class Builder {
+        private long[] startMs;
+        private long[] endMs;
+        private String[] text;
+        private int size;
+        /**
+         * If every cue starts after the previous cue, so the cues need no sorting or deduplication.
+         */
+        private boolean inOrder = true;
+        private int weight;
+
+        public Builder() {
+            this(16);
+        }
+
+        public Builder(int expectedSize) {
+            final int capacity = Math.max(expectedSize, 1);
+            startMs = new long[capacity];
+            endMs = new long[capacity];
+            text = new String[capacity];
+        }
+
+        @NonNull
+        public Builder add(long start, long end, @NonNull String cueText) {
+            if (size == startMs.length) {
+                final int newCapacity = size * 2;
+                startMs = Arrays.copyOf(startMs, newCapacity);
+                endMs = Arrays.copyOf(endMs, newCapacity);
+                text = Arrays.copyOf(text, newCapacity);
+            }
+            if (size > 0 && start <= startMs[size - 1]) {
+                inOrder = false;
+            }
+            startMs[size] = start;
+            endMs[size] = end;
+            text[size] = cueText;
+            weight += cueText.length() + CUE_WEIGHT_OVERHEAD;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns a track of the cues added so far, for showing a track that is still growing.
+         * <p>
+         * While cues are added in order this takes constant time, as the track shares the arrays of this builder.
+         * Later calls to {@link #add} only write past the end of the track, so the track never changes.
+         * Use {@link #build()} for a track that is kept, so it doesn't hold the unused capacity of the builder.
+         */
+        @NonNull
+        public SubtitleTrack snapshot() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (inOrder) {
+                return new SubtitleTrack(startMs, endMs, text, size, weight);
+            }
+            return build();
+        }
+
+        @NonNull
+        public SubtitleTrack build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            // Subtitles almost always arrive in order, so only sort if needed.
+            boolean sorted = true;
+            for (int i = 1; i < size; i++) {
+                if (startMs[i] < startMs[i - 1]) {
+                    sorted = false;
+                    break;
+                }
+            }
+
+            Integer[] order = null;
+            if (!sorted) {
+                order = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    order[i] = i;
+                }
+                // Stable sort, so duplicates keep their insertion order.
+                Arrays.sort(order, (a, b) -> Long.compare(startMs[a], startMs[b]));
+            }
+
+            long[] starts = new long[size];
+            long[] ends = new long[size];
+            String[] texts = new String[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                final int source = (order == null) ? i : order[i];
+                if (count > 0 && starts[count - 1] == startMs[source]) {
+                    count--; // Same start time, the later cue replaces the earlier one.
+                }
+                starts[count] = startMs[source];
+                ends[count] = endMs[source];
+                texts[count] = text[source];
+                count++;
+            }
+
+            if (count != size) {
+                starts = Arrays.copyOf(starts, count);
+                ends = Arrays.copyOf(ends, count);
+                texts = Arrays.copyOf(texts, count);
+            }
+            return new SubtitleTrack(starts, ends, texts);
+        }
+    }
+}
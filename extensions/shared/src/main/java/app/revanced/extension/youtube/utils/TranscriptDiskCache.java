@@ -0,0 +1,238 @@
+package app.revanced.extension.youtube.utils;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.Utils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Disk tier for transcripts evicted from the in memory caches of {@link GeminiManager}.
+ * <p>
+ * Parsed tracks and raw transcriptions are written deflated to the app cache directory.
+ * All file access is done on a single background thread, and the directory is bounded by
+ * {@link #MAX_DISK_BYTES} by deleting the least recently written files.
+ * <p>
+ * Files are deleted when the cache is first used, so spilled transcripts
+ * live only as long as the process, same as the in memory caches.
+ */
+final class TranscriptDiskCache {
+    private static final String DIRECTORY_NAME = "revanced_gemini_transcripts";
+    private static final String TRACK_FILE_SUFFIX = ".track";
+    private static final String RAW_FILE_SUFFIX = ".raw";
+    private static final long MAX_DISK_BYTES = 16 * 1024 * 1024;
+
+    interface RestoreCallback {
+        /**
+         * Called on the background thread, with whatever could be read from disk.
+         */
+        void onRestored(@Nullable SubtitleTrack track, @Nullable String rawTranscription);
+    }
+
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "revanced-transcript-cache");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * Video ids with a spilled parsed track or raw transcription.
+     * Updated synchronously so callers on any thread can check for a disk entry without file access.
+     */
+    private final Set<String> spilledTracks = ConcurrentHashMap.newKeySet();
+    private final Set<String> spilledRaw = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Cache directory. Only accessed on the io thread.
+     */
+    @Nullable
+    private File directory;
+    private boolean directoryInitialized;
+
+    boolean contains(@NonNull String videoId) {
+        return spilledTracks.contains(videoId) || spilledRaw.contains(videoId);
+    }
+
+    void spillTrack(@NonNull String videoId, @NonNull SubtitleTrack track) {
+        spilledTracks.add(videoId);
+        ioExecutor.execute(() -> {
+            File file = getFile(videoId, TRACK_FILE_SUFFIX);
+            if (file == null) {
+                spilledTracks.remove(videoId);
+                return;
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new DeflaterOutputStream(new FileOutputStream(file))))) {
+                track.writeTo(out);
+            } catch (IOException ex) {
+                Logger.printException(() -> "Failed to spill transcript track: " + videoId, ex);
+                deleteSpilled(videoId, file, spilledTracks);
+                return;
+            }
+            trimToSize();
+        });
+    }
+
+    void spillRaw(@NonNull String videoId, @NonNull String rawTranscription) {
+        spilledRaw.add(videoId);
+        ioExecutor.execute(() -> {
+            File file = getFile(videoId, RAW_FILE_SUFFIX);
+            if (file == null) {
+                spilledRaw.remove(videoId);
+                return;
+            }
+            try (OutputStream out = new DeflaterOutputStream(new FileOutputStream(file))) {
+                out.write(rawTranscription.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException ex) {
+                Logger.printException(() -> "Failed to spill raw transcription: " + videoId, ex);
+                deleteSpilled(videoId, file, spilledRaw);
+                return;
+            }
+            trimToSize();
+        });
+    }
+
+    /**
+     * Discards any spilled data for a video, such as when a newer result replaces it.
+     */
+    void invalidate(@NonNull String videoId) {
+        final boolean hadTrack = spilledTracks.remove(videoId);
+        final boolean hadRaw = spilledRaw.remove(videoId);
+        if (!hadTrack && !hadRaw) return;
+
+        ioExecutor.execute(() -> {
+            deleteFile(getFile(videoId, TRACK_FILE_SUFFIX));
+            deleteFile(getFile(videoId, RAW_FILE_SUFFIX));
+        });
+    }
+
+    /**
+     * Reads and removes the spilled data for a video.
+     * The callback is always called, even if nothing could be read.
+     */
+    void restoreAsync(@NonNull String videoId, @NonNull RestoreCallback callback) {
+        final boolean hasTrack = spilledTracks.remove(videoId);
+        final boolean hasRaw = spilledRaw.remove(videoId);
+
+        ioExecutor.execute(() -> {
+            SubtitleTrack track = null;
+            String raw = null;
+
+            File trackFile = getFile(videoId, TRACK_FILE_SUFFIX);
+            if (hasTrack && trackFile != null) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                        new InflaterInputStream(new FileInputStream(trackFile))))) {
+                    track = SubtitleTrack.readFrom(in);
+                } catch (IOException ex) {
+                    Logger.printException(() -> "Failed to restore transcript track: " + videoId, ex);
+                }
+            }
+            deleteFile(trackFile);
+
+            File rawFile = getFile(videoId, RAW_FILE_SUFFIX);
+            if (hasRaw && rawFile != null) {
+                try (InputStream in = new InflaterInputStream(new FileInputStream(rawFile))) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        bytes.write(buffer, 0, read);
+                    }
+                    raw = bytes.toString(StandardCharsets.UTF_8.name());
+                } catch (IOException ex) {
+                    Logger.printException(() -> "Failed to restore raw transcription: " + videoId, ex);
+                }
+            }
+            deleteFile(rawFile);
+
+            SubtitleTrack finalTrack = track;
+            String finalRaw = raw;
+            Logger.printDebug(() -> "Restored transcript from disk: " + videoId
+                    + " track: " + (finalTrack != null) + " raw: " + (finalRaw != null));
+            callback.onRestored(track, raw);
+        });
+    }
+
+    /**
+     * Must be called on the io thread.
+     */
+    @Nullable
+    private File getFile(@NonNull String videoId, @NonNull String suffix) {
+        if (!directoryInitialized) {
+            directoryInitialized = true;
+            Context context = Utils.getContext();
+            if (context != null) {
+                File dir = new File(context.getCacheDir(), DIRECTORY_NAME);
+                // Remove anything left over from a previous process.
+                File[] stale = dir.listFiles();
+                if (stale != null) {
+                    for (File file : stale) {
+                        deleteFile(file);
+                    }
+                }
+                if (dir.isDirectory() || dir.mkdirs()) {
+                    directory = dir;
+                } else {
+                    Logger.printException(() -> "Could not create transcript cache directory: " + dir);
+                }
+            }
+        }
+        if (directory == null) return null;
+
+        // Video ids are url safe, but sanitize anyway in case an id could not be extracted from a url.
+        return new File(directory, videoId.replaceAll("[^0-9A-Za-z_-]", "_") + suffix);
+    }
+
+    /**
+     * Deletes the oldest files until the directory fits within {@link #MAX_DISK_BYTES}.
+     * Must be called on the io thread.
+     */
+    private void trimToSize() {
+        if (directory == null) return;
+        File[] files = directory.listFiles();
+        if (files == null) return;
+
+        long totalBytes = 0;
+        for (File file : files) {
+            totalBytes += file.length();
+        }
+        if (totalBytes <= MAX_DISK_BYTES) return;
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (totalBytes <= MAX_DISK_BYTES) break;
+            totalBytes -= file.length();
+
+            String name = file.getName();
+            if (name.endsWith(TRACK_FILE_SUFFIX)) {
+                spilledTracks.remove(name.substring(0, name.length() - TRACK_FILE_SUFFIX.length()));
+            } else if (name.endsWith(RAW_FILE_SUFFIX)) {
+                spilledRaw.remove(name.substring(0, name.length() - RAW_FILE_SUFFIX.length()));
+            }
+            deleteFile(file);
+            Logger.printDebug(() -> "Trimmed transcript cache file: " + name);
+        }
+    }
+
+    private static void deleteSpilled(@NonNull String videoId, @NonNull File file, @NonNull Set<String> index) {
+        index.remove(videoId);
+        deleteFile(file);
+    }
+
+    private static void deleteFile(@Nullable File file) {
+        if (file != null && file.exists() && !file.delete()) {
+            Logger.printDebug(() -> "Could not delete transcript cache file: " + file);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package app.revanced.extension.youtube.utils;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import app.revanced.extension.shared.utils.Logger;
+import app.revanced.extension.shared.utils.Utils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Persistent cache of subtitles downloaded by {@link YandexVotUtils}.
+ * <p>
+ * Entries are keyed by video id and language pair, and hold the subtitle json exactly as downloaded.
+ * Yandex always detects the source language, so the pair is identified by the requested target language.
+ * Unlike {@link TranscriptDiskCache}, entries survive app restarts, so a repeat request for a video
+ * does not need a session, a translation request or any polling.
+ * <p>
+ * Methods do blocking file access and must be called from a background thread.
+ */
+final class YandexSubtitleDiskCache {
+    private static final String DIRECTORY_NAME = "revanced_yandex_subtitles";
+    private static final String FILE_SUFFIX = ".json.z";
+    private static final String SOURCE_LANGUAGE = "auto";
+    private static final long MAX_DISK_BYTES = 8 * 1024 * 1024;
+    private static final long MAX_ENTRY_AGE_MS = TimeUnit.DAYS.toMillis(7);
+
+    @Nullable
+    private File directory;
+    private boolean directoryInitialized;
+
+    /**
+     * @return The cached subtitle json, or null if not cached or expired.
+     */
+    @Nullable
+    synchronized String get(@NonNull String videoId, @NonNull String targetLanguage) {
+        File file = getFile(videoId, targetLanguage);
+        if (file == null || !file.isFile()) return null;
+
+        if (System.currentTimeMillis() - file.lastModified() > MAX_ENTRY_AGE_MS) {
+            Logger.printDebug(() -> "VOT: Expired cached subtitles: " + file.getName());
+            deleteFile(file);
+            return null;
+        }
+
+        try (InputStream in = new InflaterInputStream(new FileInputStream(file))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return bytes.toString(StandardCharsets.UTF_8.name());
+        } catch (IOException ex) {
+            Logger.printException(() -> "VOT: Failed to read cached subtitles: " + file.getName(), ex);
+            deleteFile(file);
+            return null;
+        }
+    }
+
+    synchronized void put(@NonNull String videoId, @NonNull String targetLanguage, @NonNull String subtitleJson) {
+        File file = getFile(videoId, targetLanguage);
+        if (file == null) return;
+
+        try (OutputStream out = new DeflaterOutputStream(new FileOutputStream(file))) {
+            out.write(subtitleJson.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            Logger.printException(() -> "VOT: Failed to cache subtitles: " + file.getName(), ex);
+            deleteFile(file);
+            return;
+        }
+        trimToSize();
+    }
+
+    @Nullable
+    private File getFile(@NonNull String videoId, @NonNull String targetLanguage) {
+        if (!directoryInitialized) {
+            directoryInitialized = true;
+            Context context = Utils.getContext();
+            if (context != null) {
+                File dir = new File(context.getCacheDir(), DIRECTORY_NAME);
+                if (dir.isDirectory() || dir.mkdirs()) {
+                    directory = dir;
+                } else {
+                    Logger.printException(() -> "VOT: Could not create subtitle cache directory: " + dir);
+                }
+            }
+        }
+        if (directory == null) return null;
+
+        String name = videoId + "_" + SOURCE_LANGUAGE + "-" + targetLanguage;
+        return new File(directory, name.replaceAll("[^0-9A-Za-z_-]", "_") + FILE_SUFFIX);
+    }
+
+    /**
+     * Deletes expired files, then the oldest files until the directory fits within {@link #MAX_DISK_BYTES}.
+     */
+    private void trimToSize() {
+        if (directory == null) return;
+        File[] files = directory.listFiles();
+        if (files == null) return;
+
+        final long now = System.currentTimeMillis();
+        long totalBytes = 0;
+        for (File file : files) {
+            totalBytes += file.length();
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (totalBytes <= MAX_DISK_BYTES && now - file.lastModified() <= MAX_ENTRY_AGE_MS) break;
+            totalBytes -= file.length();
+            deleteFile(file);
+            Logger.printDebug(() -> "VOT: Trimmed subtitle cache file: " + file.getName());
+        }
+    }
+
+    private static void deleteFile(@NonNull File file) {
+        if (file.exists() && !file.delete()) {
+            Logger.printDebug(() -> "VOT: Could not delete subtitle cache file: " + file);
+        }
+    }
+}
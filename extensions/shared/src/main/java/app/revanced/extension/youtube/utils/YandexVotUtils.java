@@ -3,7 +3,6 @@ package app.revanced.extension.youtube.utils;
 import android.os.Handler;
 import android.os.Looper;
 import android.text.TextUtils;
-import android.util.Pair;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import app.revanced.extension.shared.utils.Logger;
@@ -68,6 +67,11 @@ public class YandexVotUtils {
     private static final int MIN_POLLING_INTERVAL_MS = 5000;  // Poll at least every 5 seconds
     private static final int MAX_POLLING_INTERVAL_MS = 60000; // Poll at most every 60 seconds
     private static final int POLLING_TIME_BUFFER_MS = 2000; // Add 2-second buffer to remainingTime
+    private static final int MAX_POLLING_BACKOFF_EXPONENT = 4; // 5s, 10s, 20s, 40s, 60s (capped)
+    private static final double POLLING_JITTER_FRACTION = 0.2; // Randomize each delay by up to 20%
+    private static final long AUDIO_REQUESTED_POLLING_DELAY_MS = 1000;
+    private static final long WORKFLOW_FINISHED = -1;
+    private static final int WORKFLOW_THREAD_COUNT = 2;
     private static final long WORKFLOW_TIMEOUT_MS = 15 * 60 * 1000; // 15 minutes total timeout
 
     private static final int MAX_STUCK_POLLS = 3;
@@ -82,13 +86,19 @@ public class YandexVotUtils {
             .writeTimeout(20, TimeUnit.SECONDS)
             .build();
     private static final ReentrantLock sessionLock = new ReentrantLock();
-    private static final Map<String, AtomicBoolean> urlCancellationFlags = new ConcurrentHashMap<>();
-    private static final Map<String, AtomicBoolean> urlWorkflowLocks = new ConcurrentHashMap<>();
+    /**
+     * Running workflows, keyed by video url and Yandex language.
+     */
+    private static final Map<String, Workflow> activeWorkflows = new ConcurrentHashMap<>();
     private static final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
     private static volatile SessionInfo currentSession = null;
+    private static final YandexSubtitleDiskCache subtitleDiskCache = new YandexSubtitleDiskCache();
 
-    private static final ExecutorService workflowExecutor = Executors.newCachedThreadPool();
-    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    /**
+     * Runs all workflow steps. Steps block on network access,
+     * so a few threads are used to keep workflows for different videos independent.
+     */
+    private static final ScheduledExecutorService workflowScheduler = Executors.newScheduledThreadPool(WORKFLOW_THREAD_COUNT);
 
     // region Session Management
 
@@ -185,7 +195,10 @@ public class YandexVotUtils {
     /**
      * Initiates an asynchronous workflow to fetch Yandex translated subtitles for a video URL.
      * Manages session creation, subtitle checking, translation requests, polling, and subtitle fetching.
-     * Ensures only one workflow runs per URL at a time.
+     * <p>
+     * Only one workflow runs per video and Yandex language. A request for a video that already has a
+     * workflow running joins that workflow, and receives the same result once it completes.
+     * Downloaded subtitles are cached on disk, so repeat requests complete without any network access.
      *
      * @param videoUrl           The YouTube video URL.
      * @param durationSeconds    The video duration in seconds.
@@ -207,225 +220,337 @@ public class YandexVotUtils {
             Logger.printInfo(() -> "VOT: Unsupported language " + originalTargetLang + ". Using intermediate language: " + yandexTargetLang);
         }
 
-        AtomicBoolean lock = urlWorkflowLocks.computeIfAbsent(videoUrl, k -> new AtomicBoolean(false));
-        if (!lock.compareAndSet(false, true)) {
-            Logger.printInfo(() -> "VOT: Workflow already running for " + videoUrl);
-            return;
-        }
+        WorkflowSubscriber subscriber = new WorkflowSubscriber(originalTargetLang, callback);
+        String workflowKey = videoUrl + "|" + yandexTargetLang;
+        AtomicBoolean isNewWorkflow = new AtomicBoolean();
 
-        AtomicBoolean isCancelled = urlCancellationFlags.computeIfAbsent(videoUrl, k -> new AtomicBoolean(false));
+        Workflow workflow = activeWorkflows.compute(workflowKey, (key, existing) -> {
+            if (existing != null && !existing.isCancelled.get()) {
+                existing.subscribers.add(subscriber);
+                return existing;
+            }
+            isNewWorkflow.set(true);
+            Workflow created = new Workflow(key, videoUrl, durationSeconds, yandexTargetLang);
+            created.subscribers.add(subscriber);
+            return created;
+        });
 
-        SubtitleWorkflowCallback wrappedCallback = new SubtitleWorkflowCallback() {
-            private final AtomicBoolean finalCalled = new AtomicBoolean(false);
+        if (isNewWorkflow.get()) {
+            workflowScheduler.execute(() -> runWorkflow(workflow));
+        } else {
+            Logger.printInfo(() -> "VOT: Joined running workflow for " + videoUrl);
+            String status = workflow.lastStatusMessage;
+            if (status != null) {
+                postToMainThread(() -> subscriber.onProcessingStarted(status));
+            }
+        }
+    }
 
-            @Override
-            public void onFinalSuccess(TreeMap<Long, Pair<Long, String>> parsedSubtitles) {
-                if (finalCalled.compareAndSet(false, true)) {
-                    Logger.printDebug(() -> "VOT: Final success for " + videoUrl + ". Releasing lock.");
-                    try {
-                        callback.onFinalSuccess(parsedSubtitles);
-                    } finally {
-                        cleanupWorkflow(videoUrl);
-                    }
+    /**
+     * Advances the workflow state machine until it must wait, then schedules the next step.
+     * Steps of a single workflow never run concurrently, as each step schedules the next one only when it ends.
+     *
+     * @param workflow The workflow to advance.
+     */
+    private static void runWorkflow(Workflow workflow) {
+        try {
+            long delayMs;
+            do {
+                if (workflow.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
+                if (System.currentTimeMillis() - workflow.startTime >= WORKFLOW_TIMEOUT_MS) {
+                    throw new IOException("Workflow timeout after " + (WORKFLOW_TIMEOUT_MS / 1000) + "s");
                 }
+                delayMs = advanceWorkflow(workflow);
+            } while (delayMs == 0);
+
+            if (delayMs > 0) {
+                final long finalDelayMs = delayMs;
+                Logger.printDebug(() -> "VOT: Scheduling next step in " + (finalDelayMs / 1000.0) + "s");
+                workflow.pendingStep = workflowScheduler.schedule(() -> runWorkflow(workflow), delayMs, TimeUnit.MILLISECONDS);
             }
+        } catch (InterruptedException e) {
+            Logger.printInfo(() -> "VOT: Workflow cancelled for " + workflow.videoUrl);
+            finishWithFailure(workflow, str("revanced_gemini_cancelled"));
+        } catch (Exception e) {
+            Logger.printException(() -> "VOT: Workflow failed in phase " + workflow.phase + ": " + e.getMessage(), e);
+            String userMessage = (e instanceof IOException || e instanceof GeneralSecurityException)
+                    ? (e.getMessage() != null ? e.getMessage() : str("revanced_yandex_error_network_generic"))
+                    : str("revanced_yandex_error_unknown") + (e.getMessage() != null ? ": " + translateServerMessage(e.getMessage()) : "");
+            finishWithFailure(workflow, userMessage);
+        }
+    }
 
-            @Override
-            public void onIntermediateSuccess(String rawIntermediateJson, String intermediateLang) {
-                if (!finalCalled.get() && !isCancelled.get()) {
-                    Logger.printDebug(() -> "VOT: Intermediate success for " + videoUrl + " (Lang: " + intermediateLang + ")");
-                    callback.onIntermediateSuccess(rawIntermediateJson, intermediateLang);
+    /**
+     * Runs the current phase of the workflow.
+     *
+     * @param workflow The workflow to advance.
+     * @return Zero to run the next phase immediately, a positive delay in milliseconds
+     * to wait before running the next phase, or {@link #WORKFLOW_FINISHED}.
+     */
+    private static long advanceWorkflow(Workflow workflow) throws Exception {
+        switch (workflow.phase) {
+            case CHECK_CACHE: {
+                String cachedSubtitles = subtitleDiskCache.get(workflow.videoId, workflow.yandexTargetLang);
+                if (cachedSubtitles != null) {
+                    Logger.printInfo(() -> "VOT: Using cached subtitles for " + workflow.videoId + " (" + workflow.yandexTargetLang + ")");
+                    finishWithSubtitles(workflow, cachedSubtitles);
+                    return WORKFLOW_FINISHED;
                 }
+                workflow.phase = WorkflowPhase.CHECK_EXISTING_SUBTITLES;
+                return 0;
             }
 
-            @Override
-            public void onFinalFailure(String errorMessage) {
-                if (finalCalled.compareAndSet(false, true)) {
-                    Logger.printDebug(() -> "VOT: Final failure for " + videoUrl + ". Releasing lock.");
-                    try {
-                        callback.onFinalFailure(errorMessage);
-                    } finally {
-                        cleanupWorkflow(videoUrl);
+            case CHECK_EXISTING_SUBTITLES: {
+                Logger.printInfo(() -> "VOT: Step 1/3 - Ensuring session...");
+                SessionInfo session = ensureSession();
+                postStatus(workflow, str("revanced_yandex_status_session_ok"));
+
+                Logger.printInfo(() -> "VOT: Step 2/3 - Checking existing subtitles for lang: " + workflow.yandexTargetLang);
+                ManualSubtitlesResponse subsResponse = getFinalSubtitleTracks(workflow.videoUrl, session);
+                if (subsResponse != null && !subsResponse.waiting) {
+                    ManualSubtitlesObject chosenSub = findBestSubtitleForLanguage(subsResponse.subtitles, workflow.yandexTargetLang);
+                    String subtitleUrl = chosenSub != null ? determineSubtitleUrl(chosenSub, workflow.yandexTargetLang) : null;
+                    if (!TextUtils.isEmpty(subtitleUrl)) {
+                        Logger.printInfo(() -> "VOT: Found existing subtitles for " + workflow.yandexTargetLang + ". Skipping translation.");
+                        postStatus(workflow, str("revanced_yandex_status_subs_found"));
+                        workflow.subtitleUrl = subtitleUrl;
+                        workflow.phase = WorkflowPhase.FETCH_SUBTITLES;
+                        return 0;
                     }
                 }
+
+                Logger.printInfo(() -> "VOT: Step 3/3 - Requesting translation for " + workflow.yandexTargetLang);
+                postStatus(workflow, str("revanced_yandex_status_requesting_translation"));
+                workflow.phase = WorkflowPhase.POLL_TRANSLATION;
+                return 0;
             }
 
-            @Override
-            public void onProcessingStarted(String statusMessage) {
-                if (!finalCalled.get() && !isCancelled.get()) {
-                    callback.onProcessingStarted(statusMessage);
-                }
+            case POLL_TRANSLATION:
+                return pollForTranslation(workflow);
+
+            case FETCH_SUBTITLES: {
+                String subtitleUrl = Objects.requireNonNull(workflow.subtitleUrl);
+                Logger.printInfo(() -> "VOT: Fetching subtitle from: " + subtitleUrl);
+                String subtitleText = fetchSubtitleContent(subtitleUrl);
+                Logger.printInfo(() -> "VOT: Fetched subtitle content (" + workflow.yandexTargetLang + ", " + subtitleText.length() + " chars)");
+                subtitleDiskCache.put(workflow.videoId, workflow.yandexTargetLang, subtitleText);
+                finishWithSubtitles(workflow, subtitleText);
+                return WORKFLOW_FINISHED;
             }
-        };
 
-        WorkflowState state = new WorkflowState(videoUrl, durationSeconds, originalTargetLang, yandexTargetLang, wrappedCallback, isCancelled);
-        workflowExecutor.submit(() -> startWorkflow(state));
+            default:
+                throw new IllegalStateException("Unknown workflow phase: " + workflow.phase);
+        }
     }
 
     /**
-     * The entry point for the background workflow thread.
+     * Performs a single poll for translation status.
      *
-     * @param state The current workflow state.
+     * @param workflow The current workflow.
+     * @return The delay before the next phase, as defined by {@link #advanceWorkflow(Workflow)}.
      */
-    private static void startWorkflow(WorkflowState state) {
-        try {
-            Logger.printInfo(() -> "VOT: Step 1/3 - Ensuring session...");
-            if (state.isCancelled.get()) throw new InterruptedException("Workflow cancelled before start");
-            SessionInfo session = ensureSession();
-            postToMainThread(() -> state.callback.onProcessingStarted(str("revanced_yandex_status_session_ok")));
-
-            Logger.printInfo(() -> "VOT: Step 2/3 - Checking existing subtitles for lang: " + state.yandexTargetLang);
-            if (state.isCancelled.get()) throw new InterruptedException("Workflow cancelled during subtitle check");
-            ManualSubtitlesResponse subsResponse = getFinalSubtitleTracks(state.videoUrl, session);
-            if (subsResponse != null && !subsResponse.waiting) {
-                ManualSubtitlesObject chosenSub = findBestSubtitleForLanguage(subsResponse.subtitles, state.yandexTargetLang);
-                String subtitleUrl = chosenSub != null ? determineSubtitleUrl(chosenSub, state.yandexTargetLang) : null;
-                if (chosenSub != null && !TextUtils.isEmpty(subtitleUrl)) {
-                    Logger.printInfo(() -> "VOT: Found existing subtitles for " + state.yandexTargetLang + ". Skipping translation.");
-                    postToMainThread(() -> state.callback.onProcessingStarted(str("revanced_yandex_status_subs_found")));
-                    processAndFetchFinalSubtitles(subsResponse, state.originalTargetLang, state.yandexTargetLang, state.callback);
-                    return;
+    private static long pollForTranslation(Workflow workflow) throws Exception {
+        SessionInfo session = ensureSession();
+        String videoTitle = getVideoTitle();
+        ManualVideoTranslationResponse transResponse = requestTranslation(workflow.videoUrl, workflow.yandexTargetLang, session, workflow.durationSeconds, videoTitle);
+
+        Logger.printInfo(() -> "VOT: Poll - Status: " + transResponse.status +
+                ", RemainingTime: " + transResponse.remainingTime + "s, Message: " + transResponse.message);
+
+        switch (transResponse.status) {
+            case STATUS_SUCCESS:
+            case STATUS_PART_CONTENT:
+                Logger.printInfo(() -> "VOT: Translation completed for " + workflow.yandexTargetLang);
+                if (workflow.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
+                ManualSubtitlesResponse subsResponse = getFinalSubtitleTracks(workflow.videoUrl, session);
+                workflow.subtitleUrl = selectFinalSubtitleUrl(subsResponse, workflow.yandexTargetLang);
+                workflow.phase = WorkflowPhase.FETCH_SUBTITLES;
+                return 0;
+
+            case STATUS_AUDIO_REQUESTED:
+                Logger.printInfo(() -> "VOT: Handling STATUS_AUDIO_REQUESTED for YouTube");
+                postStatus(workflow, str("revanced_yandex_status_youtube_specific"));
+                if (workflow.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
+                sendFailAudioJsRequest(workflow.videoUrl);
+                if (workflow.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
+                sendAudioRequest(workflow.videoUrl, transResponse.translationId, session);
+                return AUDIO_REQUESTED_POLLING_DELAY_MS;
+
+            case STATUS_PROCESSING:
+            case STATUS_LONG_PROCESSING:
+                if (!workflow.isStuck) {
+                    if (transResponse.remainingTime > 0 && transResponse.remainingTime == workflow.lastRemainingTime) {
+                        workflow.stuckPollCount++;
+                    } else {
+                        workflow.stuckPollCount = 0; // Reset counter if time changes
+                    }
+                    workflow.lastRemainingTime = transResponse.remainingTime;
+
+                    if (workflow.stuckPollCount >= MAX_STUCK_POLLS) {
+                        Logger.printInfo(() -> "VOT: Poll is now considered stuck. Setting persistent delayed state.");
+                        workflow.isStuck = true;
+                    }
                 }
-            }
 
-            Logger.printInfo(() -> "VOT: Step 3/3 - Requesting translation for " + state.yandexTargetLang);
-            postToMainThread(() -> state.callback.onProcessingStarted(str("revanced_yandex_status_requesting_translation")));
+                if (workflow.isStuck) {
+                    postStatus(workflow, str("revanced_yandex_status_transcription_delayed"));
+                } else {
+                    postStatus(workflow, secsToStrTime(transResponse.remainingTime));
+                }
 
-            // Start the first poll immediately
-            pollForTranslation(state);
-        } catch (InterruptedException e) {
-            Logger.printInfo(() -> "VOT: Workflow cancelled for " + state.videoUrl);
-            postToMainThread(() -> state.callback.onFinalFailure(str("revanced_gemini_cancelled")));
-        } catch (Exception e) {
-            Logger.printException(() -> "VOT: Workflow failed during initialization: " + e.getMessage(), e);
-            String userMessage = (e instanceof IOException || e instanceof GeneralSecurityException)
-                    ? (e.getMessage() != null ? e.getMessage() : str("revanced_yandex_error_network_generic"))
-                    : str("revanced_yandex_error_unknown") + (e.getMessage() != null ? ": " + e.getMessage() : "");
-            postToMainThread(() -> state.callback.onFinalFailure(userMessage));
+                return calculatePollingDelay(workflow, transResponse.remainingTime);
+
+            case STATUS_FAILED:
+            default:
+                String errMsg = str("revanced_yandex_error_translation_failed") +
+                        (TextUtils.isEmpty(transResponse.message) ? "" : ": " + translateServerMessage(transResponse.message));
+                throw new IOException(errMsg);
         }
     }
 
     /**
-     * Performs a single poll for translation status and schedules the next one if needed.
-     *
-     * @param state The current workflow state.
+     * Completes a workflow with downloaded subtitle json, and delivers it to every subscriber.
+     * Subscribers wanting the Yandex language receive parsed subtitles,
+     * and all others receive the json for a secondary translation.
      */
-    private static void pollForTranslation(WorkflowState state) {
-        workflowExecutor.submit(() -> {
-            try {
-                if (state.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
-                if (System.currentTimeMillis() - state.startTime >= WORKFLOW_TIMEOUT_MS) {
-                    throw new IOException("Workflow timeout after " + (WORKFLOW_TIMEOUT_MS / 1000) + "s");
-                }
+    private static void finishWithSubtitles(Workflow workflow, String subtitleText) {
+        // Once removed, no other request can join, so the subscriber list is final.
+        activeWorkflows.remove(workflow.key, workflow);
+
+        SubtitleTrack parsedData = null;
+        boolean parsed = false;
+        for (WorkflowSubscriber subscriber : workflow.subscribers) {
+            if (!subscriber.originalTargetLang.equals(workflow.yandexTargetLang)) {
+                Logger.printInfo(() -> "VOT: Passing raw JSON for secondary translation to " + subscriber.originalTargetLang);
+                postToMainThread(() -> subscriber.onIntermediateSuccess(subtitleText, workflow.yandexTargetLang));
+                continue;
+            }
 
-                SessionInfo session = ensureSession();
-                String videoTitle = getVideoTitle();
-                ManualVideoTranslationResponse transResponse = requestTranslation(state.videoUrl, state.yandexTargetLang, session, state.durationSeconds, videoTitle);
-
-                Logger.printInfo(() -> "VOT: Poll - Status: " + transResponse.status +
-                        ", RemainingTime: " + transResponse.remainingTime + "s, Message: " + transResponse.message);
-
-                switch (transResponse.status) {
-                    case STATUS_SUCCESS:
-                    case STATUS_PART_CONTENT:
-                        Logger.printInfo(() -> "VOT: Translation completed for " + state.yandexTargetLang);
-                        if (state.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
-                        ManualSubtitlesResponse subsResponse = getFinalSubtitleTracks(state.videoUrl, session);
-                        processAndFetchFinalSubtitles(subsResponse, state.originalTargetLang, state.yandexTargetLang, state.callback);
-                        return; // Workflow complete
-
-                    case STATUS_AUDIO_REQUESTED:
-                        Logger.printInfo(() -> "VOT: Handling STATUS_AUDIO_REQUESTED for YouTube");
-                        postToMainThread(() -> state.callback.onProcessingStarted(str("revanced_yandex_status_youtube_specific")));
-                        if (state.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
-                        sendFailAudioJsRequest(state.videoUrl);
-                        if (state.isCancelled.get()) throw new InterruptedException("Workflow cancelled");
-                        sendAudioRequest(state.videoUrl, transResponse.translationId, session);
-                        // Schedule next poll after a short delay
-                        scheduler.schedule(() -> pollForTranslation(state), 1, TimeUnit.SECONDS);
-                        break;
-
-                    case STATUS_PROCESSING:
-                    case STATUS_LONG_PROCESSING:
-                        if (!state.isStuck) {
-                            if (transResponse.remainingTime > 0 && transResponse.remainingTime == state.lastRemainingTime) {
-                                state.stuckPollCount++;
-                            } else {
-                                state.stuckPollCount = 0; // Reset counter if time changes
-                            }
-                            state.lastRemainingTime = transResponse.remainingTime;
-
-                            if (state.stuckPollCount >= MAX_STUCK_POLLS) {
-                                Logger.printInfo(() -> "VOT: Poll is now considered stuck. Setting persistent delayed state.");
-                                state.isStuck = true;
-                            }
-                        }
+            if (!parsed) {
+                parsed = true;
+                try {
+                    parsedData = parseYandexJsonSubtitles(subtitleText);
+                } catch (Exception e) {
+                    Logger.printException(() -> "VOT: Error processing subtitle content", e);
+                }
+            }
+            if (parsedData == null) {
+                Logger.printException(() -> "VOT: Failed to parse subtitle JSON");
+                postToMainThread(() -> subscriber.onFinalFailure(str("revanced_yandex_error_subs_parsing_failed")));
+            } else {
+                SubtitleTrack finalParsedData = parsedData;
+                Logger.printInfo(() -> "VOT: Parsed " + finalParsedData.size() + " subtitle entries for " + subscriber.originalTargetLang);
+                postToMainThread(() -> subscriber.onFinalSuccess(finalParsedData));
+            }
+        }
+    }
 
-                        if (state.isStuck) {
-                            postToMainThread(() -> state.callback.onProcessingStarted(str("revanced_yandex_status_transcription_delayed")));
-                        } else {
-                            String waitMsg = secsToStrTime(transResponse.remainingTime);
-                            postToMainThread(() -> state.callback.onProcessingStarted(waitMsg));
-                        }
+    /**
+     * Completes a workflow with an error, and delivers it to every subscriber.
+     */
+    private static void finishWithFailure(Workflow workflow, String errorMessage) {
+        activeWorkflows.remove(workflow.key, workflow);
+        for (WorkflowSubscriber subscriber : workflow.subscribers) {
+            postToMainThread(() -> subscriber.onFinalFailure(errorMessage));
+        }
+    }
 
-                        long delayMs = calculateSleepTime(transResponse.remainingTime);
-                        Logger.printDebug(() -> "VOT: Scheduling next poll in " + (delayMs / 1000.0) + "s");
-                        scheduler.schedule(() -> pollForTranslation(state), delayMs, TimeUnit.MILLISECONDS);
-                        break;
+    /**
+     * Posts a progress message to every subscriber, and remembers it for requests joining later.
+     */
+    private static void postStatus(Workflow workflow, String statusMessage) {
+        workflow.lastStatusMessage = statusMessage;
+        for (WorkflowSubscriber subscriber : workflow.subscribers) {
+            postToMainThread(() -> subscriber.onProcessingStarted(statusMessage));
+        }
+    }
 
-                    case STATUS_FAILED:
-                    default:
-                        String errMsg = str("revanced_yandex_error_translation_failed") +
-                                (TextUtils.isEmpty(transResponse.message) ? "" : ": " + translateServerMessage(transResponse.message));
-                        throw new IOException(errMsg);
-                }
-            } catch (InterruptedException e) {
-                Logger.printInfo(() -> "VOT: Polling cancelled for " + state.videoUrl);
-                postToMainThread(() -> state.callback.onFinalFailure(str("revanced_gemini_cancelled")));
-            } catch (Exception e) {
-                Logger.printException(() -> "VOT: Polling failed: " + e.getMessage(), e);
-                String userMessage = (e instanceof IOException || e instanceof GeneralSecurityException)
-                        ? (e.getMessage() != null ? e.getMessage() : str("revanced_yandex_error_network_generic"))
-                        : str("revanced_yandex_error_unknown") + (e.getMessage() != null ? ": " + translateServerMessage(e.getMessage()) : "");
-                postToMainThread(() -> state.callback.onFinalFailure(userMessage));
-            }
-        });
+    /**
+     * Steps of a translation workflow.
+     */
+    private enum WorkflowPhase {
+        CHECK_CACHE,
+        CHECK_EXISTING_SUBTITLES,
+        POLL_TRANSLATION,
+        FETCH_SUBTITLES
     }
 
     /**
      * Internal state holder for a single translation workflow.
+     * Mutable fields are only accessed by workflow steps, which never run concurrently.
      */
-    private static class WorkflowState {
+    private static class Workflow {
+        final String key;
         final String videoUrl;
+        final String videoId;
         final double durationSeconds;
-        final String originalTargetLang;
         final String yandexTargetLang;
-        final SubtitleWorkflowCallback callback;
-        final AtomicBoolean isCancelled;
+        final List<WorkflowSubscriber> subscribers = new CopyOnWriteArrayList<>();
+        final AtomicBoolean isCancelled = new AtomicBoolean(false);
         final long startTime = System.currentTimeMillis();
 
+        WorkflowPhase phase = WorkflowPhase.CHECK_CACHE;
+        @Nullable
+        String subtitleUrl;
         int lastRemainingTime = -1;
         int stuckPollCount = 0;
         boolean isStuck = false;
+        int backoffAttempt = 0;
 
-        WorkflowState(String videoUrl, double durationSeconds, String originalTargetLang, String yandexTargetLang, SubtitleWorkflowCallback callback, AtomicBoolean isCancelled) {
+        @Nullable
+        volatile String lastStatusMessage;
+        @Nullable
+        volatile ScheduledFuture<?> pendingStep;
+
+        Workflow(String key, String videoUrl, double durationSeconds, String yandexTargetLang) {
+            this.key = key;
             this.videoUrl = videoUrl;
+            this.videoId = GeminiManager.getVideoIdFromUrl(videoUrl);
             this.durationSeconds = durationSeconds;
-            this.originalTargetLang = originalTargetLang;
             this.yandexTargetLang = yandexTargetLang;
-            this.callback = callback;
-            this.isCancelled = isCancelled;
         }
     }
 
     /**
-     * Cleans up workflow resources (locks and cancellation flags) for a video URL.
+     * A request waiting on a workflow. Guarantees the request receives at most one final result.
      */
-    private static void cleanupWorkflow(@Nullable String videoUrl) {
-        if (videoUrl == null) return;
-        urlWorkflowLocks.remove(videoUrl);
-        urlCancellationFlags.remove(videoUrl);
-        Logger.printDebug(() -> "VOT: Cleaned up workflow resources for " + videoUrl);
+    private static class WorkflowSubscriber implements SubtitleWorkflowCallback {
+        final String originalTargetLang;
+        private final SubtitleWorkflowCallback callback;
+        private final AtomicBoolean finalCalled = new AtomicBoolean(false);
+
+        WorkflowSubscriber(String originalTargetLang, SubtitleWorkflowCallback callback) {
+            this.originalTargetLang = originalTargetLang;
+            this.callback = callback;
+        }
+
+        @Override
+        public void onFinalSuccess(SubtitleTrack parsedSubtitles) {
+            if (finalCalled.compareAndSet(false, true)) {
+                callback.onFinalSuccess(parsedSubtitles);
+            }
+        }
+
+        @Override
+        public void onIntermediateSuccess(String rawIntermediateJson, String intermediateLang) {
+            if (finalCalled.compareAndSet(false, true)) {
+                callback.onIntermediateSuccess(rawIntermediateJson, intermediateLang);
+            }
+        }
+
+        @Override
+        public void onFinalFailure(String errorMessage) {
+            if (finalCalled.compareAndSet(false, true)) {
+                callback.onFinalFailure(errorMessage);
+            }
+        }
+
+        @Override
+        public void onProcessingStarted(String statusMessage) {
+            if (!finalCalled.get()) {
+                callback.onProcessingStarted(statusMessage);
+            }
+        }
     }
 
     /**
@@ -608,73 +733,78 @@ public class YandexVotUtils {
     // region Utils
 
     /**
-     * Calculates the polling delay based on remaining time.
+     * Calculates the delay before the next translation poll.
+     * <p>
+     * While the server reports a changing remaining time, the next poll is made shortly after that time.
+     * If no remaining time is reported, or the translation is stuck, the delay grows exponentially.
+     * Random jitter is added so that workflows started together do not poll together.
      *
+     * @param workflow          The current workflow.
      * @param remainingTimeSecs The estimated remaining time from the API response (in seconds).
-     * @return The sleep time in milliseconds.
+     * @return The delay in milliseconds.
      */
-    private static long calculateSleepTime(int remainingTimeSecs) {
-        long remainingMs = (long) remainingTimeSecs * 1000;
-        return Math.max(MIN_POLLING_INTERVAL_MS,
-                Math.min(MAX_POLLING_INTERVAL_MS,
-                        (remainingMs >= 0 ? remainingMs : MIN_POLLING_INTERVAL_MS) + POLLING_TIME_BUFFER_MS));
+    private static long calculatePollingDelay(Workflow workflow, int remainingTimeSecs) {
+        long delayMs;
+        if (remainingTimeSecs > 0 && !workflow.isStuck && workflow.stuckPollCount == 0) {
+            workflow.backoffAttempt = 0;
+            delayMs = (long) remainingTimeSecs * 1000 + POLLING_TIME_BUFFER_MS;
+        } else {
+            delayMs = (long) MIN_POLLING_INTERVAL_MS << Math.min(workflow.backoffAttempt, MAX_POLLING_BACKOFF_EXPONENT);
+            workflow.backoffAttempt++;
+        }
+        delayMs = Math.max(MIN_POLLING_INTERVAL_MS, Math.min(MAX_POLLING_INTERVAL_MS, delayMs));
+
+        final double jitter = 1 + (ThreadLocalRandom.current().nextDouble() * 2 - 1) * POLLING_JITTER_FRACTION;
+        return Math.max(MIN_POLLING_INTERVAL_MS, Math.round(delayMs * jitter));
     }
 
     /**
-     * Processes and fetches final subtitle content, selecting the best track and downloading it.
+     * Selects the final subtitle track once translation completed.
      *
-     * @param response           The {@link ManualSubtitlesResponse} from the API.
-     * @param originalTargetLang The user's desired language.
-     * @param yandexTargetLang   The Yandex requested language.
-     * @param callback           The callback for results or errors.
+     * @param response         The {@link ManualSubtitlesResponse} from the API.
+     * @param yandexTargetLang The Yandex requested language.
+     * @return The url of the best subtitle track.
+     * @throws IOException With a user facing message, if no usable track exists.
      */
-    private static void processAndFetchFinalSubtitles(
+    @NonNull
+    private static String selectFinalSubtitleUrl(
             @Nullable ManualSubtitlesResponse response,
-            String originalTargetLang,
-            String yandexTargetLang,
-            SubtitleWorkflowCallback callback
-    ) {
+            String yandexTargetLang
+    ) throws IOException {
         if (response == null) {
             Logger.printException(() -> "VOT: Null subtitle response");
-            postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_internal_null_subs_response")));
-            return;
+            throw new IOException(str("revanced_yandex_error_internal_null_subs_response"));
         }
 
         if (response.waiting) {
             Logger.printInfo(() -> "VOT: Subtitles still processing after polling success");
-            postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_subs_stuck_processing")));
-            return;
+            throw new IOException(str("revanced_yandex_error_subs_stuck_processing"));
         }
 
         List<ManualSubtitlesObject> availableSubs = response.subtitles;
         if (availableSubs == null || availableSubs.isEmpty()) {
             Logger.printInfo(() -> "VOT: No subtitle tracks returned");
-            postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_no_subs_returned")));
-            return;
+            throw new IOException(str("revanced_yandex_error_no_subs_returned"));
         }
 
         String log = availableSubs.stream()
                 .map(s -> "{Orig:" + s.language + (TextUtils.isEmpty(s.url) ? "(X)" : "")
                         + (s.translatedLanguage != null ? ",Trans:" + s.translatedLanguage + (TextUtils.isEmpty(s.translatedUrl) ? "(X)" : "") : "") + "}")
                 .collect(Collectors.joining(", "));
-        Logger.printInfo(() -> "VOT: Processing tracks - OriginalTarget: " + originalTargetLang + ", YandexTarget: " + yandexTargetLang + ", Available: [" + log + "]");
+        Logger.printInfo(() -> "VOT: Processing tracks - YandexTarget: " + yandexTargetLang + ", Available: [" + log + "]");
 
         ManualSubtitlesObject chosenSub = findBestSubtitleForLanguage(availableSubs, yandexTargetLang);
         if (chosenSub == null) {
             Logger.printInfo(() -> "VOT: No suitable track for " + yandexTargetLang);
-            postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_no_subs_for_language", yandexTargetLang)));
-            return;
+            throw new IOException(str("revanced_yandex_error_no_subs_for_language", yandexTargetLang));
         }
 
         String subtitleUrl = determineSubtitleUrl(chosenSub, yandexTargetLang);
         if (TextUtils.isEmpty(subtitleUrl)) {
             Logger.printException(() -> "VOT: Chosen track for " + yandexTargetLang + " has no valid URL");
-            postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_internal_no_chosen_url")));
-            return;
+            throw new IOException(str("revanced_yandex_error_internal_no_chosen_url"));
         }
-
-        Logger.printInfo(() -> "VOT: Fetching subtitle from: " + subtitleUrl);
-        fetchSubtitleContent(subtitleUrl, originalTargetLang, yandexTargetLang, callback);
+        return subtitleUrl;
     }
 
     /**
@@ -738,65 +868,40 @@ public class YandexVotUtils {
     }
 
     /**
-     * Fetches subtitle content asynchronously and processes it based on language requirements.
+     * Downloads subtitle content.
      *
-     * @param url                The subtitle file URL.
-     * @param originalTargetLang The user's desired language.
-     * @param yandexTargetLang   The Yandex requested language.
-     * @param callback           The callback for results or errors.
+     * @param url The subtitle file URL.
+     * @return The subtitle json.
+     * @throws IOException With a user facing message, if the download fails.
      */
-    private static void fetchSubtitleContent(String url, String originalTargetLang, String yandexTargetLang, SubtitleWorkflowCallback callback) {
+    @NonNull
+    private static String fetchSubtitleContent(String url) throws IOException {
         Request request = new Request.Builder().url(url).get().build();
-        httpClient.newCall(request).enqueue(new Callback() {
-            @Override
-            public void onFailure(@NonNull Call call, @NonNull IOException e) {
-                Logger.printException(() -> "VOT: Failed to fetch subtitle content: " + url, e);
-                postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_network_subs_fetch")));
-            }
-
-            @Override
-            public void onResponse(@NonNull Call call, @NonNull Response response) {
-                try (ResponseBody body = response.body()) {
-                    if (!response.isSuccessful()) {
-                        String bodyPreview = body.source().peek().readString(1024, StandardCharsets.UTF_8);
-                        Logger.printException(() -> "VOT: Failed to download subtitle: " + response.code() + " " + response.message() + ", Preview: " + bodyPreview);
-                        postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_download_subs_failed", response.code())));
-                        return;
-                    }
-
-                    String subtitleText = body.string();
-
-                    Logger.printInfo(() -> "VOT: Fetched subtitle content (" + yandexTargetLang + ", " + subtitleText.length() + " chars)");
-                    if (!originalTargetLang.equals(yandexTargetLang)) {
-                        Logger.printInfo(() -> "VOT: Passing raw JSON for secondary translation to " + originalTargetLang);
-                        postToMainThread(() -> callback.onIntermediateSuccess(subtitleText, yandexTargetLang));
-                    } else {
-                        TreeMap<Long, Pair<Long, String>> parsedData = parseYandexJsonSubtitles(subtitleText);
-                        if (parsedData == null) {
-                            Logger.printException(() -> "VOT: Failed to parse subtitle JSON");
-                            postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_subs_parsing_failed")));
-                            return;
-                        }
-                        Logger.printInfo(() -> "VOT: Parsed " + parsedData.size() + " subtitle entries for " + originalTargetLang);
-                        postToMainThread(() -> callback.onFinalSuccess(parsedData));
-                    }
-                } catch (Exception e) {
-                    Logger.printException(() -> "VOT: Error processing subtitle content: " + url, e);
-                    postToMainThread(() -> callback.onFinalFailure(str("revanced_yandex_error_subs_processing_failed") + ": " + e.getMessage()));
-                }
+        final int responseCode;
+        try (Response response = httpClient.newCall(request).execute()) {
+            ResponseBody body = response.body();
+            if (response.isSuccessful()) {
+                return body.string();
             }
-        });
+            responseCode = response.code();
+            String bodyPreview = body.source().peek().readString(1024, StandardCharsets.UTF_8);
+            Logger.printException(() -> "VOT: Failed to download subtitle: " + response.code() + " " + response.message() + ", Preview: " + bodyPreview);
+        } catch (IOException e) {
+            Logger.printException(() -> "VOT: Failed to fetch subtitle content: " + url, e);
+            throw new IOException(str("revanced_yandex_error_network_subs_fetch"), e);
+        }
+        throw new IOException(str("revanced_yandex_error_download_subs_failed", responseCode));
     }
 
     /**
      * Parses Yandex subtitle JSON into a structured format.
      *
      * @param jsonContent The raw JSON subtitle content.
-     * @return A {@link TreeMap} of subtitle entries or null if parsing fails.
+     * @return A {@link SubtitleTrack} of subtitle entries or null if parsing fails.
      * @throws JSONException If the JSON is invalid.
      */
     @Nullable
-    static TreeMap<Long, Pair<Long, String>> parseYandexJsonSubtitles(String jsonContent) throws JSONException {
+    static SubtitleTrack parseYandexJsonSubtitles(String jsonContent) throws JSONException {
         if (TextUtils.isEmpty(jsonContent)) {
             Logger.printInfo(() -> "VOT: Empty subtitle content");
             return null;
@@ -819,7 +924,7 @@ public class YandexVotUtils {
             return null;
         }
 
-        TreeMap<Long, Pair<Long, String>> map = new TreeMap<>();
+        SubtitleTrack.Builder builder = new SubtitleTrack.Builder(subsArray.length());
         for (int i = 0; i < subsArray.length(); i++) {
             try {
                 JSONObject subObj = subsArray.getJSONObject(i);
@@ -842,15 +947,16 @@ public class YandexVotUtils {
                 }
 
                 String text = subObj.optString("text", "").trim();
-                map.put(startMs, new Pair<>(endMs, text));
+                builder.add(startMs, endMs, text);
             } catch (JSONException e) {
                 int finalI2 = i;
                 Logger.printException(() -> "VOT: Error parsing subtitle entry #" + finalI2, e);
             }
         }
 
-        Logger.printDebug(() -> "VOT: Parsed " + map.size() + " subtitle entries");
-        return map.isEmpty() && subsArray.length() > 0 ? null : map;
+        SubtitleTrack track = builder.build();
+        Logger.printDebug(() -> "VOT: Parsed " + track.size() + " subtitle entries");
+        return track.isEmpty() && subsArray.length() > 0 ? null : track;
     }
 
     /**
@@ -933,20 +1039,27 @@ public class YandexVotUtils {
     }
 
     /**
-     * Forces release of a workflow lock for a video URL.
+     * Cancels any workflow running for a video URL.
+     * Requests waiting on the workflow receive a cancellation failure.
      *
      * @param videoUrl The video URL.
      */
     static void forceReleaseWorkflowLock(@Nullable String videoUrl) {
         if (videoUrl == null) return;
-        AtomicBoolean lock = urlWorkflowLocks.remove(videoUrl);
-        AtomicBoolean cancelFlag = urlCancellationFlags.remove(videoUrl);
-        if (cancelFlag != null) cancelFlag.set(true);
+        boolean found = false;
+        for (Workflow workflow : activeWorkflows.values()) {
+            if (!workflow.videoUrl.equals(videoUrl)) continue;
+            found = true;
+            workflow.isCancelled.set(true);
+            ScheduledFuture<?> pendingStep = workflow.pendingStep;
+            if (pendingStep != null) pendingStep.cancel(false);
+            finishWithFailure(workflow, str("revanced_gemini_cancelled"));
+        }
 
-        if (lock != null || cancelFlag != null) {
-            Logger.printInfo(() -> "VOT: Force-released lock and cleaned up cancellation state for " + videoUrl);
+        if (found) {
+            Logger.printInfo(() -> "VOT: Cancelled workflow for " + videoUrl);
         } else {
-            Logger.printDebug(() -> "VOT: No lock or cancellation flag found to cleanup for " + videoUrl);
+            Logger.printDebug(() -> "VOT: No workflow found to cancel for " + videoUrl);
         }
     }
 
@@ -1036,7 +1149,7 @@ public class YandexVotUtils {
      * Callback interface for the Yandex subtitle workflow.
      */
     public interface SubtitleWorkflowCallback {
-        void onFinalSuccess(TreeMap<Long, Pair<Long, String>> parsedSubtitles);
+        void onFinalSuccess(SubtitleTrack parsedSubtitles);
 
         void onIntermediateSuccess(String rawIntermediateJson, String intermediateLang);
 
@@ -1058,7 +1171,8 @@ public class YandexVotUtils {
             this.secretKey = secretKey;
             long durationMillis = expires > 0 ? TimeUnit.SECONDS.toMillis(expires) : TimeUnit.HOURS.toMillis(1);
             this.expiresAtMillis = System.currentTimeMillis() + durationMillis - TimeUnit.MINUTES.toMillis(1);
-            Logger.printDebug(() -> "VOT: Session created, expires in " + (expiresAtMillis - System.currentTimeMillis()) + "ms");
+            final long expiresInMillis = durationMillis - TimeUnit.MINUTES.toMillis(1);
+            Logger.printDebug(() -> "VOT: Session created, expires in " + expiresInMillis + "ms");
         }
 
         boolean isValid() {
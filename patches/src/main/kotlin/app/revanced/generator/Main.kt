@@ -15,6 +15,7 @@ internal fun main() = loadPatchesFromJar(
 }.let { bundle ->
     arrayOf(
         JsonPatchesFileGenerator(),
-        ReadMeFileGenerator()
+        ReadMeFileGenerator(),
+        ProfileReportSummaryGenerator(),
     ).forEach { generator -> generator.generate(bundle) }
 }
@@ -0,0 +1,73 @@
+package app.revanced.generator
+
+import app.revanced.patcher.patch.Patch
+import app.revanced.util.PatchProfiler
+import java.io.File
+
+/**
+ * Summarizes a report written by [PatchProfiler] into `patch-profile.md`,
+ * listing the most time consuming patches, fingerprints, bytecode scans and resource files.
+ *
+ * Only runs if the report file is set the same way as when patching.
+ */
+internal class ProfileReportSummaryGenerator : PatchesFileGenerator {
+    private class Section(val category: String, val name: String, val count: Long, val totalMs: Long, val maxMs: Long)
+
+    override fun generate(patches: Set<Patch<*>>) {
+        val reportFile = (System.getProperty(PatchProfiler.REPORT_FILE_PROPERTY)
+            ?: System.getenv(PatchProfiler.REPORT_FILE_ENVIRONMENT_VARIABLE))?.let(::File)
+            ?: return
+        if (!reportFile.isFile) return
+
+        val sections = reportFile.readLines()
+            .drop(1) // Header.
+            .mapNotNull(::parseLine)
+
+        val output = StringBuilder()
+        output.appendLine("# Patch profile")
+        output.appendLine()
+        // The time of a patch includes the other sections of that patch, so only patches are added up if present.
+        val patchSections = sections.filter { it.category == PatchProfiler.CATEGORY_PATCH }
+        val totalMs = patchSections.ifEmpty { sections }.sumOf { it.totalMs }
+        output.appendLine("Total: $totalMs ms in ${sections.size} sections, from `${reportFile.name}`.")
+
+        sections.groupBy { it.category }.toSortedMap().forEach { (category, categorySections) ->
+            output.appendLine()
+            output.appendLine("## $category")
+            output.appendLine()
+            output.appendLine("Total: ${categorySections.sumOf { it.totalMs }} ms")
+            output.appendLine()
+            output.appendLine("| Name | Count | Total (ms) | Max (ms) |")
+            output.appendLine("|:-----|------:|-----------:|---------:|")
+            categorySections.sortedByDescending { it.totalMs }.take(MAX_ROWS).forEach {
+                output.appendLine("| `${it.name.replace("|", "\\|")}` | ${it.count} | ${it.totalMs} | ${it.maxMs} |")
+            }
+        }
+
+        File("../patch-profile.md").writeText(output.toString())
+    }
+
+    /**
+     * Parses a line of the report. The name is the only quoted column.
+     */
+    private fun parseLine(line: String): Section? {
+        val categoryEnd = line.indexOf(",\"")
+        val nameEnd = line.lastIndexOf("\",")
+        if (categoryEnd < 0 || nameEnd <= categoryEnd) return null
+
+        val values = line.substring(nameEnd + 2).split(',').map { it.toLongOrNull() ?: return null }
+        if (values.size != 3) return null
+
+        return Section(
+            line.substring(0, categoryEnd),
+            line.substring(categoryEnd + 2, nameEnd).replace("\"\"", "\""),
+            values[0],
+            values[1],
+            values[2],
+        )
+    }
+
+    private companion object {
+        const val MAX_ROWS = 25
+    }
+}
@@ -3,6 +3,7 @@ package app.revanced.patches.all.misc.display.edgetoedge
 import app.revanced.patcher.patch.resourcePatch
 import app.revanced.util.Utils.printWarn
 import app.revanced.util.getNode
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 
 @Suppress("unused")
@@ -12,7 +13,7 @@ val edgeToEdgeDisplayPatch = resourcePatch(
             "This patch does not work if the app is installed by mounting.",
     use = false,
 ) {
-    execute {
+    profiledExecute {
         document("AndroidManifest.xml").use { document ->
             // Ideally, the patch should only be applied when targetSdkVersion is 35 or greater.
             // Since ApkTool does not add targetSdkVersion to AndroidManifest, there is no way to check targetSdkVersion.
@@ -4,6 +4,7 @@ import app.revanced.patcher.patch.resourcePatch
 import app.revanced.util.Utils.trimIndentMultiline
 import app.revanced.util.adoptChild
 import app.revanced.util.getNode
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 import java.io.File
 
@@ -16,7 +17,7 @@ val overrideCertificatePinningPatch = resourcePatch(
     description = "Overrides certificate pinning, allowing to inspect traffic via a proxy.",
     use = false,
 ) {
-    execute {
+    profiledExecute {
         val resXmlDirectory = get("res/xml")
         var networkSecurityFileName = "network_security_config.xml"
 
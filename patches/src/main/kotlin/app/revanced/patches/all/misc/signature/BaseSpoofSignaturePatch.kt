@@ -7,6 +7,7 @@ import app.revanced.util.Utils.printWarn
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.mutableClassOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 class AppInfo(
@@ -27,11 +28,11 @@ fun baseSpoofSignaturePatch(appInfoSupplier: () -> AppInfo) = bytecodePatch {
 
     extendWith("extensions/all/misc/signature/spoof-signature.rve")
 
-    execute {
+    profiledExecute {
         if (replacements.size != 2) {
             printWarn("Invalid package name or certificate data, skipping patch")
 
-            return@execute
+            return@profiledExecute
         }
 
         spoofSignatureFingerprint.methodOrThrow().apply {
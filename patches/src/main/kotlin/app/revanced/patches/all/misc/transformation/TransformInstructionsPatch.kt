@@ -4,6 +4,8 @@ import app.revanced.patcher.patch.BytecodePatchContext
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.util.findMutableMethodOf
+import app.revanced.util.profiledExecute
+import app.revanced.util.searchMethodsInParallel
 import com.android.tools.smali.dexlib2.iface.ClassDef
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.Instruction
@@ -27,27 +29,23 @@ fun <T> transformInstructionsPatch(
                 filterMap(classDef, method, instruction, index)
             }
 
-    execute {
-        // Find all methods to patch
-        buildMap {
-            classes.forEach { classDef ->
-                if (skipExtension && classDef.type.startsWith(EXTENSION_NAME_SPACE_PATH)) {
-                    return@forEach
-                }
-                val methods = buildList {
-                    classDef.methods.forEach { method ->
-                        // Since the Sequence executes lazily,
-                        // using any() results in only calling
-                        // filterMap until the first index has been found.
-                        if (findPatchIndices(classDef, method)?.any() == true) add(method)
-                    }
-                }
-
-                if (methods.isNotEmpty()) {
-                    put(classDef, methods)
-                }
-            }
-        }.forEach { (classDef, methods) ->
+    profiledExecute {
+        // Find all methods to patch.
+        // Searching does not change any method and uses multiple threads,
+        // and the found methods are then transformed in the same order as the classes.
+        searchMethodsInParallel(
+            classFilter = { classDef ->
+                !skipExtension || !classDef.type.startsWith(EXTENSION_NAME_SPACE_PATH)
+            },
+        ) { classDef, method ->
+            // Since the Sequence executes lazily,
+            // using any() results in only calling
+            // filterMap until the first index has been found.
+            findPatchIndices(classDef, method)?.any()?.takeIf { it }
+        }.groupBy(
+            keySelector = { it.classDef },
+            valueTransform = { it.method },
+        ).forEach { (classDef, methods) ->
             // And finally transform the methods...
             val mutableClass = proxy(classDef).mutableClass
 
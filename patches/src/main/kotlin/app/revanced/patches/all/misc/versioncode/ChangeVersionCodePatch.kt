@@ -4,6 +4,7 @@ import app.revanced.patcher.patch.PatchException
 import app.revanced.patcher.patch.resourcePatch
 import app.revanced.patcher.patch.stringOption
 import app.revanced.util.getNode
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import org.w3c.dom.Element
 
@@ -30,7 +31,7 @@ val changeVersionCodePatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         fun throwVersionCodeException(versionCodeString: String): PatchException =
             PatchException(
                 "Invalid versionCode: $versionCodeString, " +
@@ -20,6 +20,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -39,7 +40,7 @@ val accountComponentsPatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for hide account menu
 
@@ -39,6 +39,7 @@ import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -67,7 +68,7 @@ val actionBarComponentsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (is_7_17_or_greater) {
             addLithoFilter(FILTER_CLASS_DESCRIPTOR)
             hookSpannableString(ACTIONBAR_CLASS_DESCRIPTOR, "onLithoTextLoaded")
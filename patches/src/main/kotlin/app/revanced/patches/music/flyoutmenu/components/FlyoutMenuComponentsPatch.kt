@@ -36,6 +36,7 @@ import app.revanced.util.getReference
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -50,7 +51,7 @@ private val resourceFileArray = arrayOf(
 private val flyoutMenuComponentsResourcePatch = resourcePatch(
     description = "flyoutMenuComponentsResourcePatch"
 ) {
-    execute {
+    profiledExecute {
         arrayOf("xxxhdpi", "xxhdpi", "xhdpi", "hdpi", "mdpi")
             .map { "drawable-$it" }
             .map { directory ->
@@ -87,7 +88,7 @@ val flyoutMenuComponentsPatch = bytecodePatch(
         videoTypeHookPatch,
     )
 
-    execute {
+    profiledExecute {
         var trimSilenceIncluded = false
 
         // region patch for disable trim silence
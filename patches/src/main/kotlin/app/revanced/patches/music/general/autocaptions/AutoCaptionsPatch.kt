@@ -8,6 +8,7 @@ import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.captions.baseAutoCaptionsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val autoCaptionsPatch = bytecodePatch(
@@ -21,7 +22,7 @@ val autoCaptionsPatch = bytecodePatch(
         settingsPatch
     )
 
-    execute {
+    profiledExecute {
         addSwitchPreference(
             CategoryType.GENERAL,
             "revanced_disable_auto_captions",
@@ -38,6 +38,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.mutableClassOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -64,7 +65,7 @@ val layoutComponentsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for hide cast button
 
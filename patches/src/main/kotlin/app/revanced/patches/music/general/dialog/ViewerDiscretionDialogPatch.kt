@@ -9,6 +9,7 @@ import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.dialog.baseViewerDiscretionDialogPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val viewerDiscretionDialogPatch = bytecodePatch(
@@ -22,7 +23,7 @@ val viewerDiscretionDialogPatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
         addSwitchPreference(
             CategoryType.GENERAL,
             "revanced_remove_viewer_discretion_dialog",
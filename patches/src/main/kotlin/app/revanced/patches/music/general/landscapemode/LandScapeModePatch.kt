@@ -12,6 +12,7 @@ import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 @Suppress("unused")
@@ -26,7 +27,7 @@ val landScapeModePatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
         tabletIdentifierFingerprint.matchOrThrow().let {
             it.method.apply {
                 val targetIndex = it.patternMatch!!.endIndex
@@ -13,6 +13,7 @@ import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
 
@@ -25,7 +26,7 @@ val oldStyleLibraryShelfPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         browseIdFingerprint.methodOrThrow().apply {
             val stringIndex = indexOfFirstStringInstructionOrThrow("FEmusic_offline")
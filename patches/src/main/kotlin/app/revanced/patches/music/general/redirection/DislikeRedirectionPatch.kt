@@ -18,6 +18,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -37,7 +38,7 @@ val dislikeRedirectionPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         notificationLikeButtonOnClickListenerFingerprint
             .methodOrThrow(notificationLikeButtonControllerFingerprint)
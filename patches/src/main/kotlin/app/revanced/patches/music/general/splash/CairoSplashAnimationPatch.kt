@@ -25,6 +25,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
@@ -53,10 +54,10 @@ val cairoSplashAnimationPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (!is_7_16_or_greater) {
             printWarn("\"${DISABLE_CAIRO_SPLASH_ANIMATION.title}\" is not supported in this version. Use YouTube Music 7.16.53 or later.")
-            return@execute
+            return@profiledExecute
         }
 
         fun MutableMethod.getMoveInstructions(
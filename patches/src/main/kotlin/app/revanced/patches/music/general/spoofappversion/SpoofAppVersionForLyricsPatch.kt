@@ -29,6 +29,7 @@ import app.revanced.util.copyResources
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.reference.FieldReference
@@ -38,7 +39,7 @@ private val spoofAppVersionForLyricsBytecodePatch = bytecodePatch(
 ) {
     dependsOn(spoofClientBrowseEndpointPatch)
 
-    execute {
+    profiledExecute {
         createPlayerRequestBodyWithModelFingerprint.methodOrThrow().apply {
             val appVersionIndex = indexOfReleaseInstruction(this) + 1
             val appVersionFieldIndex =
@@ -86,10 +87,10 @@ val spoofAppVersionForLyricsPatch = resourcePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (!is_6_43_or_greater) {
             printWarn("\"${SPOOF_APP_VERSION_FOR_LYRICS.title}\" is not supported in this version. Use YouTube Music 6.51.53 or later.")
-            return@execute
+            return@profiledExecute
         }
 
         fun appendLyricsAppVersion(appVersion: String) =
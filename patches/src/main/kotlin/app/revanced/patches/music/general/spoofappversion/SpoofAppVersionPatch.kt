@@ -21,6 +21,7 @@ import app.revanced.patches.shared.spoof.watchnext.spoofAppVersionWatchNextPatch
 import app.revanced.util.Utils.printWarn
 import app.revanced.util.appendAppVersion
 import app.revanced.util.findMethodOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 
 private val spoofAppVersionWatchNextPatch = spoofAppVersionWatchNextPatch(
@@ -45,9 +46,9 @@ private val spoofAppVersionBytecodePatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (!is_6_36_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         val defaultVersionString = if (is_7_25_or_greater)
@@ -83,10 +84,10 @@ val spoofAppVersionPatch = resourcePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (!is_6_36_or_greater) {
             printWarn("\"${SPOOF_APP_VERSION.title}\" is not supported in this version. Use YouTube Music 6.36.54 or later.")
-            return@execute
+            return@profiledExecute
         }
         if (is_7_25_or_greater) {
             appendAppVersion("7.17.52")
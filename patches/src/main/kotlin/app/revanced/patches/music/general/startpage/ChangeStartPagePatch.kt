@@ -19,6 +19,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.FieldReference
@@ -34,7 +35,7 @@ private val changeStartPageResourcePatch = resourcePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         fun appendStartPage(startPage: String) {
             addEntryValues(
                 "revanced_change_start_page_entries",
@@ -65,7 +66,7 @@ val changeStartPagePatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         coldStartIntentFingerprint.methodOrThrow().addInstruction(
             0,
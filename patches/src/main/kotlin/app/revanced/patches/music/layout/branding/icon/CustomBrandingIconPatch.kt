@@ -17,6 +17,7 @@ import app.revanced.util.Utils.trimIndentMultiline
 import app.revanced.util.copyAdaptiveIcon
 import app.revanced.util.copyResources
 import app.revanced.util.getResourceGroup
+import app.revanced.util.profiledExecute
 import app.revanced.util.underBarOrThrow
 import app.revanced.util.valueOrThrow
 import org.w3c.dom.Element
@@ -144,7 +145,7 @@ val customBrandingIconPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         var appIcon = appIconOption.underBarOrThrow()
 
@@ -253,10 +254,10 @@ val customBrandingIconPatch = resourcePatch(
         // region fix app icon
 
         if (!is_7_23_or_greater) {
-            return@execute
+            return@profiledExecute
         }
         if (appIcon == "youtube_music") {
-            return@execute
+            return@profiledExecute
         }
 
         copyAdaptiveIcon(
@@ -6,6 +6,7 @@ import app.revanced.patches.music.utils.compatibility.Constants.COMPATIBLE_PACKA
 import app.revanced.patches.music.utils.patch.PatchList.CUSTOM_BRANDING_NAME_FOR_YOUTUBE_MUSIC
 import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 import app.revanced.util.removeStringsElements
 import app.revanced.util.valueOrThrow
 
@@ -50,7 +51,7 @@ val customBrandingNamePatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         val notificationName = appNameNotificationOption
             .valueOrThrow()
@@ -24,6 +24,7 @@ import app.revanced.util.Utils.trimIndentMultiline
 import app.revanced.util.copyFile
 import app.revanced.util.copyResources
 import app.revanced.util.doRecursively
+import app.revanced.util.profiledExecute
 import app.revanced.util.replaceLiteralInstructionCall
 import app.revanced.util.underBarOrThrow
 import app.revanced.util.valueOrThrow
@@ -116,7 +117,7 @@ private val changeHeaderBytecodePatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         /**
          * New Header has been added from YouTube Music v7.04.51.
@@ -127,12 +128,12 @@ private val changeHeaderBytecodePatch = bytecodePatch(
          * The affected patch is [changeHeaderPatch].
          */
         if (!is_7_06_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         if (actionBarLogoRingo2 == -1L || ytmLogoRingo2 == -1L) {
             printWarn("Target resource not found!")
-            return@execute
+            return@profiledExecute
         }
 
         if (is_7_27_or_greater) {
@@ -178,7 +179,7 @@ val changeHeaderPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         var customHeader = customHeaderOption
             .underBarOrThrow()
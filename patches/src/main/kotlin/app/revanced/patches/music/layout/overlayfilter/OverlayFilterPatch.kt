@@ -11,6 +11,7 @@ import app.revanced.patches.music.utils.resourceid.sharedResourceIdPatch
 import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 private val overlayFilterBytecodePatch = bytecodePatch(
@@ -18,7 +19,7 @@ private val overlayFilterBytecodePatch = bytecodePatch(
 ) {
     dependsOn(sharedResourceIdPatch)
 
-    execute {
+    profiledExecute {
         designBottomSheetDialogFingerprint.matchOrThrow().let {
             it.method.apply {
                 val insertIndex = it.patternMatch!!.endIndex - 1
@@ -50,7 +51,7 @@ val overlayFilterPatch = resourcePatch(
         overlayFilterBytecodePatch,
     )
 
-    execute {
+    profiledExecute {
         val styleFile = get("res/values/styles.xml")
 
         styleFile.writeText(
@@ -4,6 +4,7 @@ import app.revanced.patcher.patch.resourcePatch
 import app.revanced.patches.music.utils.compatibility.Constants.COMPATIBLE_PACKAGE
 import app.revanced.patches.music.utils.patch.PatchList.HIDE_PLAYER_OVERLAY_FILTER
 import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
+import app.revanced.util.profiledExecute
 import app.revanced.util.removeOverlayBackground
 
 @Suppress("unused")
@@ -14,7 +15,7 @@ val playerOverlayFilterPatch = resourcePatch(
 ) {
     compatibleWith(COMPATIBLE_PACKAGE)
 
-    execute {
+    profiledExecute {
         removeOverlayBackground(
             arrayOf("music_controls_overlay.xml"),
             arrayOf("player_control_screen")
@@ -22,6 +22,7 @@ import app.revanced.util.copyResources
 import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -39,7 +40,7 @@ private val darkThemeBytecodePatch = bytecodePatch(
         drawableColorHookPatch,
     )
 
-    execute {
+    profiledExecute {
         addDrawableColorHook("$EXTENSION_CLASS_DESCRIPTOR->getLithoColor(I)I")
 
         // The images in the playlist and album headers have a black gradient (probably applied server-side).
@@ -106,7 +107,7 @@ val darkThemePatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         val darkThemeColor = darkThemeBackgroundColor
             .valueOrThrow()
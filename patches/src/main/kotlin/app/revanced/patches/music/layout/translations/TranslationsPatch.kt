@@ -11,6 +11,7 @@ import app.revanced.patches.music.utils.settings.addLinkPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.translations.APP_LANGUAGES
 import app.revanced.patches.shared.translations.baseTranslationsPatch
+import app.revanced.util.profiledExecute
 
 // Array of supported translations, each represented by its language code.
 private val SUPPORTED_TRANSLATIONS = setOf(
@@ -21,7 +22,7 @@ private val SUPPORTED_TRANSLATIONS = setOf(
 
 @Suppress("unused")
 val translationsBytecodePatch = bytecodePatch {
-    execute {
+    profiledExecute {
         addLinkPreference(
             CategoryType.MISC,
             "revanced_translations",
@@ -70,7 +71,7 @@ val translationsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         baseTranslationsPatch(
             customTranslations, selectedTranslations, selectedStringResources,
             SUPPORTED_TRANSLATIONS, "music"
@@ -57,7 +57,7 @@ val visualPreferencesIconsPatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         val selectedIconType = settingsMenuIconOption
             .underBarOrThrow()
@@ -22,6 +22,7 @@ import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -45,7 +46,7 @@ val albumMusicVideoPatch = bytecodePatch(
         playerResponseMethodHookPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region hook player response
 
@@ -15,6 +15,7 @@ import app.revanced.util.getReference
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -29,7 +30,7 @@ val backgroundPlaybackPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         // region patch for background play
 
         backgroundPlaybackManagerFingerprint.methodOrThrow().addInstructions(
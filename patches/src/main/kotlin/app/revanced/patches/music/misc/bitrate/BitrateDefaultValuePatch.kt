@@ -5,6 +5,7 @@ import app.revanced.patches.music.utils.compatibility.Constants.COMPATIBLE_PACKA
 import app.revanced.patches.music.utils.patch.PatchList.BITRATE_DEFAULT_VALUE
 import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val bitrateDefaultValuePatch = resourcePatch(
@@ -15,7 +16,7 @@ val bitrateDefaultValuePatch = resourcePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         document("res/xml/data_saving_settings.xml").use { document ->
             document.getElementsByTagName("com.google.android.apps.youtube.music.ui.preference.PreferenceCategoryCompat")
                 .item(0).childNodes.apply {
@@ -7,6 +7,7 @@ import app.revanced.patches.music.utils.settings.CategoryType
 import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val debuggingPatch = resourcePatch(
@@ -20,7 +21,7 @@ val debuggingPatch = resourcePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         addSwitchPreference(
             CategoryType.MISC,
             "revanced_debug",
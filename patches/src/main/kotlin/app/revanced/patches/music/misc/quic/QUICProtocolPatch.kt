@@ -8,6 +8,7 @@ import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.quic.baseQuicProtocolPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused", "SpellCheckingInspection")
 val quicProtocolPatch = bytecodePatch(
@@ -21,7 +22,7 @@ val quicProtocolPatch = bytecodePatch(
         baseQuicProtocolPatch(),
     )
 
-    execute {
+    profiledExecute {
 
         addSwitchPreference(
             CategoryType.MISC,
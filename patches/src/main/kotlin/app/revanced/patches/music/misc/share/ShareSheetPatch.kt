@@ -18,6 +18,7 @@ import app.revanced.patches.shared.litho.lithoFilterPatch
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
@@ -40,7 +41,7 @@ val shareSheetPatch = bytecodePatch(
         sharedResourceIdPatch
     )
 
-    execute {
+    profiledExecute {
         bottomSheetRecyclerViewFingerprint.methodOrThrow().apply {
             val constIndex = indexOfFirstLiteralInstructionOrThrow(bottomSheetRecyclerView)
             val targetIndex = indexOfFirstInstructionOrThrow(constIndex, Opcode.CHECK_CAST)
@@ -9,6 +9,7 @@ import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.imageurl.addImageUrlHook
 import app.revanced.patches.shared.imageurl.cronetImageUrlHookPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val bypassImageRegionRestrictionsPatch = bytecodePatch(
@@ -22,7 +23,7 @@ val bypassImageRegionRestrictionsPatch = bytecodePatch(
         cronetImageUrlHookPatch(false)
     )
 
-    execute {
+    profiledExecute {
         addImageUrlHook()
 
         addSwitchPreference(
@@ -15,6 +15,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 
@@ -31,7 +32,7 @@ val sanitizeUrlQueryPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         if (is_8_05_or_greater) {
             imageShareLinkFormatterFingerprint.methodOrThrow().apply {
@@ -8,6 +8,7 @@ import app.revanced.patches.music.utils.settings.addPreferenceWithIntent
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.trackingurlhook.hookWatchHistory
 import app.revanced.patches.shared.trackingurlhook.trackingUrlHookPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val watchHistoryPatch = bytecodePatch(
@@ -21,7 +22,7 @@ val watchHistoryPatch = bytecodePatch(
         trackingUrlHookPatch,
     )
 
-    execute {
+    profiledExecute {
         hookWatchHistory()
 
         addPreferenceWithIntent(
@@ -33,6 +33,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.replaceLiteralInstructionCall
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -48,7 +49,7 @@ private const val RESOURCE_FILE_PATH = "res/layout/image_with_text_tab.xml"
 private val navigationBarComponentsResourcePatch = resourcePatch(
     description = "navigationBarComponentsResourcePatch"
 ) {
-    execute {
+    profiledExecute {
         document(RESOURCE_FILE_PATH).use { document ->
             with(document.getElementsByTagName("ImageView").item(0)) {
                 if (attributes.getNamedItem(FLAG) != null)
@@ -77,7 +78,7 @@ val navigationBarComponentsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         /**
          * Enable custom navigation bar color
          */
@@ -74,6 +74,7 @@ import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
 import app.revanced.util.insertNode
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.Method
@@ -100,7 +101,7 @@ private val playerComponentsResourcePatch = resourcePatch(
 ) {
     dependsOn(versionCheckPatch)
 
-    execute {
+    profiledExecute {
         val publicFile = get("res/values/public.xml")
 
         // Since YT Music v6.42.51,the resources for the next button have been removed, we need to add them manually.
@@ -219,7 +220,7 @@ val playerComponentsPatch = bytecodePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for add next previous button
 
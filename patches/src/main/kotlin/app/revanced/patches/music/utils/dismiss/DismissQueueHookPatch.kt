@@ -5,6 +5,7 @@ import app.revanced.patches.music.utils.extension.Constants.EXTENSION_PATH
 import app.revanced.util.addStaticFieldToExtension
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getWalkerMethod
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_VIDEO_UTILS_CLASS_DESCRIPTOR =
     "$EXTENSION_PATH/utils/VideoUtils;"
@@ -14,7 +15,7 @@ val dismissQueueHookPatch = bytecodePatch(
     description = "dismissQueueHookPatch"
 ) {
 
-    execute {
+    profiledExecute {
 
         dismissQueueFingerprint.methodOrThrow().apply {
             val dismissQueueIndex = indexOfDismissQueueInstruction(this)
@@ -6,6 +6,7 @@ import app.revanced.patches.music.utils.compatibility.Constants.COMPATIBLE_PACKA
 import app.revanced.patches.music.utils.patch.PatchList.CERTIFICATE_SPOOF
 import app.revanced.patches.music.utils.settings.ResourceUtils.updatePatchStatus
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val androidAutoCertificatePatch = bytecodePatch(
@@ -14,7 +15,7 @@ val androidAutoCertificatePatch = bytecodePatch(
 ) {
     compatibleWith(COMPATIBLE_PACKAGE)
 
-    execute {
+    profiledExecute {
         certificateCheckFingerprint.methodOrThrow().addInstructions(
             0,
             """
@@ -5,6 +5,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.getInstruction
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patcher.util.smali.ExternalLabel
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 fun fileProviderPatch(
     youtubePackageName: String,
@@ -12,7 +13,7 @@ fun fileProviderPatch(
 ) = bytecodePatch(
     description = "fileProviderPatch"
 ) {
-    execute {
+    profiledExecute {
 
         /**
          * For some reason, if the app gets "android.support.FILE_PROVIDER_PATHS",
@@ -4,15 +4,16 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.music.utils.playservice.is_8_33_or_greater
 import app.revanced.patches.music.utils.playservice.versionCheckPatch
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
+import app.revanced.util.profiledExecute
 
 val timedLyricsPatch = bytecodePatch(
     description = "timedLyricsPatch"
 ) {
     dependsOn(versionCheckPatch)
 
-    execute {
+    profiledExecute {
         if (!is_8_33_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         /**
@@ -7,6 +7,7 @@ import app.revanced.patches.music.utils.playbackRateBottomSheetClassFingerprint
 import app.revanced.patches.music.utils.resourceid.sharedResourceIdPatch
 import app.revanced.util.addStaticFieldToExtension
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_VIDEO_UTILS_CLASS_DESCRIPTOR =
     "$EXTENSION_PATH/utils/VideoUtils;"
@@ -19,7 +20,7 @@ val flyoutMenuHookPatch = bytecodePatch(
         sharedResourceIdPatch,
     )
 
-    execute {
+    profiledExecute {
 
         playbackRateBottomSheetClassFingerprint.methodOrThrow().apply {
             val smaliInstructions =
@@ -6,6 +6,7 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.music.utils.extension.Constants.SHARED_PATH
 import app.revanced.patches.music.utils.extension.sharedExtensionPatch
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
@@ -18,7 +19,7 @@ val navigationBarHookPatch = bytecodePatch(
 ) {
     dependsOn(sharedExtensionPatch)
 
-    execute {
+    profiledExecute {
         tabLayoutViewSetSelectedFingerprint.methodOrThrow().apply {
             val childAtIndex = indexOfChildAtInstruction(this)
             val tabIndexRegister =
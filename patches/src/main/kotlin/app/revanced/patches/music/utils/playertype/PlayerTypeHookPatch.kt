@@ -4,6 +4,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.addInstruction
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.music.utils.extension.Constants.UTILS_PATH
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$UTILS_PATH/PlayerTypeHookPatch;"
@@ -13,7 +14,7 @@ val playerTypeHookPatch = bytecodePatch(
     description = "playerTypeHookPatch"
 ) {
 
-    execute {
+    profiledExecute {
 
         playerTypeFingerprint.methodOrThrow().addInstruction(
             0,
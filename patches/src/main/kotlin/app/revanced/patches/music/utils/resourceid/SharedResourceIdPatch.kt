@@ -11,6 +11,7 @@ import app.revanced.patches.shared.mapping.ResourceType.LAYOUT
 import app.revanced.patches.shared.mapping.ResourceType.STRING
 import app.revanced.patches.shared.mapping.getResourceId
 import app.revanced.patches.shared.mapping.resourceMappingPatch
+import app.revanced.util.profiledExecute
 
 var accountSwitcherAccessibility = -1L
     private set
@@ -126,7 +127,7 @@ internal val sharedResourceIdPatch = resourcePatch(
 ) {
     dependsOn(resourceMappingPatch)
 
-    execute {
+    profiledExecute {
         accountSwitcherAccessibility = getResourceId(STRING, "account_switcher_accessibility_label")
         actionBarLogo = getResourceId(DRAWABLE, "action_bar_logo")
         actionBarLogoRingo2 = getResourceId(DRAWABLE, "action_bar_logo_ringo2")
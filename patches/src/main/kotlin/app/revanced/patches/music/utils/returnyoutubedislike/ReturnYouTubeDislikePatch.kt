@@ -30,6 +30,7 @@ import app.revanced.util.adoptChild
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -48,7 +49,7 @@ private val returnYouTubeDislikeBytecodePatch = bytecodePatch(
         textComponentPatch,
     )
 
-    execute {
+    profiledExecute {
 
         mapOf(
             likeFingerprint to Vote.LIKE,
@@ -118,7 +119,7 @@ val returnYouTubeDislikePatch = resourcePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
         addSwitchPreference(
             CategoryType.RETURN_YOUTUBE_DISLIKE,
             "revanced_ryd_enabled",
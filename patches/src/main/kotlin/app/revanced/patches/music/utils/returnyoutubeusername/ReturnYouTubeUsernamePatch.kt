@@ -11,6 +11,7 @@ import app.revanced.patches.music.utils.settings.addPreferenceWithIntent
 import app.revanced.patches.music.utils.settings.addSwitchPreference
 import app.revanced.patches.music.utils.settings.settingsPatch
 import app.revanced.patches.shared.returnyoutubeusername.baseReturnYouTubeUsernamePatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val returnYouTubeUsernamePatch = resourcePatch(
@@ -25,7 +26,7 @@ val returnYouTubeUsernamePatch = resourcePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         addSwitchPreference(
             CategoryType.RETURN_YOUTUBE_USERNAME,
             "revanced_return_youtube_username_enabled",
@@ -35,6 +35,7 @@ import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.removeStringsElements
 import app.revanced.util.valueOrThrow
 import com.android.tools.smali.dexlib2.Opcode
@@ -60,7 +61,7 @@ private val settingsBytecodePatch = bytecodePatch(
         baseSettingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for set SharedPrefCategory
 
@@ -203,7 +204,7 @@ val settingsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         /**
          * check patch options
          */
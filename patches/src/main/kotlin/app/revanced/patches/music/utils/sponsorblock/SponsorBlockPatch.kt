@@ -28,6 +28,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -47,7 +48,7 @@ private val sponsorBlockBytecodePatch = bytecodePatch(
         videoInformationPatch
     )
 
-    execute {
+    profiledExecute {
 
         /**
          * Hook the video time methods & Initialize the player controller
@@ -168,7 +169,7 @@ val sponsorBlockPatch = resourcePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
         fun addSwitchPreference(
             category: String,
             key: String,
@@ -7,6 +7,7 @@ import app.revanced.patches.music.utils.extension.Constants.UTILS_PATH
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -21,7 +22,7 @@ val videoTypeHookPatch = bytecodePatch(
     description = "videoTypeHookPatch"
 ) {
 
-    execute {
+    profiledExecute {
 
         videoTypeFingerprint.methodOrThrow(videoTypeParentFingerprint).apply {
             val getEnumIndex = indexOfGetEnumInstruction(this)
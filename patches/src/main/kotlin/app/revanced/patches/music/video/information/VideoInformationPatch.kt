@@ -26,6 +26,7 @@ import app.revanced.util.getReference
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -73,7 +74,7 @@ val videoInformationPatch = bytecodePatch(
 ) {
     dependsOn(playerResponseMethodHookPatch)
 
-    execute {
+    profiledExecute {
         fun addSeekInterfaceMethods(
             targetClass: MutableClass,
             targetMethod: MutableMethod,
@@ -40,6 +40,7 @@ import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -74,7 +75,7 @@ val videoPlaybackPatch = bytecodePatch(
         videoInformationPatch,
     )
 
-    execute {
+    profiledExecute {
         // region patch for default playback speed
 
         playbackSpeedBottomSheetFingerprint.mutableClassOrThrow().let {
@@ -8,6 +8,7 @@ import app.revanced.patches.music.utils.extension.sharedExtensionPatch
 import app.revanced.patches.music.utils.playservice.is_7_03_or_greater
 import app.revanced.patches.music.utils.playservice.versionCheckPatch
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private val hooks = mutableSetOf<Hook>()
 
@@ -31,7 +32,7 @@ val playerResponseMethodHookPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         playerResponseMethod = if (is_7_03_or_greater) {
             playerParameterBuilderFingerprint
         } else {
@@ -19,7 +19,7 @@ private lateinit var context: ResourcePatchContext
 
 @Suppress("unused")
 val unlockPremiumPatch = bytecodePatch {
-    execute {
+    profiledExecute {
         premiumCheckFingerprint.methodOrThrow().apply {
             addInstruction(0, "const/4 p0, 0x7")
 
@@ -70,7 +70,7 @@ val unlockPremiumPatch = bytecodePatch {
 private val unlockPremiumRawResourcePatch = rawResourcePatch(
     description = "unlockPremiumRawResourcePatch"
 ) {
-    execute {
+    profiledExecute {
         context = this
     }
 }
@@ -87,7 +87,7 @@ val unlockPremiumResourcePatch = resourcePatch(
     )
     dependsOn(unlockPremiumPatch, unlockPremiumRawResourcePatch)
 
-    execute {
+    profiledExecute {
         document("AndroidManifest.xml").use { document ->
             val nodesToRemove = mutableListOf<Node>()
             val tagNames = listOf("activity", "provider")
@@ -12,12 +12,14 @@ import app.revanced.patches.reddit.utils.patch.PatchList.HIDE_ADS
 import app.revanced.patches.reddit.utils.settings.is_2025_06_or_greater
 import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
-import app.revanced.util.findMutableMethodOf
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstruction
+import app.revanced.util.instructionIndex
+import app.revanced.util.mutableMethodOf
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -36,7 +38,7 @@ val adsPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         // region Filter promoted ads (does not work in popular or latest feed)
         adPostFingerprint.methodOrThrow().apply {
             val targetIndex = indexOfFirstInstructionOrThrow {
@@ -100,14 +102,9 @@ val adsPatch = bytecodePatch(
                         indexOfFirstStringInstruction("ad") >= 0
             }
 
-            classes.forEach { classDef ->
-                classDef.methods.forEach { method ->
-                    if (method.isCommentAdsMethod()) {
-                        proxy(classDef)
-                            .mutableClass
-                            .findMutableMethodOf(method)
-                            .hook()
-                    }
+            instructionIndex.methodsWithString("ad").forEach { location ->
+                if (location.method.isCommentAdsMethod()) {
+                    mutableMethodOf(location).hook()
                 }
             }
         }
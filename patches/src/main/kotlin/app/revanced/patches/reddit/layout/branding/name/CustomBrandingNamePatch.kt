@@ -7,6 +7,7 @@ import app.revanced.patches.reddit.utils.fix.signature.spoofSignaturePatch
 import app.revanced.patches.reddit.utils.patch.PatchList.CUSTOM_BRANDING_NAME_FOR_REDDIT
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.Utils.printInfo
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import java.io.FileWriter
 import java.nio.file.Files
@@ -36,13 +37,13 @@ val customBrandingNamePatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         val appName = appNameOption
             .valueOrThrow()
 
         if (appName == ORIGINAL_APP_NAME) {
             printInfo("App name will remain unchanged as it matches the original.")
-            return@execute
+            return@profiledExecute
         }
 
         val resDirectory = get("res")
@@ -7,6 +7,7 @@ import app.revanced.patches.reddit.utils.fix.signature.spoofSignaturePatch
 import app.revanced.patches.reddit.utils.patch.PatchList.CHANGE_PACKAGE_NAME
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.Utils.printInfo
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import org.w3c.dom.Element
 
@@ -39,7 +40,7 @@ val changePackageNamePatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         fun replacePackageName() {
             // replace strings
             document("res/values/strings.xml").use { document ->
@@ -76,7 +77,7 @@ val changePackageNamePatch = resourcePatch(
 
         if (redditPackageName == PACKAGE_NAME_REDDIT) {
             printInfo("Package name will remain unchanged as it matches the original.")
-            return@execute
+            return@profiledExecute
         }
 
         // Ensure device runs Android.
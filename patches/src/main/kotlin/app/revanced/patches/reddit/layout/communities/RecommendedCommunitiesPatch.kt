@@ -10,6 +10,7 @@ import app.revanced.patches.reddit.utils.patch.PatchList.HIDE_RECOMMENDED_COMMUN
 import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_METHOD_DESCRIPTOR =
     "$PATCHES_PATH/RecommendedCommunitiesPatch;->hideRecommendedCommunitiesShelf()Z"
@@ -23,7 +24,7 @@ val recommendedCommunitiesPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         communityRecommendationSectionFingerprint.methodOrThrow(
             communityRecommendationSectionParentFingerprint
         ).apply {
@@ -14,6 +14,7 @@ import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.resolvable
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -31,7 +32,7 @@ val navigationButtonsPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         if (is_2024_26_or_greater) {
             val fingerprints = mutableListOf(bottomNavScreenSetupBottomNavigationFingerprint)
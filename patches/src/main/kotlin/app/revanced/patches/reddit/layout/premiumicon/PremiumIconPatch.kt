@@ -7,6 +7,7 @@ import app.revanced.patches.reddit.utils.fix.signature.spoofSignaturePatch
 import app.revanced.patches.reddit.utils.patch.PatchList.PREMIUM_ICON
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val premiumIconPatch = bytecodePatch(
@@ -17,7 +18,7 @@ val premiumIconPatch = bytecodePatch(
 
     dependsOn(spoofSignaturePatch)
 
-    execute {
+    profiledExecute {
         premiumIconFingerprint.methodOrThrow().addInstructions(
             0, """
                 const/4 v0, 0x1
@@ -12,6 +12,7 @@ import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.findMutableMethodOf
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstruction
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -27,7 +28,7 @@ val screenshotPopupPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         fun indexOfShowBannerInstruction(method: Method) =
             method.indexOfFirstInstruction {
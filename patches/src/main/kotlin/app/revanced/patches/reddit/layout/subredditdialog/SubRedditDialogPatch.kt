@@ -21,6 +21,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -41,7 +42,7 @@ val subRedditDialogPatch = bytecodePatch(
         sharedResourceIdPatch,
     )
 
-    execute {
+    profiledExecute {
 
         if (is_2024_41_or_greater) {
             frequentUpdatesHandlerFingerprint
@@ -9,6 +9,7 @@ import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
@@ -22,7 +23,7 @@ val toolBarButtonPatch = bytecodePatch {
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         homePagerScreenFingerprint.matchOrThrow().let {
             it.method.apply {
                 val stringIndex = it.stringMatches!!.first().index
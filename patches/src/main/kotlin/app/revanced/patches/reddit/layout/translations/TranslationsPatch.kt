@@ -9,6 +9,7 @@ import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.patches.shared.translations.APP_LANGUAGES
 import app.revanced.patches.shared.translations.baseTranslationsPatch
+import app.revanced.util.profiledExecute
 
 // Array of supported translations, each represented by its language code.
 private val SUPPORTED_TRANSLATIONS = setOf(
@@ -18,7 +19,7 @@ private val SUPPORTED_TRANSLATIONS = setOf(
 
 @Suppress("unused")
 val translationsBytecodePatch = bytecodePatch {
-    execute {
+    profiledExecute {
         updatePatchStatus(
             "enableTranslations",
             TRANSLATIONS_FOR_REDDIT
@@ -66,7 +67,7 @@ val translationsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         baseTranslationsPatch(
             customTranslations, selectedTranslations, selectedStringResources,
             SUPPORTED_TRANSLATIONS, "reddit"
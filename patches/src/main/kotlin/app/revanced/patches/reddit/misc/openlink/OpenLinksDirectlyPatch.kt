@@ -7,6 +7,7 @@ import app.revanced.patches.reddit.utils.extension.Constants.PATCHES_PATH
 import app.revanced.patches.reddit.utils.patch.PatchList.OPEN_LINKS_DIRECTLY
 import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_METHOD_DESCRIPTOR =
     "$PATCHES_PATH/OpenLinksDirectlyPatch;" +
@@ -25,7 +26,7 @@ val openLinksDirectlyPatch = bytecodePatch(
         screenNavigatorMethodResolverPatch
     )
 
-    execute {
+    profiledExecute {
         screenNavigatorMethod.addInstructions(
             0, """
                 invoke-static {p2}, $EXTENSION_METHOD_DESCRIPTOR
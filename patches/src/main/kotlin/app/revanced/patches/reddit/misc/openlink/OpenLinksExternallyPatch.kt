@@ -10,6 +10,7 @@ import app.revanced.patches.reddit.utils.patch.PatchList.OPEN_LINKS_EXTERNALLY
 import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_METHOD_DESCRIPTOR =
     "$PATCHES_PATH/OpenLinksExternallyPatch;" +
@@ -28,7 +29,7 @@ val openLinksExternallyPatch = bytecodePatch(
         screenNavigatorMethodResolverPatch
     )
 
-    execute {
+    profiledExecute {
         screenNavigatorMethod.apply {
             val insertIndex = indexOfFirstStringInstructionOrThrow("uri") + 2
 
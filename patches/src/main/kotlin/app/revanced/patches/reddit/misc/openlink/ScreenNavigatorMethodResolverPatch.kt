@@ -4,13 +4,14 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getWalkerMethod
+import app.revanced.util.profiledExecute
 
 lateinit var screenNavigatorMethod: MutableMethod
 
 val screenNavigatorMethodResolverPatch = bytecodePatch(
     description = "screenNavigatorMethodResolverPatch"
 ) {
-    execute {
+    profiledExecute {
         screenNavigatorMethod =
                 // ~ Reddit 2024.25.3
             screenNavigatorFingerprint.second.methodOrNull
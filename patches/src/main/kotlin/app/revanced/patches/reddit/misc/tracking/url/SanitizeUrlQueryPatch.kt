@@ -10,6 +10,7 @@ import app.revanced.patches.reddit.utils.patch.PatchList.SANITIZE_SHARING_LINKS
 import app.revanced.patches.reddit.utils.settings.settingsPatch
 import app.revanced.patches.reddit.utils.settings.updatePatchStatus
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val SANITIZE_METHOD_DESCRIPTOR =
     "$PATCHES_PATH/SanitizeUrlQueryPatch;->stripQueryParameters()Z"
@@ -23,7 +24,7 @@ val sanitizeUrlQueryPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
         shareLinkFormatterFingerprint.methodOrThrow().apply {
             addInstructionsWithLabels(
                 0,
@@ -4,6 +4,7 @@ import app.revanced.patcher.patch.resourcePatch
 import app.revanced.patches.shared.mapping.ResourceType.STRING
 import app.revanced.patches.shared.mapping.getResourceId
 import app.revanced.patches.shared.mapping.resourceMappingPatch
+import app.revanced.util.profiledExecute
 
 var nsfwDialogTitle = -1L
     private set
@@ -13,7 +14,7 @@ internal val sharedResourceIdPatch = resourcePatch(
 ) {
     dependsOn(resourceMappingPatch)
 
-    execute {
+    profiledExecute {
         nsfwDialogTitle = getResourceId(STRING, "nsfw_dialog_title")
     }
 }
\ No newline at end of file
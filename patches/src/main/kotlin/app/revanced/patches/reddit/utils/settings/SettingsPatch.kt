@@ -24,6 +24,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.instruction.BuilderInstruction21c
@@ -52,7 +53,7 @@ private val settingsBytecodePatch = bytecodePatch(
     description = "settingsBytecodePatch"
 ) {
 
-    execute {
+    profiledExecute {
 
         /**
          * Set version info
@@ -180,7 +181,7 @@ val settingsPatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         /**
          * Replace settings icon and label
          */
@@ -19,6 +19,7 @@ import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -36,7 +37,7 @@ private val adsResourcePatch = resourcePatch(
 ) {
     dependsOn(resourceMappingPatch)
 
-    execute {
+    profiledExecute {
         interstitialsContainer = getResourceId(ID, "interstitials_container")
         slidingDialogAnimation = getResourceId(STYLE, "SlidingDialogAnimation")
     }
@@ -55,7 +56,7 @@ fun adsPatch(
 
     dependsOn(adsResourcePatch)
 
-    execute {
+    profiledExecute {
         videoAdsLegacyFingerprint.methodOrThrow().apply {
             val targetIndex = indexOfFirstInstructionOrThrow {
                 val reference = getReference<MethodReference>()
@@ -17,6 +17,7 @@ import app.revanced.util.findMethodFromToString
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
 import app.revanced.util.fingerprint.originalMethodOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -42,7 +43,7 @@ internal fun audioTracksPatch(
 
     block()
 
-    execute {
+    profiledExecute {
         // Disable feature flag that ignores the default track flag
         // and instead overrides to the user region language.
         if (fixUseLocalizedAudioTrackFlag) {
@@ -8,6 +8,7 @@ import app.revanced.patcher.util.smali.ExternalLabel
 import app.revanced.patches.shared.extension.Constants.PATCHES_PATH
 import app.revanced.patches.shared.startVideoInformerFingerprint
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$PATCHES_PATH/AutoCaptionsPatch;"
@@ -15,7 +16,7 @@ private const val EXTENSION_CLASS_DESCRIPTOR =
 val baseAutoCaptionsPatch = bytecodePatch(
     description = "baseAutoCaptionsPatch"
 ) {
-    execute {
+    profiledExecute {
         subtitleTrackFingerprint.methodOrThrow().apply {
             addInstructionsWithLabels(
                 0, """
@@ -20,6 +20,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.injectLiteralInstructionViewCall
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -40,7 +41,7 @@ private val commentsPanelResourcePatch = resourcePatch(
 ) {
     dependsOn(resourceMappingPatch)
 
-    execute {
+    profiledExecute {
         informationButton = getResourceId(ID, "information_button")
         modernTitle = getResourceId(ID, "modern_title")
         title = getResourceId(ID, "title")
@@ -55,7 +56,7 @@ val commentsPanelPatch = bytecodePatch(
 ) {
     dependsOn(commentsPanelResourcePatch)
 
-    execute {
+    profiledExecute {
         // Method to find the engagement panel id.
         val (engagementPanelIdMethodCall, engagementPanelMessageClass) =
             with(engagementPanelIdFingerprint.methodOrThrow()) {
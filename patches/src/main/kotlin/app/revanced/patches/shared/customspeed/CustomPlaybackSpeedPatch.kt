@@ -9,6 +9,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.FieldReference
@@ -22,9 +23,9 @@ fun customPlaybackSpeedPatch(
 ) = bytecodePatch(
     description = "customPlaybackSpeedPatch"
 ) {
-    execute {
+    profiledExecute {
         if (patchIncluded) {
-            return@execute
+            return@profiledExecute
         }
 
         arrayGeneratorFingerprint.matchOrThrow().let {
@@ -9,6 +9,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 
@@ -18,7 +19,7 @@ fun baseViewerDiscretionDialogPatch(
 ) = bytecodePatch(
     description = "baseViewerDiscretionDialogPatch"
 ) {
-    execute {
+    profiledExecute {
         createDialogFingerprint
             .methodOrThrow()
             .invoke(classDescriptor, "confirmDialog")
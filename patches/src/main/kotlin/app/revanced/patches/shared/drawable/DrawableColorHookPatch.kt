@@ -7,6 +7,7 @@ import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 
@@ -18,7 +19,7 @@ private var offset = 0
 val drawableColorHookPatch = bytecodePatch(
     description = "drawableColorHookPatch"
 ) {
-    execute {
+    profiledExecute {
         drawableColorFingerprint.methodOrThrow().apply {
             insertMethod = this
             insertIndex = indexOfFirstInstructionReversedOrThrow {
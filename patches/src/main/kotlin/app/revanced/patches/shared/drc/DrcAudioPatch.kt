@@ -11,6 +11,7 @@ import app.revanced.patches.shared.formatStreamModelConstructorFingerprint
 import app.revanced.util.addInstructionsAtControlFlowLabel
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -25,7 +26,7 @@ fun drcAudioPatch(
 ) = bytecodePatch(
     description = "drcAudioPatch",
 ) {
-    execute {
+    profiledExecute {
         val fingerprint = if (useLatestFingerprint()) {
             compressionRatioFingerprint
         } else {
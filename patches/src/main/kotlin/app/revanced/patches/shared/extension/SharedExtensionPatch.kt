@@ -12,6 +12,7 @@ import app.revanced.patcher.util.proxy.mutableTypes.encodedValue.MutableLongEnco
 import app.revanced.patches.shared.extension.Constants.EXTENSION_PATCH_STATUS_CLASS_DESCRIPTOR
 import app.revanced.patches.shared.extension.Constants.EXTENSION_UTILS_CLASS_DESCRIPTOR
 import app.revanced.util.findMethodsOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.immutable.value.ImmutableLongEncodedValue
@@ -24,7 +25,7 @@ fun sharedExtensionPatch(
 ) {
     extendWith("extensions/shared.rve")
 
-    execute {
+    profiledExecute {
         if (classes.none { EXTENSION_UTILS_CLASS_DESCRIPTOR == it.type }) {
             throw PatchException(
                 "Shared extension has not been merged yet. This patch can not succeed without merging it.",
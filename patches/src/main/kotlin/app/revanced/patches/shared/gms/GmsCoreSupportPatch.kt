@@ -24,6 +24,7 @@ import app.revanced.patches.shared.gms.Constants.AUTHORITIES
 import app.revanced.patches.shared.gms.Constants.AUTHORITIES_LEGACY
 import app.revanced.patches.shared.gms.Constants.PERMISSIONS
 import app.revanced.patches.shared.gms.Constants.PERMISSIONS_LEGACY
+import app.revanced.util.InstructionIndex
 import app.revanced.util.Utils.printWarn
 import app.revanced.util.Utils.trimIndentMultiline
 import app.revanced.util.findMethodOrThrow
@@ -34,10 +35,14 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.instructionIndex
+import app.revanced.util.mutableMethodOf
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import app.revanced.util.valueOrThrow
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.instruction.BuilderInstruction21c
+import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.formats.Instruction21c
@@ -171,7 +176,7 @@ fun gmsCoreSupportPatch(
 
     val gmsCoreVendorGroupId by gmsCoreVendorGroupIdOption
 
-    execute {
+    profiledExecute {
         val patchAllManifestEnabled = patchAllManifest == true
         val permissions = if (patchAllManifestEnabled)
             PERMISSIONS
@@ -186,40 +191,40 @@ fun gmsCoreSupportPatch(
         else
             AUTHORITIES_LEGACY
 
-        fun transformStringReferences(transform: (str: String) -> String?) = classes.forEach {
-            val mutableClass by lazy {
-                proxy(it).mutableClass
+        fun transformStringReferences(transform: (str: String) -> String?) {
+            // Transform each distinct string once, instead of once per instruction.
+            val stringIndex = instructionIndex
+            val transformedStrings = HashMap<String, String>()
+            val locations = LinkedHashMap<Method, InstructionIndex.Location>()
+            stringIndex.allStrings().forEach { string ->
+                val transformedString = transform(string) ?: return@forEach
+                transformedStrings[string] = transformedString
+                stringIndex.methodsWithString(string).forEach { location ->
+                    locations.putIfAbsent(location.method, location)
+                }
             }
 
-            it.methods.forEach classLoop@{ method ->
-                val implementation = method.implementation ?: return@classLoop
+            locations.values.forEach { location ->
+                mutableMethodOf(location).apply {
+                    val instructions = implementation!!.instructions.toList()
+                    instructions.forEachIndexed insnLoop@{ index, instruction ->
+                        val string =
+                            ((instruction as? Instruction21c)?.reference as? StringReference)?.string
+                                ?: return@insnLoop
+
+                        // Apply transformation.
+                        val transformedString = transformedStrings[string] ?: return@insnLoop
 
-                val mutableMethod by lazy {
-                    mutableClass.methods.first { target ->
-                        MethodUtil.methodSignaturesMatch(
-                            target,
-                            method
+                        replaceInstruction(
+                            index,
+                            BuilderInstruction21c(
+                                Opcode.CONST_STRING,
+                                instruction.registerA,
+                                ImmutableStringReference(transformedString),
+                            ),
                         )
                     }
                 }
-
-                implementation.instructions.forEachIndexed insnLoop@{ index, instruction ->
-                    val string =
-                        ((instruction as? Instruction21c)?.reference as? StringReference)?.string
-                            ?: return@insnLoop
-
-                    // Apply transformation.
-                    val transformedString = transform(string) ?: return@insnLoop
-
-                    mutableMethod.replaceInstruction(
-                        index,
-                        BuilderInstruction21c(
-                            Opcode.CONST_STRING,
-                            instruction.registerA,
-                            ImmutableStringReference(transformedString),
-                        ),
-                    )
-                }
             }
         }
 
@@ -822,7 +827,7 @@ fun gmsCoreSupportResourcePatch(
 ) = resourcePatch {
     val gmsCoreVendorGroupId by gmsCoreVendorGroupIdOption
 
-    execute {
+    profiledExecute {
         /**
          * Add metadata to manifest to support spoofing the package name and signature of GmsCore.
          */
@@ -11,6 +11,7 @@ import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.mutableClassOrThrow
 import app.revanced.util.getReference
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -35,11 +36,11 @@ fun cronetImageUrlHookPatch(
 ) = bytecodePatch(
     description = "cronetImageUrlHookPatch",
 ) {
-    execute {
+    profiledExecute {
         loadImageUrlMethod = messageDigestImageUrlFingerprint
             .matchOrThrow(messageDigestImageUrlParentFingerprint).method
 
-        if (!resolveCronetRequest) return@execute
+        if (!resolveCronetRequest) return@profiledExecute
 
         loadImageSuccessCallbackMethod = onSucceededFingerprint
             .matchOrThrow(onResponseStartedFingerprint).method
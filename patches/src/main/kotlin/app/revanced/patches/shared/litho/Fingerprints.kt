@@ -20,7 +20,7 @@ internal val componentContextSubParserFingerprint2 = legacyFingerprint(
 internal val lithoFilterFingerprint = fingerprint {
     accessFlags(AccessFlags.STATIC, AccessFlags.CONSTRUCTOR)
     custom { _, classDef ->
-        classDef.endsWith("/LithoFilterPatch;")
+        classDef.endsWith("/LithoFilterPatch\$Filters;")
     }
 }
 
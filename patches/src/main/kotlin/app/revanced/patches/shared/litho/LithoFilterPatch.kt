@@ -31,6 +31,7 @@ lateinit var addLithoFilter: (String) -> Unit
     private set
 
 private const val EXTENSION_LITHO_FILER_CLASS_DESCRIPTOR = "$COMPONENTS_PATH/LithoFilterPatch;"
+private const val EXTENSION_FILTERS_CLASS_DESCRIPTOR = "$COMPONENTS_PATH/LithoFilterPatch\$Filters;"
 private const val EXTENSION_FILER_ARRAY_DESCRIPTOR = "[$COMPONENTS_PATH/Filter;"
 internal var emptyComponentLabel = ""
 
@@ -47,7 +48,7 @@ val lithoFilterPatch = bytecodePatch(
     var isYouTube = false
     var filterArrayMethod: MutableMethod? = null
 
-    execute {
+    profiledExecute {
         // `componentContextSubParserFingerprint` is specific to the YouTube app.
         isYouTube = conversionContextFingerprintToString.originalClassDefOrNull != null && is_20_13_or_greater
         // print("isYouTube: $isYouTube\n")
@@ -358,7 +359,7 @@ val lithoFilterPatch = bytecodePatch(
             // Create a new method to get the filter array to avoid register conflicts.
             // This fixes an issue with extension compiled with Android Gradle Plugin 8.3.0+.
             // https://github.com/ReVanced/revanced-patches/issues/2818
-            val lithoFilterMethods = findMethodsOrThrow(EXTENSION_LITHO_FILER_CLASS_DESCRIPTOR)
+            val lithoFilterMethods = findMethodsOrThrow(EXTENSION_FILTERS_CLASS_DESCRIPTOR)
 
             lithoFilterMethods
                 .first { it.name == "<clinit>" }
@@ -373,7 +374,7 @@ val lithoFilterPatch = bytecodePatch(
 
                     addInstructions(
                         setArrayIndex, """
-                        invoke-static {}, $EXTENSION_LITHO_FILER_CLASS_DESCRIPTOR->$addedMethodName()$EXTENSION_FILER_ARRAY_DESCRIPTOR
+                        invoke-static {}, $EXTENSION_FILTERS_CLASS_DESCRIPTOR->$addedMethodName()$EXTENSION_FILER_ARRAY_DESCRIPTOR
                         move-result-object v$setArrayRegister
                         """
                     )
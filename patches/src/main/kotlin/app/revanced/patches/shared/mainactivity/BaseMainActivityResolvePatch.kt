@@ -9,6 +9,7 @@ import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.mutableClassOrThrow
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import kotlin.properties.Delegates
 
@@ -34,7 +35,7 @@ fun baseMainActivityResolvePatch(
 ) = bytecodePatch(
     description = "baseMainActivityResolvePatch"
 ) {
-    execute {
+    profiledExecute {
         onCreateMethod = mainActivityOnCreateFingerprint.methodOrThrow()
         mainActivityMutableClass = mainActivityOnCreateFingerprint.mutableClassOrThrow()
 
@@ -1,47 +1,126 @@
 package app.revanced.patches.shared.mapping
 
 import app.revanced.patcher.patch.resourcePatch
+import app.revanced.util.StreamingXml
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 
-data class ResourceElement(val type: String, val name: String, val id: Long)
+/**
+ * Resource ids of a single resource type, by resource name.
+ *
+ * Uses an open addressing table of names and ids,
+ * so ids are not boxed and a lookup does not allocate.
+ */
+private class ResourceIdTable {
+    private var names = arrayOfNulls<String>(INITIAL_CAPACITY)
+    private var ids = IntArray(INITIAL_CAPACITY)
+    private var size = 0
+
+    fun put(name: String, id: Int) {
+        // Keep the table at most half full, so searches are short.
+        if (2 * (size + 1) > names.size) resize()
+
+        val index = indexOf(name)
+        if (names[index] == null) {
+            names[index] = name
+            size++
+        }
+        ids[index] = id
+    }
+
+    /**
+     * @return The id, or -1 if there is no resource with the name.
+     */
+    fun get(name: String): Long {
+        val index = indexOf(name)
+        if (names[index] == null) return -1L
+
+        return ids[index].toLong() and 0xFFFFFFFFL
+    }
+
+    /**
+     * @return The index of the name, or the empty index to add the name at.
+     */
+    private fun indexOf(name: String): Int {
+        val mask = names.size - 1
+        val hash = name.hashCode()
+        var index = (hash xor (hash ushr 16)) and mask
+        while (true) {
+            val existingName = names[index] ?: return index
+            if (existingName == name) return index
+            index = (index + 1) and mask
+        }
+    }
 
-private lateinit var resourceMappings: MutableMap<String, ResourceElement>
+    private fun resize() {
+        val oldNames = names
+        val oldIds = ids
+        names = arrayOfNulls(oldNames.size * 2)
+        ids = IntArray(oldNames.size * 2)
+        for (i in oldNames.indices) {
+            val name = oldNames[i] ?: continue
+            val index = indexOf(name)
+            names[index] = name
+            ids[index] = oldIds[i]
+        }
+    }
 
-private fun setResourceId(type: String, name: String, id: Long) {
-    resourceMappings[type + name] = ResourceElement(type, name, id)
+    private companion object {
+        const val INITIAL_CAPACITY = 64
+    }
 }
 
+/**
+ * Resource type to the resource ids of that type.
+ */
+private lateinit var resourceMappings: Map<String, ResourceIdTable>
+
 fun getResourceId(resourceType: ResourceType, name: String) =
     getResourceId(resourceType.value, name)
 
 /**
  * @return A resource id of the given resource type and name.
  */
-fun getResourceId(type: String, name: String) = resourceMappings[type + name]?.id
-    ?: -1L
+fun getResourceId(type: String, name: String): Long {
+    val table = resourceMappings[type] ?: return -1L
+    return table.get(name)
+}
 
 val resourceMappingPatch = resourcePatch(
     description = "resourceMappingPatch"
 ) {
-    execute {
-        document(get("res/values/public.xml").inputStream()).use { document ->
-            val resources = document.documentElement.childNodes
-            val resourcesLength = resources.length
-            resourceMappings = HashMap<String, ResourceElement>(2 * resourcesLength)
+    profiledExecute {
+        val mappings = HashMap<String, ResourceIdTable>()
 
-            for (i in 0 until resourcesLength) {
-                val node = resources.item(i) as? Element ?: continue
-                if (node.nodeName != "public") continue
+        fun setResourceId(type: String?, name: String?, id: String?) {
+            if (type == null || name == null || id == null || name.startsWith("APKTOOL")) return
 
-                val nameAttribute = node.getAttribute("name")
-                if (nameAttribute.startsWith("APKTOOL")) continue
+            mappings.getOrPut(type, ::ResourceIdTable).put(name, id.substring(2).toLong(16).toInt())
+        }
 
-                val typeAttribute = node.getAttribute("type")
-                val id = node.getAttribute("id").substring(2).toLong(16)
+        val publicXml = get("res/values/public.xml")
+        if (StreamingXml.isSupported) {
+            // Streaming, as public.xml has tens of thousands of entries.
+            StreamingXml.forEachElement(publicXml, "public") { reader ->
+                setResourceId(
+                    reader.getAttributeValue(null, "type"),
+                    reader.getAttributeValue(null, "name"),
+                    reader.getAttributeValue(null, "id"),
+                )
+            }
+        } else {
+            document(publicXml.inputStream()).use { document ->
+                val resources = document.documentElement.childNodes
+                for (i in 0 until resources.length) {
+                    val node = resources.item(i) as? Element ?: continue
+                    if (node.nodeName != "public") continue
 
-                setResourceId(typeAttribute, nameAttribute, id)
+                    setResourceId(node.getAttribute("type"), node.getAttribute("name"), node.getAttribute("id"))
+                }
             }
         }
+
+        resourceMappings = mappings
     }
 }
 
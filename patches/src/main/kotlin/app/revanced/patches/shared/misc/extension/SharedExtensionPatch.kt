@@ -7,6 +7,7 @@ import app.revanced.patcher.fingerprint
 import app.revanced.patcher.patch.BytecodePatchContext
 import app.revanced.patcher.patch.PatchException
 import app.revanced.patcher.patch.bytecodePatch
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.Method
 
 internal const val EXTENSION_CLASS_DESCRIPTOR = "Lapp/revanced/extension/shared/utils/Utils;"
@@ -37,7 +38,7 @@ fun sharedExtensionPatch(
 ) = bytecodePatch {
     extendWith("extensions/shared.rve")
 
-    execute {
+    profiledExecute {
         if (classes.none { EXTENSION_CLASS_DESCRIPTOR == it.type }) {
             throw PatchException("Shared extension is not available. This patch can not succeed without it.")
         }
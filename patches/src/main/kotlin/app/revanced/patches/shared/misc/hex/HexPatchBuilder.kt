@@ -2,6 +2,7 @@ package app.revanced.patches.shared.misc.hex
 
 import app.revanced.patcher.patch.PatchException
 import app.revanced.patcher.patch.rawResourcePatch
+import app.revanced.util.profiledExecute
 import kotlin.collections.component1
 import kotlin.collections.component2
 import kotlin.math.max
@@ -43,7 +44,7 @@ class HexPatchBuilder internal constructor(
 @Deprecated("Use the hexPatch function with the builder parameter instead.")
 fun hexPatch(ignoreMissingTargetFiles: Boolean = false, replacementsSupplier: () -> Set<Replacement>) =
     rawResourcePatch {
-        execute {
+        profiledExecute {
             replacementsSupplier().groupBy { it.targetFilePath }.forEach { (targetFilePath, replacements) ->
                 val targetFile = get(targetFilePath, true)
                 if (ignoreMissingTargetFiles && !targetFile.exists()) return@forEach
@@ -9,6 +9,7 @@ import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -20,7 +21,7 @@ private const val EXTENSION_CLASS_DESCRIPTOR =
 fun baseOpusCodecsPatch() = bytecodePatch(
     description = "baseOpusCodecsPatch"
 ) {
-    execute {
+    profiledExecute {
         val opusCodecReference = with(codecReferenceFingerprint.methodOrThrow()) {
             val codecIndex = indexOfFirstInstructionOrThrow {
                 opcode == Opcode.INVOKE_STATIC &&
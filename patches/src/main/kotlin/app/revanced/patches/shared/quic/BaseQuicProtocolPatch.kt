@@ -6,6 +6,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.addInstructions
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.shared.extension.Constants.PATCHES_PATH
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$PATCHES_PATH/QUICProtocolPatch;"
@@ -13,7 +14,7 @@ private const val EXTENSION_CLASS_DESCRIPTOR =
 fun baseQuicProtocolPatch() = bytecodePatch(
     description = "baseQuicProtocolPatch"
 ) {
-    execute {
+    profiledExecute {
         arrayOf(
             cronetEngineBuilderFingerprint,
             experimentalCronetEngineBuilderFingerprint
@@ -5,6 +5,7 @@ import app.revanced.patches.shared.extension.Constants.PATCHES_PATH
 import app.revanced.patches.shared.textcomponent.hookSpannableString
 import app.revanced.patches.shared.textcomponent.hookTextComponent
 import app.revanced.patches.shared.textcomponent.textComponentPatch
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$PATCHES_PATH/ReturnYouTubeUsernamePatch;"
@@ -14,7 +15,7 @@ val baseReturnYouTubeUsernamePatch = bytecodePatch(
 ) {
     dependsOn(textComponentPatch)
 
-    execute {
+    profiledExecute {
         hookSpannableString(EXTENSION_CLASS_DESCRIPTOR, "preFetchLithoText")
         hookTextComponent(EXTENSION_CLASS_DESCRIPTOR)
     }
@@ -5,6 +5,7 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.shared.extension.Constants.PATCHES_PATH
 import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodCall
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$PATCHES_PATH/BaseSettingsMenuPatch;"
@@ -12,7 +13,7 @@ private const val EXTENSION_CLASS_DESCRIPTOR =
 val settingsMenuPatch = bytecodePatch(
     description = "settingsMenuPatch",
 ) {
-    execute {
+    profiledExecute {
         val findPreferenceMethodCall = findPreferenceFingerprint.methodCall()
         val removePreferenceMethodCall = removePreferenceFingerprint.methodCall()
 
@@ -22,6 +22,7 @@ import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -49,7 +50,7 @@ val inclusiveSpanPatch = bytecodePatch(
 ) {
     dependsOn(textComponentPatch)
 
-    execute {
+    profiledExecute {
         hookSpannableString(
             EXTENSION_SPANS_CLASS_DESCRIPTOR,
             "setConversionContext"
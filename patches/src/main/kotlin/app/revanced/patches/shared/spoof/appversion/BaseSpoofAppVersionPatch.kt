@@ -7,6 +7,7 @@ import app.revanced.patches.shared.createPlayerRequestBodyWithModelFingerprint
 import app.revanced.patches.shared.indexOfReleaseInstruction
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
 
@@ -15,7 +16,7 @@ fun baseSpoofAppVersionPatch(
 ) = bytecodePatch(
     description = "baseSpoofAppVersionPatch"
 ) {
-    execute {
+    profiledExecute {
         createPlayerRequestBodyWithModelFingerprint.methodOrThrow().apply {
             val versionIndex = indexOfReleaseInstruction(this) + 1
             val insertIndex =
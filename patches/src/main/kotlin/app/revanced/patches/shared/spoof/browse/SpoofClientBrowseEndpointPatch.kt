@@ -14,6 +14,7 @@ import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -31,7 +32,7 @@ private lateinit var messageLiteBuilderMethod: MethodReference
 val spoofClientBrowseEndpointPatch = bytecodePatch(
     description = "spoofClientBrowseEndpointPatch"
 ) {
-    execute {
+    profiledExecute {
         clientTypeFingerprint.methodOrThrow().apply {
             val clientInfoIndex = indexOfClientInfoInstruction(this)
             val messageLiteBuilderIndex =
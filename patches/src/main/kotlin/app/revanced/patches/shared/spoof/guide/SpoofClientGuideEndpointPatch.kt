@@ -21,6 +21,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -37,7 +38,7 @@ private lateinit var messageLiteBuilderMethod: MethodReference
 val spoofClientGuideEndpointPatch = bytecodePatch(
     description = "spoofClientGuideEndpointPatch"
 ) {
-    execute {
+    profiledExecute {
         clientTypeFingerprint.methodOrThrow().apply {
             val clientInfoIndex = indexOfClientInfoInstruction(this)
             val messageLiteBuilderIndex =
@@ -35,6 +35,7 @@ import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
 import app.revanced.util.inputStreamFromBundledResourceOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
@@ -58,7 +59,7 @@ private val spoofStreamingDataRawResourcePatch = rawResourcePatch(
 ) {
     dependsOn(resourceMappingPatch)
 
-    execute {
+    profiledExecute {
         context = this
 
         playerLoadingViewThin = getResourceId(ID, "player_loading_view_thin")
@@ -95,7 +96,7 @@ fun spoofStreamingDataPatch(
 
     dependsOn(spoofStreamingDataRawResourcePatch)
 
-    execute {
+    profiledExecute {
 
         // region Block /initplayback requests to fall back to /get_watch requests.
 
@@ -21,6 +21,7 @@ import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversed
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -46,7 +47,7 @@ fun spoofAppVersionWatchNextPatch(
 ) {
     block()
 
-    execute {
+    profiledExecute {
         if (patchRequired()) {
             fun MutableMethod.getReference(index: Int) =
                 getInstruction<ReferenceInstruction>(index).reference
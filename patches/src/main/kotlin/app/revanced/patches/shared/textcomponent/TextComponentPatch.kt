@@ -14,6 +14,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -35,7 +36,7 @@ private var textComponentContextRegister = 0
 val textComponentPatch = bytecodePatch(
     description = "textComponentPatch"
 ) {
-    execute {
+    profiledExecute {
         spannableStringBuilderFingerprint.methodOrThrow().apply {
             spannedMethod = this
             spannedIndex = indexOfSpannableStringInstruction(this)
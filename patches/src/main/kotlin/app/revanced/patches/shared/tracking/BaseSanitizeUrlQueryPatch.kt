@@ -8,6 +8,7 @@ import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.patches.shared.extension.Constants.PATCHES_PATH
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -29,7 +30,7 @@ internal fun MutableMethod.hookQueryParameters(index: Int) {
 val baseSanitizeUrlQueryPatch = bytecodePatch(
     description = "baseSanitizeUrlQueryPatch"
 ) {
-    execute {
+    profiledExecute {
         copyTextEndpointFingerprint.matchOrThrow().let {
             it.method.apply {
                 val targetIndex = it.patternMatch!!.startIndex
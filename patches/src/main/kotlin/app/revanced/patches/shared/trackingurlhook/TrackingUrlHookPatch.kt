@@ -8,6 +8,7 @@ import app.revanced.patches.shared.extension.Constants.PATCHES_PATH
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
@@ -24,7 +25,7 @@ private lateinit var trackingUrlMethod: MutableMethod
 val trackingUrlHookPatch = bytecodePatch(
     description = "trackingUrlHookPatch"
 ) {
-    execute {
+    profiledExecute {
         trackingUrlMethod =
             trackingUrlModelFingerprint.methodOrThrow(trackingUrlModelToStringFingerprint)
     }
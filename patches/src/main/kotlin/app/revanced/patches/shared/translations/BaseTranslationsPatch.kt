@@ -3,7 +3,9 @@ package app.revanced.patches.shared.translations
 import app.revanced.patcher.patch.PatchException
 import app.revanced.patcher.patch.ResourcePatchContext
 import app.revanced.util.FilesCompat
+import app.revanced.util.StreamingXml
 import app.revanced.util.doRecursively
+import app.revanced.util.forEachParallel
 import app.revanced.util.inputStreamFromBundledResource
 import org.w3c.dom.Element
 import org.w3c.dom.Node
@@ -179,7 +181,8 @@ private fun ResourcePatchContext.copyStringsXml(
     )
 
     val resourceDirectory = get("res")
-    languageArray.forEach { language ->
+    // Each language is a separate directory, so they can be copied in parallel.
+    languageArray.toList().forEachParallel { language ->
         val sourceLanguage = languageMap[language] ?: language
 
         inputStreamFromBundledResource(
@@ -205,10 +208,17 @@ private fun ResourcePatchContext.copyStringsXml(
  * unique "name" attribute, and if a match is found, it replaces the content in the destination file with
  * the content from the source file.
  *
+ * The destination file is changed with a single streaming pass if [StreamingXml] is supported.
+ *
  * @param sourceFile The source strings.xml file containing new string values.
  * @param destinationFile The destination strings.xml file to be updated with values from the source file.
  */
 private fun updateStringsXml(sourceFile: File, destinationFile: File) {
+    if (StreamingXml.isSupported) {
+        StreamingXml.replaceStrings(destinationFile, StreamingXml.readStrings(sourceFile))
+        return
+    }
+
     val documentBuilderFactory = DocumentBuilderFactory.newInstance()
     val documentBuilder = documentBuilderFactory.newDocumentBuilder()
 
@@ -5,11 +5,12 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.shared.extension.Constants.EXTENSION_UTILS_CLASS_DESCRIPTOR
 import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 val viewGroupMarginLayoutParamsHookPatch = bytecodePatch(
     description = "viewGroupMarginLayoutParamsHookPatch"
 ) {
-    execute {
+    profiledExecute {
         val setViewGroupMarginCall = with(
             viewGroupMarginFingerprint.methodOrThrow(viewGroupMarginParentFingerprint)
         ) {
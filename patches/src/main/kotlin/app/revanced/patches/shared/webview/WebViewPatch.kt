@@ -15,6 +15,7 @@ import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.mutableClassOrThrow
 import app.revanced.util.hookClassHierarchy
 import app.revanced.util.indexOfFirstInstruction
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.util.MethodUtil
@@ -22,7 +23,7 @@ import com.android.tools.smali.dexlib2.util.MethodUtil
 private val webViewResourcePatch = resourcePatch(
     description = "webViewResourcePatch"
 ) {
-    execute {
+    profiledExecute {
         arrayOf(
             ResourceGroup(
                 "layout",
@@ -49,7 +50,7 @@ fun webViewPatch(
 
     dependsOn(webViewResourcePatch)
 
-    execute {
+    profiledExecute {
         val hostActivityClass = webViewHostActivityOnCreateFingerprint.mutableClassOrThrow()
         val targetActivityClass = targetActivityFingerprint.mutableClassOrThrow()
 
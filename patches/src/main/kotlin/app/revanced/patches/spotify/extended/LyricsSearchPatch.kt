@@ -5,6 +5,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.instructionsOrNull
 import app.revanced.patcher.fingerprint
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -44,7 +45,7 @@ val lyricsSearchPatch = bytecodePatch(
     )
     dependsOn(setActivityContextPatch)
 
-    execute {
+    profiledExecute {
         val targetConstructor = mediaSessionMetadataConstructorFingerprint.method
         val returnVoidIndex = targetConstructor.indexOfFirstInstructionOrThrow(Opcode.RETURN_VOID)
 
@@ -5,6 +5,7 @@ import app.revanced.patcher.fingerprint
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 
@@ -28,7 +29,7 @@ val setActivityContextPatch = bytecodePatch(
 ) {
     compatibleWith("com.spotify.music")
 
-    execute {
+    profiledExecute {
         val targetMethod = mainActivityOnCreateFingerprint.method
 
         val invokeSuperIndex = targetMethod.indexOfFirstInstructionOrThrow {
@@ -3,6 +3,7 @@ package app.revanced.patches.spotify.extended.branding.name
 import app.revanced.patcher.patch.resourcePatch
 import app.revanced.patcher.patch.stringOption
 import app.revanced.util.Utils.printInfo
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import java.io.FileWriter
 import java.nio.file.Files
@@ -30,13 +31,13 @@ val customBrandingNamePatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         val appName = appNameOption
             .valueOrThrow()
 
         if (appName == ORIGINAL_APP_NAME) {
             printInfo("App name will remain unchanged as it matches the original.")
-            return@execute
+            return@profiledExecute
         }
 
         val resDirectory = get("res")
@@ -8,6 +8,7 @@ import app.revanced.patcher.util.smali.ExternalLabel
 import app.revanced.patches.spotify.misc.extension.sharedExtensionPatch
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 
@@ -27,7 +28,7 @@ val hideCreateButtonPatch = bytecodePatch(
 
     dependsOn(sharedExtensionPatch)
 
-    execute {
+    profiledExecute {
         val oldNavigationBarAddItemMethod = oldNavigationBarAddItemFingerprint.originalMethodOrNull
         // Only throw the fingerprint error when oldNavigationBarAddItemMethod does not exist.
         val navigationBarItemSetClassDef = if (oldNavigationBarAddItemMethod == null) {
@@ -11,6 +11,7 @@ import app.revanced.util.ResourceGroup
 import app.revanced.util.copyResources
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 import org.w3c.dom.Element
@@ -20,7 +21,7 @@ private const val EXTENSION_CLASS_DESCRIPTOR = "Lapp/revanced/extension/spotify/
 private val customThemeBytecodePatch = bytecodePatch {
     dependsOn(sharedExtensionPatch)
 
-    execute {
+    profiledExecute {
         val colorSpaceUtilsClassDef = colorSpaceUtilsClassFingerprint.originalClassDef
 
         // Hook a util method that converts ARGB to RGBA in the sRGB color space to replace hardcoded accent colors.
@@ -159,7 +160,7 @@ val customThemePatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         document("res/values/colors.xml").use { document ->
             val resourcesNode = document.getElementsByTagName("resources").item(0) as Element
 
@@ -46,7 +46,7 @@ val unlockPremiumPatch = bytecodePatch(
         // checkEnvironmentPatch,
     )
 
-    execute {
+    profiledExecute {
         fun MutableClass.publicizeField(fieldName: String) {
             fields.first { it.name == fieldName }.apply {
                 // Add public and remove private flag.
@@ -122,9 +122,8 @@ val unlockPremiumPatch = bytecodePatch(
         // Hook the method which adds context menu items and return before adding if the item is a Premium ad.
         oldContextMenuViewModelAddItemFingerprint.matchOrNull(contextMenuViewModelClassDef)?.method?.apply {
             val contextMenuItemInterfaceName = parameterTypes.first()
-            val contextMenuItemInterfaceClassDef = classes.find {
-                it.type == contextMenuItemInterfaceName
-            } ?: throw PatchException("Could not find context menu item interface.")
+            val contextMenuItemInterfaceClassDef = classIndex.classByType(contextMenuItemInterfaceName)
+                ?: throw PatchException("Could not find context menu item interface.")
 
             // The class returned by ContextMenuItem->getViewModel, which represents the actual context menu item we
             // need to stringify.
@@ -169,7 +168,7 @@ val unlockPremiumPatch = bytecodePatch(
                     .originalClassDef
                     .interfaces
                     .firstOrNull()
-                    ?.let { interfaceName -> classes.find { it.type == interfaceName } }
+                    ?.let { interfaceName -> classIndex.classByType(interfaceName) }
                     ?: throw PatchException("Could not find context menu item interface.")
 
                 val contextMenuItemViewModelClassName = getViewModelFingerprint
@@ -221,12 +220,12 @@ val unlockPremiumPatch = bytecodePatch(
             // Find the protobuf array list class using the definingClass which contains the empty list static value.
             val classType = getInstruction(emptyProtobufListGetIndex).getReference<FieldReference>()!!.definingClass
 
-            classes.find { it.type == classType } ?: throw PatchException("Could not find protobuf array list class.")
+            classIndex.classByType(classType) ?: throw PatchException("Could not find protobuf array list class.")
         }
 
-        val abstractProtobufListClassDef = classes.find {
-            it.type == protobufArrayListClassDef.superclass
-        } ?: throw PatchException("Could not find abstract protobuf list class.")
+        val abstractProtobufListClassDef = protobufArrayListClassDef.superclass
+            ?.let { superclass -> classIndex.classByType(superclass) }
+            ?: throw PatchException("Could not find abstract protobuf list class.")
 
         // Need to allow mutation of the list so the home ads sections can be removed.
         // Protobuf array list has an 'isMutable' boolean parameter that sets the mutability.
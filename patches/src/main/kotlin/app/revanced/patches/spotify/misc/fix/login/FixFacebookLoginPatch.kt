@@ -1,6 +1,7 @@
 package app.revanced.patches.spotify.misc.fix.login
 
 import app.revanced.patcher.patch.bytecodePatch
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 
 @Suppress("unused")
@@ -15,7 +16,7 @@ val fixFacebookLoginPatch = bytecodePatch(
         ),
     )
 
-    execute {
+    profiledExecute {
         // The Facebook SDK tries to handle the login using the Facebook app in case it is installed.
         // However, the Facebook app does signature checks with the app that is requesting the authentication,
         // which ends up making the Facebook server reject with an invalid key hash for the app signature.
@@ -9,6 +9,7 @@ import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.builder.instruction.BuilderInstruction35c
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
@@ -59,7 +60,7 @@ val changeLyricsProviderPatch = bytecodePatch(
         true
     }
 
-    execute {
+    profiledExecute {
         val httpClientBuilderMethod = httpClientBuilderFingerprint.originalMethod
 
         // region Create a modified copy of the HTTP client builder method with the custom lyrics provider host.
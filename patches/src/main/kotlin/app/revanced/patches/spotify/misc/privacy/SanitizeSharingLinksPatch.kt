@@ -7,6 +7,7 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.spotify.misc.privacy.shareLinkFingerprint
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -27,7 +28,7 @@ val sanitizeSharingLinksPatch = bytecodePatch(
         ),
     )
 
-    execute {
+    profiledExecute {
         val originalMethod = shareLinkFingerprint.method
         val invokeDirectIndex = originalMethod.indexOfFirstInstructionOrThrow {
             opcode == Opcode.INVOKE_DIRECT &&
@@ -1,6 +1,7 @@
 package app.revanced.patches.spotify.misc.widgets
 
 import app.revanced.patcher.patch.bytecodePatch
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 
 @Suppress("unused")
@@ -14,7 +15,7 @@ val fixThirdPartyLaunchersWidgets = bytecodePatch(
         ),
     )
 
-    execute {
+    profiledExecute {
         // Only system app launchers are granted the BIND_APPWIDGET permission.
         // Override the method that checks for it to always return true, as this permission is not actually required
         // for the widgets to work.
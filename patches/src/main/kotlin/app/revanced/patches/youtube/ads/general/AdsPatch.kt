@@ -25,17 +25,15 @@ import app.revanced.patches.youtube.utils.resourceid.adAttribution
 import app.revanced.patches.youtube.utils.resourceid.sharedResourceIdPatch
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
-import app.revanced.util.findMutableMethodOf
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.forEachLiteralValueInstruction
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
 import app.revanced.util.injectHideViewCall
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
-import com.android.tools.smali.dexlib2.iface.instruction.formats.Instruction31i
-import com.android.tools.smali.dexlib2.iface.instruction.formats.Instruction35c
 
 private const val ADS_FILTER_CLASS_DESCRIPTOR =
     "$COMPONENTS_PATH/AdsFilter;"
@@ -61,37 +59,23 @@ val adsPatch = adsPatch(
 
         // region patch for hide general ads
 
-        classes.forEach { classDef ->
-            classDef.methods.forEach { method ->
-                method.implementation.apply {
-                    this?.instructions?.forEachIndexed { index, instruction ->
-                        if (instruction.opcode != Opcode.CONST)
-                            return@forEachIndexed
-                        // Instruction to store the id adAttribution into a register
-                        if ((instruction as Instruction31i).wideLiteral != adAttribution)
-                            return@forEachIndexed
-
-                        val insertIndex = index + 1
-
-                        // Call to get the view with the id adAttribution
-                        (instructions.elementAt(insertIndex)).apply {
-                            if (opcode != Opcode.INVOKE_VIRTUAL)
-                                return@forEachIndexed
-
-                            // Hide the view
-                            val viewRegister = (this as Instruction35c).registerC
-                            proxy(classDef)
-                                .mutableClass
-                                .findMutableMethodOf(method)
-                                .injectHideViewCall(
-                                    insertIndex,
-                                    viewRegister,
-                                    ADS_CLASS_DESCRIPTOR,
-                                    "hideAdAttributionView"
-                                )
-                        }
-                    }
-                }
+        // Instruction to store the id adAttribution into a register
+        forEachLiteralValueInstruction(adAttribution) { index ->
+            val insertIndex = index + 1
+
+            // Call to get the view with the id adAttribution
+            getInstruction(insertIndex).apply {
+                if (opcode != Opcode.INVOKE_VIRTUAL)
+                    return@forEachLiteralValueInstruction
+
+                // Hide the view
+                val viewRegister = (this as FiveRegisterInstruction).registerC
+                injectHideViewCall(
+                    insertIndex,
+                    viewRegister,
+                    ADS_CLASS_DESCRIPTOR,
+                    "hideAdAttributionView"
+                )
             }
         }
 
@@ -12,6 +12,7 @@ import app.revanced.patches.youtube.utils.patch.PatchList.ALTERNATIVE_THUMBNAILS
 import app.revanced.patches.youtube.utils.playertype.playerTypeHookPatch
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val alternativeThumbnailsPatch = bytecodePatch(
@@ -26,7 +27,7 @@ val alternativeThumbnailsPatch = bytecodePatch(
         playerTypeHookPatch,
         settingsPatch,
     )
-    execute {
+    profiledExecute {
 
         addImageUrlHook(ALTERNATIVE_THUMBNAILS_CLASS_DESCRIPTOR)
         addImageUrlSuccessCallbackHook(ALTERNATIVE_THUMBNAILS_CLASS_DESCRIPTOR)
@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PAC
 import app.revanced.patches.youtube.utils.patch.PatchList.BYPASS_IMAGE_REGION_RESTRICTIONS
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val bypassImageRegionRestrictionsPatch = bytecodePatch(
@@ -19,7 +20,7 @@ val bypassImageRegionRestrictionsPatch = bytecodePatch(
         cronetImageUrlHookPatch(true),
         settingsPatch,
     )
-    execute {
+    profiledExecute {
 
         addImageUrlHook()
 
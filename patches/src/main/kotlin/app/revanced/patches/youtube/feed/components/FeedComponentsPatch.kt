@@ -40,6 +40,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -71,7 +72,7 @@ val feedComponentsPatch = bytecodePatch(
         engagementPanelHookPatch,
         versionCheckPatch,
     )
-    execute {
+    profiledExecute {
 
         // region patch for hide carousel shelf, subscriptions channel section, latest videos button
 
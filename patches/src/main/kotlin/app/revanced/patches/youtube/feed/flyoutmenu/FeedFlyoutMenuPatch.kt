@@ -15,6 +15,7 @@ import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.formats.Instruction35c
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
@@ -30,7 +31,7 @@ val feedFlyoutMenuPatch = bytecodePatch(
         sharedResourceIdPatch,
         settingsPatch,
     )
-    execute {
+    profiledExecute {
 
         // region patch for phone
 
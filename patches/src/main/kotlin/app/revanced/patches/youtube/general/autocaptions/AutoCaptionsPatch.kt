@@ -6,6 +6,7 @@ import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PAC
 import app.revanced.patches.youtube.utils.patch.PatchList.DISABLE_FORCED_AUTO_CAPTIONS
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val autoCaptionsPatch = bytecodePatch(
@@ -19,7 +20,7 @@ val autoCaptionsPatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region add settings
 
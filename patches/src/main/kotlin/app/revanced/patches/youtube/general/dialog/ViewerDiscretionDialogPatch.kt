@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.extension.Constants.GENERAL_CLASS_DESC
 import app.revanced.patches.youtube.utils.patch.PatchList.REMOVE_VIEWER_DISCRETION_DIALOG
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val viewerDiscretionDialogPatch = bytecodePatch(
@@ -23,7 +24,7 @@ val viewerDiscretionDialogPatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region add settings
 
@@ -21,6 +21,7 @@ import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -49,7 +50,7 @@ val downloadActionsPatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for hook download actions (video action bar and flyout panel)
 
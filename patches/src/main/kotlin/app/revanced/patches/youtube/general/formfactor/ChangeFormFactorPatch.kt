@@ -19,6 +19,7 @@ import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -42,7 +43,7 @@ val changeFormFactorPatch = bytecodePatch(
         spoofClientGuideEndpointPatch,
     )
 
-    execute {
+    profiledExecute {
 
         val formFactorEnumClass = formFactorEnumConstructorFingerprint
             .definingClassOrThrow()
@@ -23,6 +23,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -34,7 +35,7 @@ import com.android.tools.smali.dexlib2.iface.reference.TypeReference
 private val openChannelOfLiveAvatarResourcePatch = resourcePatch(
     description = "openChannelOfLiveAvatarResourcePatch"
 ) {
-    execute {
+    profiledExecute {
         arrayOf(
             "", "af", "am", "ar", "as", "az", "b+sr+Latn", "be", "bg", "bn", "bs", "ca",
             "cs", "da", "de", "el", "en-rGB", "en-rIN", "es", "es-rUS", "et", "eu", "fa",
@@ -71,7 +72,7 @@ val openChannelOfLiveAvatarPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         clientSettingEndpointFingerprint.methodOrThrow().apply {
             val eqzIndex = indexOfFirstInstructionReversedOrThrow(Opcode.IF_EQZ)
@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.patch.PatchList.ENABLE_GRADIENT_LOADIN
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val gradientLoadingScreenPatch = bytecodePatch(
@@ -17,7 +18,7 @@ val gradientLoadingScreenPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         useGradientLoadingScreenFingerprint.injectLiteralInstructionBooleanCall(
             GRADIENT_LOADING_SCREEN_AB_CONSTANT,
@@ -46,6 +46,7 @@ import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstruction
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -60,7 +61,7 @@ private val navigationBarComponentsResourcePatch = resourcePatch(
 ) {
     dependsOn(versionCheckPatch)
 
-    execute {
+    profiledExecute {
         if (is_19_28_or_greater) {
             // Since I couldn't get the Cairo notification filled icon anywhere,
             // I just made it as close as possible.
@@ -128,7 +129,7 @@ val navigationBarComponentsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         var settingArray = arrayOf(
             "PREFERENCE_SCREEN: GENERAL",
@@ -9,6 +9,7 @@ import app.revanced.patches.youtube.utils.resourceid.sharedResourceIdPatch
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val signInToTvPopupPatch = bytecodePatch(
@@ -22,7 +23,7 @@ val signInToTvPopupPatch = bytecodePatch(
         sharedResourceIdPatch,
     )
 
-    execute {
+    profiledExecute {
 
         signInToTvPopupFingerprint.methodOrThrow().addInstructionsWithLabels(
             0, """
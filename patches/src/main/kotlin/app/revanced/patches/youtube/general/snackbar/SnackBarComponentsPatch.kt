@@ -30,6 +30,7 @@ import app.revanced.util.getNode
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -54,7 +55,7 @@ private val snackBarComponentsBytecodePatch = bytecodePatch(
         inclusiveSpanPatch,
     )
 
-    execute {
+    profiledExecute {
         bottomUiContainerFingerprint.methodOrThrow().apply {
             addInstructionsWithLabels(
                 0, """
@@ -264,7 +265,7 @@ val snackBarComponentsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
 
         // Check patch options first.
         val cornerRadius = cornerRadiusOption
@@ -31,6 +31,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -45,9 +46,9 @@ private val spoofAppVersionBytecodePatch = bytecodePatch(
         versionCheckPatch
     )
 
-    execute {
+    profiledExecute {
         if (!is_19_26_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         findMethodOrThrow(PATCH_STATUS_CLASS_DESCRIPTOR) {
@@ -126,10 +127,10 @@ val spoofAppVersionPatch = resourcePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (!is_19_26_or_greater) {
             printWarn("\"${SPOOF_APP_VERSION.title}\" is not supported in this version. Use YouTube 19.43.41 or later.")
-            return@execute
+            return@profiledExecute
         }
 
         var settingArray = arrayOf(
@@ -58,7 +58,7 @@ val toolBarComponentsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         fun MutableMethod.injectSearchBarHook(
             insertIndex: Int,
             insertRegister: Int,
@@ -553,13 +553,8 @@ val toolBarComponentsPatch = bytecodePatch(
         // region patch for replace create button
 
         val matchedMethods = mutableListOf<MutableMethod>()
-        classes.forEach { classDef ->
-            classDef.methods.forEach { method ->
-                if (method.containsLiteralInstruction(ytOutlineVideoCamera)) {
-                    val mutableMethod = proxy(classDef).mutableClass.findMutableMethodOf(method)
-                    matchedMethods.add(mutableMethod)
-                }
-            }
+        instructionIndex.methodsWithLiteral(ytOutlineVideoCamera).forEach { location ->
+            matchedMethods.add(mutableMethodOf(location))
         }
 
         if (matchedMethods.isEmpty()) {
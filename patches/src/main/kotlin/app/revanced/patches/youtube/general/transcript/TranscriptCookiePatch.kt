@@ -12,6 +12,7 @@ import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.patches.youtube.utils.webview.webViewPatch
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -34,7 +35,7 @@ val autoCaptionsPatch = bytecodePatch(
         webViewPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for replace transcript api
 
@@ -8,6 +8,7 @@ import app.revanced.patches.youtube.utils.patch.PatchList.DISABLE_LAYOUT_UPDATES
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val layoutUpdatesPatch = bytecodePatch(
@@ -18,7 +19,7 @@ val layoutUpdatesPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         cronetHeaderFingerprint.matchOrThrow().let {
             it.method.apply {
@@ -13,6 +13,7 @@ import app.revanced.util.Utils.printInfo
 import app.revanced.util.copyResources
 import app.revanced.util.inputStreamFromBundledResource
 import app.revanced.util.lowerCaseOrThrow
+import app.revanced.util.profiledExecute
 import java.nio.file.Files
 import java.nio.file.StandardCopyOption
 
@@ -57,7 +58,7 @@ val shortsActionButtonsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
 
         // Check patch options first.
         val iconType = iconTypeOption
@@ -66,7 +67,7 @@ val shortsActionButtonsPatch = resourcePatch(
         if (iconType == YOUTUBE_ICON) {
             printInfo("Shorts action buttons will remain unchanged as it matches the original.")
             addPreference(CUSTOM_SHORTS_ACTION_BUTTONS)
-            return@execute
+            return@profiledExecute
         }
 
         val sourceResourceDirectory = "youtube/shorts/actionbuttons/$iconType"
@@ -124,7 +125,7 @@ val shortsActionButtonsPatch = resourcePatch(
         addPreference(CUSTOM_SHORTS_ACTION_BUTTONS)
 
         if (iconType == DEFAULT_ICON) {
-            return@execute
+            return@profiledExecute
         }
 
         copyResources(
@@ -156,7 +156,7 @@ val customBrandingIconPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         var appIcon = appIconOption
             .underBarOrThrow()
@@ -316,10 +316,10 @@ val customBrandingIconPatch = resourcePatch(
         // region fix app icon
 
         if (!is_19_34_or_greater) {
-            return@execute
+            return@profiledExecute
         }
         if (appIcon == "youtube") {
-            return@execute
+            return@profiledExecute
         }
 
         copyAdaptiveIcon(
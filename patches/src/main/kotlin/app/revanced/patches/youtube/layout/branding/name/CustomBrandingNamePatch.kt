@@ -5,6 +5,7 @@ import app.revanced.patcher.patch.stringOption
 import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PACKAGE
 import app.revanced.patches.youtube.utils.patch.PatchList.CUSTOM_BRANDING_NAME_FOR_YOUTUBE
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 import app.revanced.util.removeStringsElements
 import app.revanced.util.valueOrThrow
 
@@ -34,7 +35,7 @@ val customBrandingNamePatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         val appName = appNameOption
             .valueOrThrow()
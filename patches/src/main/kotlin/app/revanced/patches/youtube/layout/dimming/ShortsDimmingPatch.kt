@@ -5,6 +5,7 @@ import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PAC
 import app.revanced.patches.youtube.utils.patch.PatchList.HIDE_SHORTS_DIMMING
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 import app.revanced.util.removeOverlayBackground
 
 @Suppress("unused")
@@ -17,7 +18,7 @@ val shortsDimmingPatch = resourcePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         removeOverlayBackground(
             arrayOf("reel_player_overlay_scrims.xml"),
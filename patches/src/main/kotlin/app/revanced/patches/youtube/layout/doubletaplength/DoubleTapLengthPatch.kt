@@ -10,6 +10,7 @@ import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.ResourceGroup
 import app.revanced.util.addEntryValues
 import app.revanced.util.copyResources
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import java.nio.file.Files
 
@@ -30,7 +31,7 @@ val doubleTapLengthPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         val doubleTapLengthArrays = doubleTapLengthArraysOption
             .valueOrThrow()
@@ -11,6 +11,7 @@ import app.revanced.util.Utils.printWarn
 import app.revanced.util.Utils.trimIndentMultiline
 import app.revanced.util.copyFile
 import app.revanced.util.copyResources
+import app.revanced.util.profiledExecute
 import app.revanced.util.underBarOrThrow
 import app.revanced.util.valueOrThrow
 import java.io.File
@@ -115,7 +116,7 @@ val changeHeaderPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         // Check patch options first.
         var customHeader = customHeaderOption
             .underBarOrThrow()
@@ -142,7 +143,7 @@ val changeHeaderPatch = resourcePatch(
             }
         } else {
             printWarn(warnings)
-            return@execute
+            return@profiledExecute
         }
 
         // The size of the new header is the same, only the file name is different.
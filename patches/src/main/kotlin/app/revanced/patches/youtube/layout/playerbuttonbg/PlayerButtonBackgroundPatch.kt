@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.patch.PatchList.FORCE_HIDE_PLAYER_BUTT
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.doRecursively
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 
 private const val BACKGROUND = "?ytOverlayBackgroundMediumLight"
@@ -41,7 +42,7 @@ val playerButtonBackgroundPatch = resourcePatch(
         description = "Specify a background color for player buttons using a hex color code. The first two symbols of the hex code represent the alpha channel, which is used to change the opacity."
     )
 
-    execute {
+    profiledExecute {
         document("res/drawable/player_button_circle_background.xml").use { document ->
 
             document.doRecursively node@{ node ->
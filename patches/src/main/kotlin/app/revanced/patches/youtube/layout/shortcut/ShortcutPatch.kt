@@ -9,6 +9,7 @@ import app.revanced.patches.youtube.utils.playservice.versionCheckPatch
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.findElementByAttributeValueOrThrow
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 
 @Suppress("unused")
@@ -56,7 +57,7 @@ val shortcutPatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         var options = listOf(
             subscriptions,
             search,
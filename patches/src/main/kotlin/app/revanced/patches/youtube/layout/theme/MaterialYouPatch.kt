@@ -8,6 +8,7 @@ import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.updatePatchStatusTheme
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.copyXmlNode
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val materialYouPatch = resourcePatch(
@@ -22,7 +23,7 @@ val materialYouPatch = resourcePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
         baseMaterialYou()
 
         copyXmlNode("youtube/materialyou/host", "values-v31/colors.xml", "resources")
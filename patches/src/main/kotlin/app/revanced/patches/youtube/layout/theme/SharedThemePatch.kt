@@ -6,6 +6,7 @@ import app.revanced.patches.shared.drawable.addDrawableColorHook
 import app.revanced.patches.shared.drawable.drawableColorHookPatch
 import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PACKAGE
 import app.revanced.patches.youtube.utils.extension.Constants.UTILS_PATH
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 
 private const val SPLASH_SCREEN_COLOR_NAME = "splashScreenColor"
@@ -18,7 +19,7 @@ val sharedThemePatch = resourcePatch(
 
     dependsOn(drawableColorHookPatch)
 
-    execute {
+    profiledExecute {
         addDrawableColorHook("$UTILS_PATH/DrawableColorPatch;->getLithoColor(I)I")
 
         // edit the resource files to change the splash screen color
@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.patch.PatchList.MATERIALYOU
 import app.revanced.patches.youtube.utils.patch.PatchList.THEME
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.updatePatchStatusTheme
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 import app.revanced.util.valueOrThrow
 import org.w3c.dom.Element
 
@@ -70,7 +71,7 @@ val themePatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
 
         // Check patch options first.
         val darkThemeColor = darkThemeBackgroundColor
@@ -9,6 +9,7 @@ import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PAC
 import app.revanced.patches.youtube.utils.patch.PatchList.TRANSLATIONS_FOR_YOUTUBE
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 // Array of supported translations, each represented by its language code.
 private val SUPPORTED_TRANSLATIONS = setOf(
@@ -56,7 +57,7 @@ private val SUPPORTED_TRANSLATIONS = setOf(
 
 @Suppress("unused")
 val translationsBytecodePatch = bytecodePatch {
-    execute {
+    profiledExecute {
         addPreference(
             arrayOf(
                 "PREFERENCE_SCREEN: TRANSLATIONS"
@@ -105,7 +106,7 @@ val translationsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         baseTranslationsPatch(
             customTranslations, selectedTranslations, selectedStringResources,
             SUPPORTED_TRANSLATIONS, "youtube"
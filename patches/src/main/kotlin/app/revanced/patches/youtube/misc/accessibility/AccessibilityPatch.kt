@@ -11,6 +11,7 @@ import app.revanced.util.fingerprint.mutableClassOrThrow
 import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
@@ -25,7 +26,7 @@ val accessibilityPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         playerAccessibilitySettingsEduControllerParentFingerprint
             .mutableClassOrThrow()
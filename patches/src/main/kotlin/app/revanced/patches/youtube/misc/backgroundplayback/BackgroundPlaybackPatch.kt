@@ -19,6 +19,7 @@ import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.originalMethodOrThrow
 import app.revanced.util.getReference
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -40,7 +41,7 @@ val backgroundPlaybackPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         arrayOf(
             backgroundPlaybackManagerFingerprint to "isBackgroundPlaybackAllowed",
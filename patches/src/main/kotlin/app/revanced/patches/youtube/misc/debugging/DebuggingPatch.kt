@@ -20,6 +20,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.fingerprint.originalMethodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.FieldReference
@@ -40,7 +41,7 @@ val debuggingPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         var settingArray = arrayOf(
             "SETTINGS: DEBUGGING"
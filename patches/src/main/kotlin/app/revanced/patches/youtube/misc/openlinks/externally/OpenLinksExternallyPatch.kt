@@ -8,6 +8,7 @@ import app.revanced.patches.youtube.utils.extension.Constants.MISC_PATH
 import app.revanced.patches.youtube.utils.patch.PatchList.OPEN_LINKS_EXTERNALLY
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.reference.StringReference
@@ -45,7 +46,7 @@ val openLinksExternallyPatch = bytecodePatch(
         settingsPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region add settings
 
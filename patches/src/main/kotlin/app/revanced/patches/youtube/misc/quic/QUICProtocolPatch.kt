@@ -6,6 +6,7 @@ import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PAC
 import app.revanced.patches.youtube.utils.patch.PatchList.DISABLE_QUIC_PROTOCOL
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused", "SpellCheckingInspection")
 val quicProtocolPatch = bytecodePatch(
@@ -19,7 +20,7 @@ val quicProtocolPatch = bytecodePatch(
         baseQuicProtocolPatch(),
     )
 
-    execute {
+    profiledExecute {
         addPreference(
             arrayOf(
                 "SETTINGS: DISABLE_QUIC_PROTOCOL"
@@ -15,6 +15,7 @@ import app.revanced.patches.youtube.utils.resourceid.sharedResourceIdPatch
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$MISC_PATH/ShareSheetPatch;"
@@ -37,7 +38,7 @@ val shareSheetPatch = bytecodePatch(
         recyclerViewTreeObserverPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // Detects that the Share sheet panel has been invoked.
         recyclerViewTreeObserverHook("$EXTENSION_CLASS_DESCRIPTOR->onShareSheetMenuCreate(Landroid/support/v7/widget/RecyclerView;)V")
@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PAC
 import app.revanced.patches.youtube.utils.patch.PatchList.WATCH_HISTORY
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
+import app.revanced.util.profiledExecute
 
 @Suppress("unused")
 val watchHistoryPatch = bytecodePatch(
@@ -20,7 +21,7 @@ val watchHistoryPatch = bytecodePatch(
         trackingUrlHookPatch,
     )
 
-    execute {
+    profiledExecute {
 
         hookWatchHistory()
 
@@ -17,6 +17,7 @@ import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.patches.youtube.video.information.videoInformationPatch
 import app.revanced.patches.youtube.video.videoid.hookPlayerResponseVideoId
 import app.revanced.patches.youtube.video.videoid.videoIdPatch
+import app.revanced.util.profiledExecute
 
 private const val FILTER_CLASS_DESCRIPTOR =
     "$COMPONENTS_PATH/ActionButtonsFilter;"
@@ -41,7 +42,7 @@ val actionButtonsPatch = bytecodePatch(
         hypeButtonIconPatch,
     )
 
-    execute {
+    profiledExecute {
         addLithoFilter(FILTER_CLASS_DESCRIPTOR)
 
         // region patch for hide action buttons by index
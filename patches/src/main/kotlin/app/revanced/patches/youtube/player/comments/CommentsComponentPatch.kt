@@ -25,6 +25,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
@@ -51,7 +52,7 @@ val commentsComponentPatch = bytecodePatch(
         commentsPanelPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for emoji picker button in shorts
 
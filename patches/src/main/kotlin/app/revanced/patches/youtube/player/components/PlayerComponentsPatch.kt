@@ -58,6 +58,7 @@ import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.Method
@@ -82,7 +83,7 @@ private val speedOverlayPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         fun MutableMethod.hookSpeedOverlay(
             insertIndex: Int,
             insertRegister: Int,
@@ -357,7 +358,7 @@ val playerComponentsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         fun MutableMethod.getAllLiteralComponent(
             startIndex: Int,
             endIndex: Int
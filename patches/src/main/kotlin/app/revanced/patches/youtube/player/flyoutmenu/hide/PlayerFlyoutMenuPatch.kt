@@ -26,6 +26,7 @@ import app.revanced.util.REGISTER_TEMPLATE_REPLACEMENT
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
 import app.revanced.util.fingerprint.injectLiteralInstructionViewCall
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
 
@@ -49,7 +50,7 @@ val playerFlyoutMenuPatch = bytecodePatch(
         versionCheckPatch
     )
 
-    execute {
+    profiledExecute {
         var settingArray = arrayOf(
             "PREFERENCE_SCREEN: PLAYER",
             "PREFERENCE_SCREENS: FLYOUT_MENU",
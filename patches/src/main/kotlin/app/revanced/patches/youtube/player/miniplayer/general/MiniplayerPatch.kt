@@ -43,6 +43,7 @@ import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -73,7 +74,7 @@ val miniplayerPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
 
         var settingArray = arrayOf(
             "PREFERENCE_SCREEN: PLAYER",
@@ -179,7 +180,7 @@ val miniplayerPatch = bytecodePatch(
             addPreference(settingArray, MINIPLAYER)
 
             // Return here, as patch below is only intended for new versions of the app.
-            return@execute
+            return@profiledExecute
         }
 
         // endregion
@@ -9,6 +9,7 @@ import app.revanced.patches.youtube.utils.patch.PatchList.DISABLE_RESUMING_MINIP
 import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
@@ -24,7 +25,7 @@ val resumingMiniplayerOnStartupPatch = bytecodePatch(
 
     dependsOn(settingsPatch)
 
-    execute {
+    profiledExecute {
 
         showMiniplayerCommandFingerprint.matchOrThrow().let {
             it.method.apply {
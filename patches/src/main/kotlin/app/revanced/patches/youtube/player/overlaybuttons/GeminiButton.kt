@@ -4,11 +4,12 @@ import app.revanced.patcher.patch.resourcePatch
 import app.revanced.patches.youtube.utils.compatibility.Constants.COMPATIBLE_PACKAGE
 import app.revanced.util.ResourceGroup
 import app.revanced.util.copyResources
+import app.revanced.util.profiledExecute
 
 val geminiButton = resourcePatch {
     compatibleWith(COMPATIBLE_PACKAGE)
 
-    execute {
+    profiledExecute {
         arrayOf(
             "xxxhdpi",
             "xxhdpi",
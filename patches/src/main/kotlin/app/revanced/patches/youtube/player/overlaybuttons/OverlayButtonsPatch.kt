@@ -28,6 +28,7 @@ import app.revanced.util.copyResources
 import app.revanced.util.copyXmlNode
 import app.revanced.util.doRecursively
 import app.revanced.util.lowerCaseOrThrow
+import app.revanced.util.profiledExecute
 import org.w3c.dom.Element
 
 private const val EXTENSION_ALWAYS_REPEAT_CLASS_DESCRIPTOR =
@@ -38,7 +39,7 @@ private val overlayButtonsBytecodePatch = bytecodePatch(
 ) {
     dependsOn(videoInformationPatch)
 
-    execute {
+    profiledExecute {
 
         // region patch for always repeat
 
@@ -125,7 +126,7 @@ val overlayButtonsPatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
 
         // Check patch options first.
         val iconType = iconTypeOption
@@ -76,7 +76,6 @@ import app.revanced.util.REGISTER_TEMPLATE_REPLACEMENT
 import app.revanced.util.ResourceGroup
 import app.revanced.util.cloneMutable
 import app.revanced.util.containsLiteralInstruction
-import app.revanced.util.containsStringInstruction
 import app.revanced.util.copyResources
 import app.revanced.util.doRecursively
 import app.revanced.util.findMethodOrThrow
@@ -117,7 +116,7 @@ private val shortsAnimationPatch = bytecodePatch(
         versionCheckPatch
     )
 
-    execute {
+    profiledExecute {
 
         reelFeedbackFingerprint.methodOrThrow().apply {
             val maps = if (is_19_34_or_greater)
@@ -198,9 +197,9 @@ private val shortsCustomActionsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         if (!is_18_34_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         // region hook toolbar more button
@@ -231,7 +230,7 @@ private val shortsCustomActionsPatch = bytecodePatch(
         // endregion
 
         if (!is_19_02_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         // region hook flyout menu
@@ -403,33 +402,30 @@ private val shortsNavigationBarPatch = bytecodePatch(
         playerTypeHookPatch,
     )
 
-    execute {
+    profiledExecute {
         var count = 0
-        classes.forEach { classDef ->
-            classDef.methods.filter { method ->
-                method.returnType == "V" &&
-                        method.accessFlags == AccessFlags.PUBLIC or AccessFlags.FINAL &&
-                        method.parameters == listOf("Landroid/view/View;", "Landroid/os/Bundle;") &&
-                        method.containsStringInstruction("r_pfvc") &&
-                        method.containsLiteralInstruction(bottomBarContainer)
-            }.forEach { method ->
-                proxy(classDef)
-                    .mutableClass
-                    .findMutableMethodOf(method).apply {
-                        val constIndex = indexOfFirstLiteralInstruction(bottomBarContainer)
-                        val targetIndex = indexOfFirstInstructionOrThrow(constIndex) {
-                            getReference<MethodReference>()?.name == "getHeight"
-                        } + 1
-                        val heightRegister =
-                            getInstruction<OneRegisterInstruction>(targetIndex).registerA
-                        addInstructions(
-                            targetIndex + 1, """
-                                invoke-static {v$heightRegister}, $SHORTS_CLASS_DESCRIPTOR->setNavigationBarHeight(I)I
-                                move-result v$heightRegister
-                                """
-                        )
-                        count++
-                    }
+        instructionIndex.methodsWithString("r_pfvc").filter { location ->
+            location.method.run {
+                returnType == "V" &&
+                        accessFlags == AccessFlags.PUBLIC or AccessFlags.FINAL &&
+                        parameters == listOf("Landroid/view/View;", "Landroid/os/Bundle;") &&
+                        containsLiteralInstruction(bottomBarContainer)
+            }
+        }.forEach { location ->
+            mutableMethodOf(location).apply {
+                val constIndex = indexOfFirstLiteralInstruction(bottomBarContainer)
+                val targetIndex = indexOfFirstInstructionOrThrow(constIndex) {
+                    getReference<MethodReference>()?.name == "getHeight"
+                } + 1
+                val heightRegister =
+                    getInstruction<OneRegisterInstruction>(targetIndex).registerA
+                addInstructions(
+                    targetIndex + 1, """
+                        invoke-static {v$heightRegister}, $SHORTS_CLASS_DESCRIPTOR->setNavigationBarHeight(I)I
+                        move-result v$heightRegister
+                        """
+                )
+                count++
             }
         }
 
@@ -445,7 +441,7 @@ private const val EXTENSION_REPEAT_STATE_CLASS_DESCRIPTOR =
 private val shortsRepeatPatch = bytecodePatch(
     description = "shortsRepeatPatch"
 ) {
-    execute {
+    profiledExecute {
         dependsOn(
             mainActivityResolvePatch,
             versionCheckPatch,
@@ -607,10 +603,10 @@ private val shortsTimeStampPatch = bytecodePatch(
 ) {
     dependsOn(versionCheckPatch)
 
-    execute {
+    profiledExecute {
 
         if (!is_19_34_or_greater || is_20_18_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         // region patch for enable time stamp
@@ -691,7 +687,7 @@ private val shortsTimeStampPatch = bytecodePatch(
 private val shortsToolBarPatch = bytecodePatch(
     description = "shortsToolBarPatch"
 ) {
-    execute {
+    profiledExecute {
         shortsToolBarFingerprint.matchOrThrow().let {
             it.method.apply {
                 val insertIndex = it.patternMatch!!.startIndex
@@ -749,7 +745,7 @@ val shortsComponentPatch = bytecodePatch(
         videoInformationPatch,
     )
 
-    execute {
+    profiledExecute {
         fun MutableMethod.hideButtons(
             insertIndex: Int,
             descriptor: String
@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.extension.sharedExtensionPatch
 import app.revanced.patches.youtube.utils.request.buildRequestPatch
 import app.revanced.patches.youtube.utils.request.hookBuildRequest
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_AUTH_UTILS_CLASS_DESCRIPTOR =
     "$EXTENSION_PATH/innertube/utils/AuthUtils;"
@@ -19,7 +20,7 @@ val authHookPatch = bytecodePatch(
         buildRequestPatch,
     )
 
-    execute {
+    profiledExecute {
         // Get incognito status and data sync id.
         accountIdentityFingerprint.methodOrThrow().addInstruction(
             1,
@@ -5,6 +5,7 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.youtube.utils.extension.Constants.UTILS_PATH
 import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.definingClassOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_BOTTOM_SHEET_HOOK_CLASS_DESCRIPTOR =
     "$UTILS_PATH/BottomSheetHookPatch;"
@@ -12,7 +13,7 @@ private const val EXTENSION_BOTTOM_SHEET_HOOK_CLASS_DESCRIPTOR =
 val bottomSheetHookPatch = bytecodePatch(
     description = "bottomSheetHookPatch"
 ) {
-    execute {
+    profiledExecute {
         val bottomSheetClass =
             bottomSheetBehaviorFingerprint.definingClassOrThrow()
 
@@ -18,6 +18,7 @@ import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.updatePatchStatus
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -35,7 +36,7 @@ val castButtonPatch = bytecodePatch(
 ) {
     dependsOn(sharedResourceIdPatch)
 
-    execute {
+    profiledExecute {
         toolbarMenuItemInitializeMethod = menuItemInitializeFingerprint.methodOrThrow()
         toolbarMenuItemVisibilityMethod =
             menuItemVisibilityFingerprint.methodOrThrow(menuItemInitializeFingerprint)
@@ -27,7 +27,7 @@ val lazilyConvertedElementHookPatch = bytecodePatch(
 ) {
     dependsOn(sharedExtensionPatch)
 
-    execute {
+    profiledExecute {
         componentListFingerprint.methodOrThrow(componentContextSubParserFingerprint2).apply {
             val identifierReference = with(conversionContextFingerprintToString2.methodOrThrow()) {
                 val identifierStringIndex =
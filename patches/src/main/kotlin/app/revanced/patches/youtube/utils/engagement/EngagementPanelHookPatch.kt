@@ -13,6 +13,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -35,7 +36,7 @@ val engagementPanelHookPatch = bytecodePatch(
         sharedResourceIdPatch,
     )
 
-    execute {
+    profiledExecute {
         fun Method.setFreeIndex(startIndex: Int) {
             val startRegister = engagementPanelIdRegister
             var index = startIndex
@@ -3,12 +3,13 @@ package app.revanced.patches.youtube.utils.fix.bottomui
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
 import app.revanced.util.fingerprint.resolvable
+import app.revanced.util.profiledExecute
 
 val cfBottomUIPatch = bytecodePatch(
     description = "cfBottomUIPatch"
 ) {
 
-    execute {
+    profiledExecute {
         /**
          * This issue only affects some versions of YouTube.
          * Therefore, this patch only applies to versions that can resolve this fingerprint.
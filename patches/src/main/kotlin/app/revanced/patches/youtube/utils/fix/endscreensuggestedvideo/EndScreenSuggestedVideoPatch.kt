@@ -11,6 +11,7 @@ import app.revanced.util.getReference
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
@@ -18,7 +19,7 @@ import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 val endScreenSuggestedVideoPatch = bytecodePatch(
     description = "endScreenSuggestedVideoPatch"
 ) {
-    execute {
+    profiledExecute {
 
         /**
          * The reasons why this patch is classified as a patch that fixes a 'bug' are as follows:
@@ -9,15 +9,16 @@ import app.revanced.patches.youtube.utils.settings.ResourceUtils.addPreference
 import app.revanced.patches.youtube.utils.settings.settingsPatch
 import app.revanced.util.ResourceGroup
 import app.revanced.util.copyResources
+import app.revanced.util.profiledExecute
 
 private val hypeButtonIconResourcePatch = resourcePatch(
     description = "hypeButtonIconResourcePatch"
 ) {
     dependsOn(versionCheckPatch)
 
-    execute {
+    profiledExecute {
         if (is_19_26_or_greater) {
-            return@execute
+            return@profiledExecute
         }
         arrayOf(
             "xxxhdpi",
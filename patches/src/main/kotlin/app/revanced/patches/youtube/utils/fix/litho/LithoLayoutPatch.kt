@@ -10,6 +10,7 @@ import app.revanced.patches.youtube.utils.playservice.is_20_16_or_greater
 import app.revanced.patches.youtube.utils.scrollTopParentFingerprint
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.getWalkerMethod
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 private const val EXTENSION_DOUBLE_BACK_TO_CLOSE_CLASS_DESCRIPTOR =
@@ -18,7 +19,7 @@ private const val EXTENSION_DOUBLE_BACK_TO_CLOSE_CLASS_DESCRIPTOR =
 val lithoLayoutPatch = bytecodePatch(
     description = "lithoLayoutPatch"
 ) {
-    execute {
+    profiledExecute {
 
         // region patch double back to close
 
@@ -2,12 +2,13 @@ package app.revanced.patches.youtube.utils.fix.shortsplayback
 
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.util.fingerprint.injectLiteralInstructionBooleanCall
+import app.revanced.util.profiledExecute
 
 val shortsPlaybackPatch = bytecodePatch(
     description = "shortsPlaybackPatch"
 ) {
 
-    execute {
+    profiledExecute {
         /**
          * This issue only affects some versions of YouTube.
          * Therefore, this patch only applies to versions that can resolve this fingerprint.
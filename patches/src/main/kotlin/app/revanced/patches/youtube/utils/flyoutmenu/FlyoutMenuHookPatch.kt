@@ -7,6 +7,7 @@ import app.revanced.patches.youtube.utils.playbackRateBottomSheetBuilderFingerpr
 import app.revanced.patches.youtube.utils.resourceid.sharedResourceIdPatch
 import app.revanced.util.addStaticFieldToExtension
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_VIDEO_UTILS_CLASS_DESCRIPTOR =
     "$EXTENSION_PATH/utils/VideoUtils;"
@@ -18,7 +19,7 @@ val flyoutMenuHookPatch = bytecodePatch(
 
     dependsOn(sharedResourceIdPatch)
 
-    execute {
+    profiledExecute {
         playbackRateBottomSheetBuilderFingerprint.methodOrThrow().apply {
             val smaliInstructions =
                 """
@@ -10,12 +10,14 @@ import app.revanced.patches.youtube.utils.extension.sharedExtensionPatch
 import app.revanced.patches.youtube.utils.playservice.is_20_02_or_greater
 import app.revanced.patches.youtube.utils.playservice.versionCheckPatch
 import app.revanced.util.addStaticFieldToExtension
+import app.revanced.util.classIndex
 import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.getWalkerMethod
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -37,7 +39,7 @@ val fullscreenButtonHookPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         fun getParameters(): Pair<MutableMethod, String> {
             nextGenWatchLayoutFullscreenModeFingerprint.methodOrThrow().apply {
                 val methodIndex = indexOfFirstInstructionReversedOrThrow {
@@ -106,7 +108,7 @@ val fullscreenButtonHookPatch = bytecodePatch(
                     (enterFullscreenReference as MethodReference).definingClass
 
                 if (opcode == Opcode.INVOKE_INTERFACE) {
-                    classes.forEach { classDef ->
+                    classIndex.subclassesOf(enterFullscreenClass).forEach { classDef ->
                         if (enterFullscreenMethods.size >= 2)
                             return@forEach
                         if (!classDef.interfaces.contains(enterFullscreenClass))
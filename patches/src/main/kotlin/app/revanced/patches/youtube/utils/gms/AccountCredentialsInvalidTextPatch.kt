@@ -11,6 +11,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 
@@ -25,7 +26,7 @@ val accountCredentialsInvalidTextPatch = bytecodePatch(
         sharedResourceIdPatch,
     )
 
-    execute {
+    profiledExecute {
         // If the user recently changed their account password,
         // the app can show "You're offline. Check your internet connection."
         // even when the internet is available.  For this situation
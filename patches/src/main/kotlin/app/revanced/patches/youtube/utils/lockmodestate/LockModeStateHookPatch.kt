@@ -6,6 +6,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.removeInstruction
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.youtube.utils.extension.Constants.UTILS_PATH
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
@@ -15,7 +16,7 @@ val lockModeStateHookPatch = bytecodePatch(
     description = "lockModeStateHookPatch"
 ) {
 
-    execute {
+    profiledExecute {
 
         lockModeStateFingerprint.matchOrThrow().let {
             it.method.apply {
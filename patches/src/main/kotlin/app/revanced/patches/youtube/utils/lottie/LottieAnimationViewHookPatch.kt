@@ -5,6 +5,7 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.youtube.utils.extension.Constants.UTILS_PATH
 import app.revanced.util.findMethodOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 
 private const val EXTENSION_CLASS_DESCRIPTOR =
     "$UTILS_PATH/LottieAnimationViewPatch;"
@@ -12,7 +13,7 @@ private const val EXTENSION_CLASS_DESCRIPTOR =
 val lottieAnimationViewHookPatch = bytecodePatch(
     description = "lottieAnimationViewHookPatch",
 ) {
-    execute {
+    profiledExecute {
 
         findMethodOrThrow(EXTENSION_CLASS_DESCRIPTOR) {
             name == "setAnimation"
@@ -5,6 +5,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.getInstruction
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patches.youtube.utils.extension.Constants.EXTENSION_PATH
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 private const val EXTENSION_VIDEO_UTILS_CLASS_DESCRIPTOR =
@@ -13,7 +14,7 @@ private const val EXTENSION_VIDEO_UTILS_CLASS_DESCRIPTOR =
 val pipStateHookPatch = bytecodePatch(
     description = "pipStateHookPatch",
 ) {
-    execute {
+    profiledExecute {
         pipPlaybackFingerprint.matchOrThrow().let {
             it.method.apply {
                 val insertIndex = it.patternMatch!!.endIndex
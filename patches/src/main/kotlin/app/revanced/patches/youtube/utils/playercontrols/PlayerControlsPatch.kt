@@ -28,6 +28,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionReversedOrThrow
 import app.revanced.util.inputStreamFromBundledResourceOrThrow
+import app.revanced.util.profiledExecute
 import app.revanced.util.returnEarly
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -49,7 +50,7 @@ internal lateinit var addTopControl: (String, String, String) -> Unit
 private var insertElementId = "@id/player_video_heading"
 
 val playerControlsResourcePatch = resourcePatch {
-    execute {
+    profiledExecute {
         addTopControl = { resourceDirectoryName, startElementId, endElementId ->
             val resourceFileName = "host/layout/youtube_controls_layout.xml"
             val hostingResourceStream = inputStreamFromBundledResourceOrThrow(
@@ -170,7 +171,7 @@ val playerControlsPatch = bytecodePatch(
         versionCheckPatch,
     )
 
-    execute {
+    profiledExecute {
         playerControlsVisibilityEntityModelFingerprint.matchOrThrow().let {
             it.method.apply {
                 val startIndex = it.patternMatch!!.startIndex
@@ -24,6 +24,7 @@ import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.indexOfFirstStringInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -56,7 +57,7 @@ val playerTypeHookPatch = bytecodePatch(
         lithoLayoutPatch,
     )
 
-    execute {
+    profiledExecute {
 
         // region patch for set ad progress text visibility
 
@@ -16,6 +16,7 @@ import app.revanced.patches.youtube.utils.playertype.playerTypeHookPatch
 import app.revanced.patches.youtube.video.information.videoInformationPatch
 import app.revanced.util.fingerprint.matchOrThrow
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.TwoRegisterInstruction
@@ -38,7 +39,7 @@ val playlistPatch = bytecodePatch(
         authHookPatch,
     )
 
-    execute {
+    profiledExecute {
         // Open the queue manager by pressing and holding the back button.
         getMainActivityMethod("onKeyLongPress")
             .addInstructionsWithLabels(
@@ -4,6 +4,7 @@ package app.revanced.patches.youtube.utils.playservice
 
 import app.revanced.patcher.patch.resourcePatch
 import app.revanced.util.findElementByAttributeValueOrThrow
+import app.revanced.util.profiledExecute
 
 var is_18_31_or_greater = false
     private set
@@ -113,7 +114,7 @@ var is_20_30_or_greater = false
 val versionCheckPatch = resourcePatch(
     description = "versionCheckPatch",
 ) {
-    execute {
+    profiledExecute {
         // The app version is missing from the decompiled manifest,
         // so instead use the Google Play services version and compare against specific releases.
         val playStoreServicesVersion = document("res/values/integers.xml").use { document ->
@@ -8,6 +8,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.reference.FieldReference
 
@@ -17,7 +18,7 @@ private var recyclerViewTreeObserverInsertIndex = 0
 val recyclerViewTreeObserverPatch = bytecodePatch(
     description = "recyclerViewTreeObserverPatch"
 ) {
-    execute {
+    profiledExecute {
         /**
          * If this value is false, RecyclerViewTreeObserver is not initialized.
          * This value is usually true so this patch is not strictly necessary,
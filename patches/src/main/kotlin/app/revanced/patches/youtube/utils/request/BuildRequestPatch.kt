@@ -7,6 +7,7 @@ import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.patches.youtube.utils.extension.sharedExtensionPatch
 import app.revanced.util.findFreeRegister
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 
 private lateinit var buildRequestMethod: MutableMethod
@@ -19,7 +20,7 @@ val buildRequestPatch = bytecodePatch(
 ) {
     dependsOn(sharedExtensionPatch)
 
-    execute {
+    profiledExecute {
         buildRequestMethod = buildRequestFingerprint.method.apply {
             builderIndex = indexOfNewUrlRequestBuilderInstruction(this)
             urlRegister = getInstruction<FiveRegisterInstruction>(builderIndex).registerD
@@ -13,6 +13,7 @@ import app.revanced.patches.shared.mapping.ResourceType.STRING
 import app.revanced.patches.shared.mapping.ResourceType.XML
 import app.revanced.patches.shared.mapping.getResourceId
 import app.revanced.patches.shared.mapping.resourceMappingPatch
+import app.revanced.util.profiledExecute
 
 var accountSwitcherAccessibility = -1L
     private set
@@ -284,7 +285,7 @@ internal val sharedResourceIdPatch = resourcePatch(
 ) {
     dependsOn(resourceMappingPatch)
 
-    execute {
+    profiledExecute {
         accountSwitcherAccessibility = getResourceId(STRING, "account_switcher_accessibility_label")
         actionBarRingo = getResourceId(LAYOUT, "action_bar_ringo")
         actionBarRingoBackground = getResourceId(LAYOUT, "action_bar_ringo_background")
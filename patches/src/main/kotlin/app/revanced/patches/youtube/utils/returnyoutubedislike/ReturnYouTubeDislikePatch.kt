@@ -39,6 +39,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
@@ -54,9 +55,9 @@ private val returnYouTubeDislikeRollingNumberPatch = bytecodePatch(
 ) {
     dependsOn(versionCheckPatch)
 
-    execute {
+    profiledExecute {
         if (!is_18_49_or_greater) {
-            return@execute
+            return@profiledExecute
         }
 
         rollingNumberSetterFingerprint.matchOrThrow().let {
@@ -178,7 +179,7 @@ private val returnYouTubeDislikeShortsPatch = bytecodePatch(
         versionCheckPatch
     )
 
-    execute {
+    profiledExecute {
         shortsTextViewFingerprint.matchOrThrow().let {
             it.method.apply {
                 val startIndex = it.patternMatch!!.startIndex
@@ -245,7 +246,7 @@ val returnYouTubeDislikePatch = bytecodePatch(
         videoInformationPatch,
     )
 
-    execute {
+    profiledExecute {
         mapOf(
             likeFingerprint to Vote.LIKE,
             dislikeFingerprint to Vote.DISLIKE,
@@ -41,6 +41,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.insertNode
+import app.revanced.util.profiledExecute
 import app.revanced.util.removeStringsElements
 import app.revanced.util.returnEarly
 import app.revanced.util.valueOrThrow
@@ -81,7 +82,7 @@ private val settingsBytecodePatch = bytecodePatch(
         baseSettingsPatch,
     )
 
-    execute {
+    profiledExecute {
         bytecodeContext = this
 
         // region fix cairo fragment.
@@ -292,7 +293,7 @@ val settingsPatch = resourcePatch(
         required = true,
     )
 
-    execute {
+    profiledExecute {
         /**
          * check patch options
          */
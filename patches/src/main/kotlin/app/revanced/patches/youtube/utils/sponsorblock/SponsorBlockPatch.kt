@@ -59,7 +59,7 @@ val sponsorBlockBytecodePatch = bytecodePatch(
         videoInformationPatch,
     )
 
-    execute {
+    profiledExecute {
         // Hook the video time method
         videoTimeHook(
             EXTENSION_SEGMENT_PLAYBACK_CONTROLLER_CLASS_DESCRIPTOR,
@@ -209,7 +209,7 @@ val sponsorBlockPatch = resourcePatch(
         required = true
     )
 
-    execute {
+    profiledExecute {
         /**
          * merge SponsorBlock drawables to main drawables
          */
@@ -13,6 +13,7 @@ import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
@@ -30,7 +31,7 @@ val toolBarHookPatch = bytecodePatch(
 ) {
     dependsOn(sharedResourceIdPatch)
 
-    execute {
+    profiledExecute {
         toolBarButtonFingerprint.methodOrThrow().apply {
             val getDrawableIndex = indexOfGetDrawableInstruction(this)
             val enumOrdinalIndex = indexOfFirstInstructionReversedOrThrow(getDrawableIndex) {
@@ -52,6 +52,7 @@ import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstInstructionReversedOrThrow
 import app.revanced.util.indexOfFirstLiteralInstructionOrThrow
 import app.revanced.util.or
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.builder.MutableMethodImplementation
@@ -132,7 +133,7 @@ val videoInformationPatch = bytecodePatch(
         videoIdPatch
     )
 
-    execute {
+    profiledExecute {
         fun cloneSeekRelativeSourceMethod(mutableClass: MutableClass) {
             if (!cloneSeekRelativeSourceMethod) return
 
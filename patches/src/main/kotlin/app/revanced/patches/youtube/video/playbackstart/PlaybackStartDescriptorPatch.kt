@@ -6,6 +6,7 @@ import app.revanced.patches.youtube.utils.extension.sharedExtensionPatch
 import app.revanced.util.fingerprint.methodOrThrow
 import app.revanced.util.getReference
 import app.revanced.util.indexOfFirstInstructionOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.ReferenceInstruction
 import com.android.tools.smali.dexlib2.iface.reference.MethodReference
 import com.android.tools.smali.dexlib2.iface.reference.Reference
@@ -17,7 +18,7 @@ val playbackStartDescriptorPatch = bytecodePatch(
 ) {
     dependsOn(sharedExtensionPatch)
 
-    execute {
+    profiledExecute {
         // Find the obfuscated method name for PlaybackStartDescriptor.videoId()
         playbackStartFeatureFlagFingerprint.methodOrThrow().apply {
             val stringMethodIndex = indexOfFirstInstructionOrThrow {
@@ -5,6 +5,7 @@ import app.revanced.patcher.extensions.InstructionExtensions.addInstructions
 import app.revanced.patcher.patch.bytecodePatch
 import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
 import app.revanced.util.fingerprint.methodOrThrow
+import app.revanced.util.profiledExecute
 import kotlin.properties.Delegates
 
 private val hooks = mutableSetOf<Hook>()
@@ -32,7 +33,7 @@ private var numberOfInstructionsAdded = 0
 val playerResponseMethodHookPatch = bytecodePatch(
     description = "playerResponseMethodHookPatch"
 ) {
-    execute {
+    profiledExecute {
         playerResponseMethod = playerParameterBuilderFingerprint.second.methodOrNull
             ?: playerParameterBuilderLegacyFingerprint.methodOrThrow()
 
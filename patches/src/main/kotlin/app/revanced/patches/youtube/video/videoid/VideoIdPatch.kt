@@ -10,6 +10,7 @@ import app.revanced.patches.youtube.video.playerresponse.Hook
 import app.revanced.patches.youtube.video.playerresponse.addPlayerResponseMethodHook
 import app.revanced.patches.youtube.video.playerresponse.playerResponseMethodHookPatch
 import app.revanced.util.fingerprint.matchOrThrow
+import app.revanced.util.profiledExecute
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
 
 private var videoIdRegister = 0
@@ -21,7 +22,7 @@ val videoIdPatch = bytecodePatch(
 ) {
     dependsOn(playerResponseMethodHookPatch)
 
-    execute {
+    profiledExecute {
         /**
          * Supplies the method and register index of the video id register.
          *
@@ -27,6 +27,7 @@ import app.revanced.util.Utils.printWarn
 import com.android.tools.smali.dexlib2.AccessFlags
 import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.Opcode.*
+import com.android.tools.smali.dexlib2.iface.ClassDef
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.MethodParameter
 import com.android.tools.smali.dexlib2.iface.instruction.FiveRegisterInstruction
@@ -47,6 +48,7 @@ import com.android.tools.smali.dexlib2.immutable.ImmutableMethod
 import com.android.tools.smali.dexlib2.immutable.ImmutableMethodImplementation
 import com.android.tools.smali.dexlib2.util.MethodUtil
 import java.util.EnumSet
+import java.util.stream.Collectors
 
 const val REGISTER_TEMPLATE_REPLACEMENT: String = "REGISTER_INDEX"
 
@@ -622,10 +624,10 @@ fun BytecodePatchContext.traverseClassHierarchy(
 ) {
     callback(targetClass)
 
-    targetClass.superclass ?: return
+    val superclass = targetClass.superclass ?: return
 
-    classBy { targetClass.superclass == it.type }?.mutableClass?.let {
-        traverseClassHierarchy(it, callback)
+    classIndex.classByType(superclass)?.let {
+        traverseClassHierarchy(proxy(it).mutableClass, callback)
     }
 }
 
@@ -643,29 +645,24 @@ fun MutableMethod.injectLiteralInstructionViewCall(
     )
 }
 
+/**
+ * @return Indices of all [CONST] instructions with the given literal value.
+ */
+private fun Method.findConstLiteralIndices(literal: Long) =
+    implementation?.instructions?.withIndex()?.filter { (_, instruction) ->
+        instruction.opcode == CONST && (instruction as Instruction31i).wideLiteral == literal
+    }?.map { (index, _) -> index } ?: emptyList()
+
 fun BytecodePatchContext.replaceLiteralInstructionCall(
     originalLiteral: Long,
     replaceLiteral: Long
-) {
-    classes.forEach { classDef ->
-        classDef.methods.forEach { method ->
-            method.implementation.apply {
-                this?.instructions?.forEachIndexed { _, instruction ->
-                    if (instruction.opcode != CONST)
-                        return@forEachIndexed
-                    if ((instruction as Instruction31i).wideLiteral != originalLiteral)
-                        return@forEachIndexed
-
-                    proxy(classDef)
-                        .mutableClass
-                        .findMutableMethodOf(method).apply {
-                            val index = indexOfFirstLiteralInstructionOrThrow(originalLiteral)
-                            val register =
-                                (instruction as OneRegisterInstruction).registerA
-
-                            replaceInstruction(index, "const v$register, $replaceLiteral")
-                        }
-                }
+) = PatchProfiler.measure(PatchProfiler.CATEGORY_SCAN, "replaceLiteralInstructionCall $originalLiteral") {
+    instructionIndex.methodsWithLiteral(originalLiteral).forEach { location ->
+        mutableMethodOf(location).apply {
+            findConstLiteralIndices(originalLiteral).forEach { index ->
+                val register = getInstruction<OneRegisterInstruction>(index).registerA
+
+                replaceInstruction(index, "const v$register, $replaceLiteral")
             }
         }
     }
@@ -674,29 +671,17 @@ fun BytecodePatchContext.replaceLiteralInstructionCall(
 fun BytecodePatchContext.replaceLiteralInstructionCall(
     literal: Long,
     smaliInstruction: String
-) {
-    classes.forEach { classDef ->
-        classDef.methods.forEach { method ->
-            method.implementation.apply {
-                this?.instructions?.forEachIndexed { _, instruction ->
-                    if (instruction.opcode != CONST)
-                        return@forEachIndexed
-                    if ((instruction as Instruction31i).wideLiteral != literal)
-                        return@forEachIndexed
-
-                    proxy(classDef)
-                        .mutableClass
-                        .findMutableMethodOf(method).apply {
-                            val index = indexOfFirstLiteralInstructionOrThrow(literal)
-                            val register =
-                                (instruction as OneRegisterInstruction).registerA.toString()
-
-                            addInstructions(
-                                index + 1,
-                                smaliInstruction.replace(REGISTER_TEMPLATE_REPLACEMENT, register)
-                            )
-                        }
-                }
+) = PatchProfiler.measure(PatchProfiler.CATEGORY_SCAN, "replaceLiteralInstructionCall $literal") {
+    instructionIndex.methodsWithLiteral(literal).forEach { location ->
+        mutableMethodOf(location).apply {
+            // Reversed, so adding instructions does not change the indices still to be patched.
+            findConstLiteralIndices(literal).asReversed().forEach { index ->
+                val register = getInstruction<OneRegisterInstruction>(index).registerA.toString()
+
+                addInstructions(
+                    index + 1,
+                    smaliInstruction.replace(REGISTER_TEMPLATE_REPLACEMENT, register)
+                )
             }
         }
     }
@@ -920,21 +905,51 @@ fun Method.referenceMatchesOrThrow(targetIndex: Int, reference: String) {
 fun BytecodePatchContext.forEachLiteralValueInstruction(
     literal: Long,
     block: MutableMethod.(literalInstructionIndex: Int) -> Unit,
-) {
-    classes.forEach { classDef ->
-        classDef.methods.forEach { method ->
-            method.implementation?.instructions?.forEachIndexed { index, instruction ->
-                if (instruction.opcode == CONST &&
-                    (instruction as WideLiteralInstruction).wideLiteral == literal
-                ) {
-                    val mutableMethod = proxy(classDef).mutableClass.findMutableMethodOf(method)
-                    block.invoke(mutableMethod, index)
-                }
-            }
+) = PatchProfiler.measure(PatchProfiler.CATEGORY_SCAN, "forEachLiteralValueInstruction $literal") {
+    instructionIndex.methodsWithLiteral(literal).forEach { location ->
+        val mutableMethod = mutableMethodOf(location)
+        mutableMethod.findConstLiteralIndices(literal).forEach { index ->
+            block.invoke(mutableMethod, index)
         }
     }
 }
 
+/**
+ * A method found by [searchMethodsInParallel].
+ */
+class MethodSearchResult<T>(val classDef: ClassDef, val method: Method, val result: T)
+
+/**
+ * Searches all methods of all classes using multiple threads.
+ *
+ * Only the search is done in parallel. The results are in the same order as the classes,
+ * so the calling thread can then change the found methods in the same order as a sequential search.
+ *
+ * @param classFilter Classes to search. Called from multiple threads.
+ * @param search Returns a non-null result for each method to return.
+ * Called from multiple threads, and must not change any class or method.
+ */
+fun <T : Any> BytecodePatchContext.searchMethodsInParallel(
+    classFilter: (ClassDef) -> Boolean = { true },
+    search: (ClassDef, Method) -> T?,
+): List<MethodSearchResult<T>> = PatchProfiler.measure(PatchProfiler.CATEGORY_SCAN, "searchMethodsInParallel") {
+    searchMethodsInParallel(classes.toList(), classFilter, search)
+}
+
+internal fun <T : Any> searchMethodsInParallel(
+    classes: List<ClassDef>,
+    classFilter: (ClassDef) -> Boolean = { true },
+    search: (ClassDef, Method) -> T?,
+): List<MethodSearchResult<T>> =
+    classes.parallelStream()
+        .filter(classFilter)
+        .flatMap { classDef ->
+            classDef.methods.mapNotNull { method ->
+                search(classDef, method)?.let { result -> MethodSearchResult(classDef, method, result) }
+            }.stream()
+        }
+        .collect(Collectors.toList())
+
 context(BytecodePatchContext)
 fun Match.getWalkerMethod(offset: Int) =
     method.getWalkerMethod(offset)
@@ -966,7 +981,7 @@ fun addStaticFieldToExtension(
     smaliInstructions: String,
     shouldAddConstructor: Boolean = true
 ): MutableMethod {
-    val classDef = classes.find { classDef -> classDef.type == className }
+    val classDef = classIndex.classByType(className)
         ?: throw PatchException("No matching methods found in: $className")
     val mutableClass = proxy(classDef).mutableClass
 
@@ -1039,7 +1054,7 @@ fun findMethodsOrThrow(
 
 context(BytecodePatchContext)
 fun findMutableClassOrThrow(reference: String): MutableClass {
-    val classDef = classes.find { classDef -> classDef.type == reference }
+    val classDef = classIndex.classByType(reference)
         ?: throw PatchException("No matching methods found in: $reference")
     return proxy(classDef)
         .mutableClass
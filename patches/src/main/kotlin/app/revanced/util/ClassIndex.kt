@@ -0,0 +1,69 @@
+package app.revanced.util
+
+import app.revanced.patcher.patch.BytecodePatchContext
+import com.android.tools.smali.dexlib2.iface.ClassDef
+import java.util.WeakHashMap
+
+/**
+ * Index of all classes of an app by type descriptor, and by the superclass and interfaces they extend.
+ *
+ * Finding a class by type otherwise searches the list of all classes,
+ * and patches look up classes by type from many places.
+ * The index is built on first use and is shared by all patches of the same patching session.
+ * Classes added after the index was built, such as extension classes, are indexed on the next lookup.
+ *
+ * The index contains the original classes. Use [BytecodePatchContext.proxy] to change a found class.
+ * The hierarchy is the original hierarchy, and does not include superclasses changed by patches.
+ */
+class ClassIndex internal constructor(private val classes: List<ClassDef>) {
+    private val classesByType = HashMap<String, ClassDef>()
+    private val subclassesByType = HashMap<String, MutableList<ClassDef>>()
+    private var indexedClassCount = 0
+
+    /**
+     * @param type Type descriptor, such as `Landroid/view/View;`.
+     * @return The class of the type, or null if the app does not contain the class.
+     */
+    @Synchronized
+    fun classByType(type: String): ClassDef? {
+        update()
+        return classesByType[type]
+    }
+
+    /**
+     * @param type Type descriptor of a class or interface.
+     * @return All classes that directly extend the class or implement the interface.
+     */
+    @Synchronized
+    fun subclassesOf(type: String): List<ClassDef> {
+        update()
+        return subclassesByType[type]?.toList() ?: emptyList()
+    }
+
+    private fun update() {
+        val classCount = classes.size
+        for (i in indexedClassCount until classCount) {
+            val classDef = classes[i]
+            // If a type exists more than once, use the first class same as a search of the class list.
+            if (classesByType.putIfAbsent(classDef.type, classDef) != null) continue
+
+            classDef.superclass?.let { superclass ->
+                subclassesByType.getOrPut(superclass) { ArrayList(1) }.add(classDef)
+            }
+            classDef.interfaces.forEach { interfaceType ->
+                subclassesByType.getOrPut(interfaceType) { ArrayList(1) }.add(classDef)
+            }
+        }
+        indexedClassCount = classCount
+    }
+}
+
+private val classIndexes = WeakHashMap<BytecodePatchContext, ClassIndex>()
+
+/**
+ * The [ClassIndex] of this patching session.
+ */
+val BytecodePatchContext.classIndex: ClassIndex
+    get() = synchronized(classIndexes) {
+        classIndexes.getOrPut(this) { ClassIndex(classes) }
+    }
@@ -50,4 +50,36 @@ internal object FilesCompat {
             Files.copy(source, target.toPath(), StandardCopyOption.REPLACE_EXISTING)
         }
     }
+
+    /**
+     * Copy a file to a target file, unless the `target` file already has the same content.
+     *
+     * @return If the `target` file was written.
+     */
+    fun copyIfChanged(source: File, target: File): Boolean {
+        if (target.hasContent(source.length()) { source.readBytes() }) return false
+
+        copy(source, target)
+        return true
+    }
+
+    /**
+     * Copies all bytes from an input stream to a file, unless the `target` file already has the same content.
+     * The input stream is closed.
+     *
+     * @return If the `target` file was written.
+     */
+    fun copyIfChanged(source: InputStream, target: File): Boolean {
+        val bytes = source.use { it.readBytes() }
+        if (target.hasContent(bytes.size.toLong()) { bytes }) return false
+
+        target.writeBytes(bytes)
+        return true
+    }
+
+    /**
+     * Compares the length first, so the content is only read for files that can be the same.
+     */
+    private inline fun File.hasContent(expectedLength: Long, content: () -> ByteArray) =
+        isFile && length() == expectedLength && readBytes().contentEquals(content())
 }
\ No newline at end of file
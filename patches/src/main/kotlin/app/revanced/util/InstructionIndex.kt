@@ -0,0 +1,129 @@
+package app.revanced.util
+
+import app.revanced.patcher.patch.BytecodePatchContext
+import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
+import com.android.tools.smali.dexlib2.Opcode
+import com.android.tools.smali.dexlib2.iface.ClassDef
+import com.android.tools.smali.dexlib2.iface.Method
+import com.android.tools.smali.dexlib2.iface.instruction.Instruction
+import com.android.tools.smali.dexlib2.iface.instruction.WideLiteralInstruction
+import com.android.tools.smali.dexlib2.iface.reference.MethodReference
+import com.android.tools.smali.dexlib2.iface.reference.StringReference
+import java.util.EnumSet
+import java.util.WeakHashMap
+
+/**
+ * Index of the literal values, strings and method calls of all methods of an app.
+ *
+ * Many patches search every instruction of every method for a resource id or a string,
+ * and an app such as YouTube has around 100k methods.
+ * Each kind of index is built on first use with a single pass over all classes,
+ * and is shared by all patches of the same patching session.
+ *
+ * The index only narrows down the methods to search.
+ * The found methods must still be searched, using the mutable method if the class was changed by a patch.
+ * Classes added after the index was built, such as extension classes, are indexed on the next lookup.
+ */
+class InstructionIndex internal constructor(private val classes: List<ClassDef>) {
+    /**
+     * Method that contains a value of the index.
+     */
+    class Location(val classDef: ClassDef, val method: Method)
+
+    private inner class Index<K : Any>(private val name: String, private val keyOf: (Instruction) -> K?) {
+        private val locations = HashMap<K, MutableList<Location>>()
+        private var indexedClassCount = 0
+
+        @Synchronized
+        fun get(key: K): List<Location> {
+            update()
+            return locations[key]?.toList() ?: emptyList()
+        }
+
+        @Synchronized
+        fun keys(): Set<K> {
+            update()
+            return locations.keys.toSet()
+        }
+
+        private fun update() {
+            val classCount = classes.size
+            if (indexedClassCount == classCount) return
+
+            PatchProfiler.measure(PatchProfiler.CATEGORY_SCAN, "InstructionIndex $name") {
+                // Find the keys of each method in parallel, then add them in the order of the classes.
+                searchMethodsInParallel(classes.subList(indexedClassCount, classCount).toList()) { _, method ->
+                    method.implementation?.instructions?.mapNotNullTo(LinkedHashSet(), keyOf)?.ifEmpty { null }
+                }.forEach { found ->
+                    val location = Location(found.classDef, found.method)
+                    found.result.forEach { key ->
+                        locations.getOrPut(key) { ArrayList(1) }.add(location)
+                    }
+                }
+            }
+            indexedClassCount = classCount
+        }
+    }
+
+    private val literals = Index("literals") { instruction ->
+        if (instruction.opcode in literalOpcodes) (instruction as WideLiteralInstruction).wideLiteral else null
+    }
+
+    private val strings = Index("strings") { instruction ->
+        instruction.getReference<StringReference>()?.string
+    }
+
+    private val methodCalls = Index("method references") { instruction ->
+        instruction.getReference<MethodReference>()?.toString()
+    }
+
+    /**
+     * @return All methods that load the literal with a const instruction.
+     */
+    fun methodsWithLiteral(literal: Long): List<Location> = literals.get(literal)
+
+    /**
+     * @return All methods that use the string.
+     */
+    fun methodsWithString(string: String): List<Location> = strings.get(string)
+
+    /**
+     * @return All distinct strings used by any method.
+     */
+    fun allStrings(): Set<String> = strings.keys()
+
+    /**
+     * @param methodReference Method reference in smali format, such as `Landroid/view/View;->setVisibility(I)V`.
+     * @return All methods that call or otherwise reference the method.
+     */
+    fun methodsWithMethodReference(methodReference: String): List<Location> = methodCalls.get(methodReference)
+
+    private companion object {
+        val literalOpcodes: EnumSet<Opcode> = EnumSet.of(
+            Opcode.CONST_4,
+            Opcode.CONST_16,
+            Opcode.CONST,
+            Opcode.CONST_HIGH16,
+            Opcode.CONST_WIDE_16,
+            Opcode.CONST_WIDE_32,
+            Opcode.CONST_WIDE,
+            Opcode.CONST_WIDE_HIGH16,
+        )
+    }
+}
+
+private val instructionIndexes = WeakHashMap<BytecodePatchContext, InstructionIndex>()
+
+/**
+ * The [InstructionIndex] of this patching session.
+ */
+val BytecodePatchContext.instructionIndex: InstructionIndex
+    get() = synchronized(instructionIndexes) {
+        instructionIndexes.getOrPut(this) { InstructionIndex(classes) }
+    }
+
+/**
+ * @return The mutable method of an [InstructionIndex.Location].
+ */
+fun BytecodePatchContext.mutableMethodOf(location: InstructionIndex.Location): MutableMethod =
+    proxy(location.classDef).mutableClass.findMutableMethodOf(location.method)
@@ -0,0 +1,129 @@
+package app.revanced.util
+
+import app.revanced.patcher.patch.PatchBuilder
+import app.revanced.patcher.patch.PatchContext
+import app.revanced.util.Utils.printInfo
+import app.revanced.util.Utils.printWarn
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Records the time spent in the execute block of each patch, fingerprint resolution,
+ * whole app bytecode scans and resource file changes.
+ * The time of a patch includes the fingerprints, scans and resource files of that patch.
+ *
+ * Enabled by setting the system property [REPORT_FILE_PROPERTY],
+ * or the environment variable [REPORT_FILE_ENVIRONMENT_VARIABLE], to the path of the report file.
+ * The report is written as CSV when the patching process exits,
+ * with the most time consuming sections first. Use the path of the output APK to keep them together.
+ *
+ * If not enabled, [measure] only calls the measured block.
+ */
+internal object PatchProfiler {
+    const val REPORT_FILE_PROPERTY = "revanced.profile.report"
+    const val REPORT_FILE_ENVIRONMENT_VARIABLE = "REVANCED_PROFILE_REPORT"
+    const val REPORT_HEADER = "category,name,count,total_ms,max_ms"
+
+    const val CATEGORY_PATCH = "patch"
+    const val CATEGORY_FINGERPRINT = "fingerprint"
+    const val CATEGORY_SCAN = "scan"
+    const val CATEGORY_RESOURCE = "resource"
+
+    private val reportFile: File? = (System.getProperty(REPORT_FILE_PROPERTY)
+        ?: System.getenv(REPORT_FILE_ENVIRONMENT_VARIABLE))?.let(::File)
+
+    @PublishedApi
+    internal val isEnabled = reportFile != null
+
+    private class Section {
+        val count = AtomicLong()
+        val totalNanos = AtomicLong()
+        val maxNanos = AtomicLong()
+    }
+
+    /**
+     * Category and name, to the time of that section.
+     */
+    private val sections = ConcurrentHashMap<Pair<String, String>, Section>()
+
+    init {
+        if (reportFile != null) {
+            Runtime.getRuntime().addShutdownHook(Thread(::writeReport))
+        }
+    }
+
+    inline fun <T> measure(category: String, name: String, block: () -> T): T {
+        if (!isEnabled) return block()
+
+        val start = System.nanoTime()
+        try {
+            return block()
+        } finally {
+            record(category, name, System.nanoTime() - start)
+        }
+    }
+
+    /**
+     * @return The name of the patch declared by the caller of [profiledExecute],
+     * such as `UnlockPremium.unlockPremiumPatch`.
+     */
+    internal fun callerPatchName(): String = StackWalker.getInstance().walk { frames ->
+        frames.filter { !it.className.startsWith(PatchProfiler::class.java.name) }.findFirst()
+    }.map { frame ->
+        // The builder lambda is either a method of the file class, such as 'unlockPremiumPatch$lambda$2',
+        // or a class of its own, such as 'UnlockPremiumKt$unlockPremiumPatch$1'.
+        val fileClass = frame.className.substringAfterLast('.').substringBefore('$')
+        val propertyName = (frame.className.substringAfter('$', "") + '$' + frame.methodName)
+            .split('$')
+            .firstOrNull { it.isNotEmpty() && it != "lambda" && it != "invoke" && it.any { char -> !char.isDigit() } }
+        fileClass.removeSuffix("Kt") + (propertyName?.let { ".$it" } ?: "")
+    }.orElse("unknown")
+
+    @PublishedApi
+    internal fun record(category: String, name: String, nanos: Long) {
+        sections.computeIfAbsent(category to name) { Section() }.apply {
+            count.incrementAndGet()
+            totalNanos.addAndGet(nanos)
+            maxNanos.accumulateAndGet(nanos, ::maxOf)
+        }
+    }
+
+    private fun writeReport() {
+        val file = reportFile ?: return
+        try {
+            file.bufferedWriter().use { writer ->
+                writer.appendLine(REPORT_HEADER)
+                sections.entries.sortedByDescending { it.value.totalNanos.get() }.forEach { (key, section) ->
+                    val (category, name) = key
+                    writer.appendLine(
+                        listOf(
+                            category,
+                            // Quote names, as resource paths and method signatures can contain commas.
+                            "\"" + name.replace("\"", "\"\"") + "\"",
+                            section.count.get(),
+                            section.totalNanos.get() / 1_000_000,
+                            section.maxNanos.get() / 1_000_000,
+                        ).joinToString(",")
+                    )
+                }
+            }
+            printInfo("Wrote patch profile report: $file")
+        } catch (ex: IOException) {
+            printWarn("Could not write patch profile report: $file $ex")
+        }
+    }
+}
+
+/**
+ * Sets the execute block of the patch, recording its time with [PatchProfiler] if enabled.
+ */
+fun <C : PatchContext<*>> PatchBuilder<C>.profiledExecute(block: C.() -> Unit) {
+    if (!PatchProfiler.isEnabled) return execute(block)
+
+    val name = PatchProfiler.callerPatchName()
+    profiledExecute {
+        PatchProfiler.measure(PatchProfiler.CATEGORY_PATCH, name) { block() }
+    }
+}
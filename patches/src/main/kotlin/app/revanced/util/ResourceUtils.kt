@@ -12,7 +12,9 @@ import org.w3c.dom.NodeList
 import java.io.File
 import java.io.InputStream
 import java.nio.file.Files
-import java.nio.file.StandardCopyOption
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
 
 private val classLoader = object {}.javaClass.classLoader
 
@@ -65,19 +67,24 @@ fun List<String>.getResourceGroup(fileNames: Array<String>) = map { directory ->
     )
 }
 
-private fun ResourcePatchContext.getMipMapPath(): String {
-    var path: String
-    document("AndroidManifest.xml").use { document ->
+/**
+ * Opens the document, and records the time until it is written with the [PatchProfiler].
+ */
+private inline fun <T> ResourcePatchContext.profiledDocument(path: String, block: (Document) -> T): T =
+    PatchProfiler.measure(PatchProfiler.CATEGORY_RESOURCE, path) {
+        document(path).use(block)
+    }
+
+private fun ResourcePatchContext.getMipMapPath(): String =
+    profiledDocument("AndroidManifest.xml") { document ->
         val manifestElement = document.getNode("application") as Element
         val mipmapResourceFile = manifestElement.getAttribute("android:icon").split("/")[1]
-        path = "res/mipmap-anydpi/$mipmapResourceFile.xml"
+        "res/mipmap-anydpi/$mipmapResourceFile.xml"
     }
-    return path
-}
 
 private fun ResourcePatchContext.getAdaptiveIconResourceFile(tag: String): String {
     val path = getMipMapPath()
-    document(path).use { document ->
+    profiledDocument(path) { document ->
         val adaptiveIcon = document
             .getElementsByTagName("adaptive-icon")
             .item(0) as Element
@@ -108,14 +115,15 @@ fun ResourcePatchContext.copyAdaptiveIcon(
     mipmapDirectories: List<String>,
     adaptiveIconMonoChromeFileName: String? = null,
 ) {
+    val resourceDirectory = get("res")
     mapOf(
         adaptiveIconBackgroundFileName to getAdaptiveIconBackgroundResourceFile(),
         adaptiveIconForegroundFileName to getAdaptiveIconForegroundResourceFile()
     ).forEach { (oldIconResourceFile, newIconResourceFile) ->
         if (oldIconResourceFile != newIconResourceFile) {
-            mipmapDirectories.forEach {
-                val mipmapDirectory = get("res").resolve(it)
-                FilesCompat.copy(
+            mipmapDirectories.forEachParallel {
+                val mipmapDirectory = resourceDirectory.resolve(it)
+                FilesCompat.copyIfChanged(
                     mipmapDirectory.resolve("$oldIconResourceFile.png"),
                     mipmapDirectory.resolve("$newIconResourceFile.png")
                 )
@@ -126,8 +134,8 @@ fun ResourcePatchContext.copyAdaptiveIcon(
     if (adaptiveIconMonoChromeFileName != null &&
         adaptiveIconMonoChromeFileName != getAdaptiveIconMonoChromeResourceFile()
     ) {
-        val drawableDirectory = get("res").resolve("drawable")
-        FilesCompat.copy(
+        val drawableDirectory = resourceDirectory.resolve("drawable")
+        FilesCompat.copyIfChanged(
             drawableDirectory.resolve("$adaptiveIconMonoChromeFileName.xml"),
             drawableDirectory.resolve("${getAdaptiveIconMonoChromeResourceFile()}.xml")
         )
@@ -156,7 +164,7 @@ fun ResourcePatchContext.addEntryValues(
     path: String = "res/values/arrays.xml",
     prepend: Boolean = true,
 ) {
-    document(path).use { document ->
+    profiledDocument(path) { document ->
         with(document) {
             val resourcesNode = documentElement
             val childNodes = resourcesNode.childNodes
@@ -219,7 +227,7 @@ fun ResourcePatchContext.removeOverlayBackground(
 
         if (targetXmlPath.exists()) {
             targetId.forEach { identifier ->
-                document("res/layout/$file").use { document ->
+                profiledDocument("res/layout/$file") { document ->
                     document.doRecursively {
                         arrayOf("height", "width").forEach replacement@{ replacement ->
                             if (it !is Element) return@replacement
@@ -261,18 +269,25 @@ fun ResourcePatchContext.removeStringsElements(
     paths: Array<String>,
     replacements: Array<String>
 ) {
-    paths.forEach { path ->
-        val resourceDirectory = get("res")
-        val targetXmlPath = resourceDirectory.resolve(path).resolve("strings.xml")
-
-        if (targetXmlPath.exists()) {
-            val targetXml = get("res/$path/strings.xml")
-
-            replacements.forEach replacementsLoop@{ replacement ->
-                targetXml.writeText(
-                    targetXml.readText()
-                        .replaceFirst(""" {4}<string name="$replacement".+""".toRegex(), "")
-                )
+    val resourceDirectory = get("res")
+    val replacementSet = replacements.toSet()
+
+    // Each language is a separate file, so they can be changed in parallel.
+    paths.toList().forEachParallel { path ->
+        val targetXml = resourceDirectory.resolve(path).resolve("strings.xml")
+
+        if (targetXml.exists()) {
+            PatchProfiler.measure(PatchProfiler.CATEGORY_RESOURCE, "res/$path/strings.xml") {
+                if (StreamingXml.isSupported) {
+                    StreamingXml.removeStrings(targetXml, replacementSet)
+                } else {
+                    replacements.forEach replacementsLoop@{ replacement ->
+                        targetXml.writeText(
+                            targetXml.readText()
+                                .replaceFirst(""" {4}<string name="$replacement".+""".toRegex(), "")
+                        )
+                    }
+                }
             }
         }
     }
@@ -287,30 +302,37 @@ fun Node.insertNode(tagName: String, targetNode: Node, block: Element.() -> Unit
 /**
  * Copy resources from the current class loader to the resource directory.
  *
+ * Resources are copied in parallel, and a resource is not written if the app already has the same file.
+ *
  * @param sourceResourceDirectory The source resource directory name.
  * @param resources The resources to copy.
  */
 fun ResourcePatchContext.copyResources(
     sourceResourceDirectory: String,
     vararg resources: ResourceGroup,
-) {
+) = PatchProfiler.measure(PatchProfiler.CATEGORY_RESOURCE, "copyResources $sourceResourceDirectory") {
     val resourceDirectory = get("res")
 
+    // A resource listed more than once is only copied once.
+    val resourceFiles = LinkedHashSet<String>()
     for (resourceGroup in resources) {
         resourceGroup.resources.forEach { resource ->
             val resourceDirectoryName = resourceGroup.resourceDirectoryName
             val targetDirectory = resourceDirectory.resolve(resourceDirectoryName)
             if (!targetDirectory.isDirectory) targetDirectory.mkdirs()
-            val resourceFile = "$resourceDirectoryName/$resource"
-            inputStreamFromBundledResource(
-                sourceResourceDirectory,
-                resourceFile
-            )?.let { inputStream ->
-                FilesCompat.copy(
-                    inputStream,
-                    resourceDirectory.resolve(resourceFile),
-                )
-            }
+            resourceFiles.add("$resourceDirectoryName/$resource")
+        }
+    }
+
+    resourceFiles.forEachParallel { resourceFile ->
+        inputStreamFromBundledResource(
+            sourceResourceDirectory,
+            resourceFile
+        )?.let { inputStream ->
+            FilesCompat.copyIfChanged(
+                inputStream,
+                resourceDirectory.resolve(resourceFile),
+            )
         }
     }
 }
@@ -327,20 +349,23 @@ fun ResourcePatchContext.copyResourcesWithRename(
 ) {
     val targetResourceDirectory = this["res"]
 
+    // Every icon is a copy of the same file, so it is only read once.
+    val iconBytes by lazy {
+        inputStreamFromBundledResource(sourceResourceDirectory, "drawable/icon.xml")!!.use { it.readBytes() }
+    }
+
     for ((title, pathData) in resourceMap) {
         // Check if pathData is another title
         if (resourceMap.containsKey(pathData)) {
             continue // Skip copying if the pathData is another title
         }
 
-        val resourceFile = "drawable/icon.xml"
-        val inputStream = inputStreamFromBundledResource(sourceResourceDirectory, resourceFile)!!
-        val targetFile = targetResourceDirectory.resolve("drawable/$title.xml").toPath()
+        val targetFile = targetResourceDirectory.resolve("drawable/$title.xml")
 
-        Files.copy(inputStream, targetFile, StandardCopyOption.REPLACE_EXISTING)
+        targetFile.writeBytes(iconBytes)
 
         // Update the XML with the new path data
-        document(targetFile.toString()).use { document ->
+        profiledDocument(targetFile.toString()) { document ->
             updatePathData(document, pathData)
         }
     }
@@ -387,6 +412,33 @@ fun ResourcePatchContext.removeResources(
     }
 }
 
+/**
+ * Performs the action on each element using multiple threads, and waits until all are done.
+ * If an action throws an exception, it is thrown after all actions are done.
+ *
+ * @param action Called from multiple threads. Must only change files not changed by other actions.
+ */
+internal fun <T> Iterable<T>.forEachParallel(action: (T) -> Unit) {
+    val elements = toList()
+    if (elements.size < 2) {
+        elements.forEach(action)
+        return
+    }
+
+    val executor = Executors.newFixedThreadPool(minOf(Runtime.getRuntime().availableProcessors(), elements.size))
+    try {
+        executor.invokeAll(elements.map { element -> Callable { action(element) } }).forEach { future ->
+            try {
+                future.get()
+            } catch (ex: ExecutionException) {
+                throw ex.cause ?: ex
+            }
+        }
+    } finally {
+        executor.shutdown()
+    }
+}
+
 internal fun inputStreamFromBundledResourceOrThrow(
     sourceResourceDirectory: String,
     resourceFile: String,
@@ -420,12 +472,19 @@ fun ResourcePatchContext.copyXmlNode(
     targetResource
 )?.let { inputStream ->
     val outputPath = "res/$targetResource"
-    if (get(outputPath).exists()) {
-        // Copy nodes from the resources node to the real resource node
-        elementTag.copyXmlNode(
-            document(inputStream),
-            document(outputPath),
-        ).close()
+    val outputFile = get(outputPath)
+    if (outputFile.exists()) {
+        PatchProfiler.measure(PatchProfiler.CATEGORY_RESOURCE, outputPath) {
+            if (StreamingXml.isSupported) {
+                StreamingXml.appendChildren(outputFile, inputStream, elementTag)
+            } else {
+                // Copy nodes from the resources node to the real resource node
+                elementTag.copyXmlNode(
+                    document(inputStream),
+                    document(outputPath),
+                ).close()
+            }
+        }
     }
 }
 
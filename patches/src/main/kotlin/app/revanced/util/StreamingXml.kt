@@ -0,0 +1,256 @@
+package app.revanced.util
+
+import java.io.File
+import java.io.InputStream
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import javax.xml.namespace.QName
+import javax.xml.stream.XMLEventFactory
+import javax.xml.stream.XMLEventReader
+import javax.xml.stream.XMLEventWriter
+import javax.xml.stream.XMLInputFactory
+import javax.xml.stream.XMLOutputFactory
+import javax.xml.stream.XMLStreamConstants
+import javax.xml.stream.XMLStreamReader
+import javax.xml.stream.events.EndElement
+import javax.xml.stream.events.Namespace
+import javax.xml.stream.events.StartElement
+import javax.xml.stream.events.XMLEvent
+
+/**
+ * Changes resource files with a single pass over the file, using the StAX streaming API.
+ *
+ * Opening a resource file as a DOM document parses the whole file into memory
+ * and serializes it again, which is slow for the strings of an app with tens of thousands of strings.
+ * The streaming functions only keep the current element in memory,
+ * and keep the formatting of the parts of the file that are not changed.
+ *
+ * This is not available on Android, used by the ReVanced Manager.
+ * Check [isSupported] and use a DOM document otherwise.
+ */
+internal object StreamingXml {
+    private const val ENCODING = "UTF-8"
+    private const val STRING_TAG = "string"
+    private val nameAttribute = QName("name")
+
+    val isSupported = try {
+        Class.forName("javax.xml.stream.XMLInputFactory")
+        true
+    } catch (_: ClassNotFoundException) {
+        false
+    }
+
+    // Factories are not guaranteed to be thread safe, and files are changed from multiple threads.
+    private val inputFactory = object : ThreadLocal<XMLInputFactory>() {
+        override fun initialValue(): XMLInputFactory = XMLInputFactory.newInstance().apply {
+            setProperty(XMLInputFactory.SUPPORT_DTD, false)
+            setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+        }
+    }
+
+    private val outputFactory = object : ThreadLocal<XMLOutputFactory>() {
+        override fun initialValue(): XMLOutputFactory = XMLOutputFactory.newInstance()
+    }
+
+    private val eventFactory = object : ThreadLocal<XMLEventFactory>() {
+        override fun initialValue(): XMLEventFactory = XMLEventFactory.newInstance()
+    }
+
+    /**
+     * Calls the action for each [elementTag] element of the file, without keeping the elements in memory.
+     *
+     * @param action Called with the reader positioned at the start of the element, to read its attributes.
+     */
+    fun forEachElement(file: File, elementTag: String, action: (XMLStreamReader) -> Unit) {
+        file.inputStream().buffered().use { inputStream ->
+            val reader = inputFactory.get().createXMLStreamReader(inputStream)
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.localName == elementTag) {
+                        action(reader)
+                    }
+                }
+            } finally {
+                reader.close()
+            }
+        }
+    }
+
+    /**
+     * @return The text of each `<string>` element of the file, by the name of the string.
+     */
+    fun readStrings(file: File): Map<String, String> {
+        val strings = HashMap<String, String>()
+        file.inputStream().buffered().use { inputStream ->
+            val reader = inputFactory.get().createXMLEventReader(inputStream)
+            try {
+                while (reader.hasNext()) {
+                    val name = reader.nextEvent().stringName() ?: continue
+                    strings[name] = reader.readText()
+                }
+            } finally {
+                reader.close()
+            }
+        }
+        return strings
+    }
+
+    /**
+     * Replaces the text of each `<string>` element of the file that has a value.
+     *
+     * @param values The new text of the strings, by the name of the string.
+     */
+    fun replaceStrings(file: File, values: Map<String, String>) = file.rewrite { event, reader, writer ->
+        val value = event.stringName()?.let(values::get) ?: return@rewrite false
+
+        val endElement = reader.skipElement()
+        writer.add(event)
+        writer.add(eventFactory.get().createCharacters(value))
+        writer.add(endElement)
+        true
+    }
+
+    /**
+     * Removes each `<string>` element of the file with one of the names.
+     */
+    fun removeStrings(file: File, names: Set<String>) = file.rewrite { event, reader, _ ->
+        val name = event.stringName()
+        if (name == null || name !in names) return@rewrite false
+
+        reader.skipElement()
+        true
+    }
+
+    /**
+     * Appends the children of the first [elementTag] element of the source
+     * to the children of the first [elementTag] element of the file.
+     */
+    fun appendChildren(file: File, source: InputStream, elementTag: String) {
+        val children = ArrayList<XMLEvent>()
+        source.buffered().use { inputStream ->
+            val reader = inputFactory.get().createXMLEventReader(inputStream)
+            try {
+                while (reader.hasNext()) {
+                    val sourceElement = reader.nextEvent()
+                    if (!sourceElement.isElement(elementTag)) continue
+
+                    // The target file may not declare the namespaces used by the children.
+                    val namespaces = sourceElement.asStartElement().namespaces.asSequence().toList()
+                    var depth = 0
+                    while (true) {
+                        val event = reader.nextEvent()
+                        if (event.isEndElement && depth-- == 0) break
+                        if (event.isStartElement && depth++ == 0 && namespaces.isNotEmpty()) {
+                            children.add(event.asStartElement().withNamespaces(namespaces))
+                        } else {
+                            children.add(event)
+                        }
+                    }
+                    break
+                }
+            } finally {
+                reader.close()
+            }
+        }
+
+        var depth = 0
+        var targetDepth = -1
+        file.rewrite { event, _, writer ->
+            if (event.isStartElement) {
+                if (targetDepth < 0 && event.isElement(elementTag)) targetDepth = depth
+                depth++
+            } else if (event.isEndElement) {
+                depth--
+                if (depth == targetDepth) {
+                    children.forEach(writer::add)
+                    targetDepth = Int.MAX_VALUE
+                }
+            }
+            false
+        }
+    }
+
+    /**
+     * Writes the events of the file to a temporary file, and then replaces the file.
+     *
+     * @param transform Called for each event. Returns true if it wrote or skipped the event,
+     * or false to write the event unchanged.
+     */
+    private fun File.rewrite(transform: (XMLEvent, XMLEventReader, XMLEventWriter) -> Boolean) {
+        val temporaryFile = File(parentFile, "$name.tmp")
+        inputStream().buffered().use { inputStream ->
+            temporaryFile.outputStream().buffered().use { outputStream ->
+                val reader = inputFactory.get().createXMLEventReader(inputStream)
+                val writer = outputFactory.get().createXMLEventWriter(outputStream, ENCODING)
+                try {
+                    while (reader.hasNext()) {
+                        val event = reader.nextEvent()
+                        if (event.isStartDocument) {
+                            // The file is always written as UTF-8, regardless of the encoding it declares.
+                            writer.add(eventFactory.get().createStartDocument(ENCODING, "1.0"))
+                        } else if (!transform(event, reader, writer)) {
+                            writer.add(event)
+                        }
+                    }
+                    writer.flush()
+                } finally {
+                    writer.close()
+                    reader.close()
+                }
+            }
+        }
+        Files.move(temporaryFile.toPath(), toPath(), StandardCopyOption.REPLACE_EXISTING)
+    }
+
+    private fun StartElement.withNamespaces(namespaces: List<Namespace>): StartElement =
+        eventFactory.get().createStartElement(
+            name.prefix,
+            name.namespaceURI,
+            name.localPart,
+            attributes,
+            (this.namespaces.asSequence() + namespaces).distinctBy { it.prefix }.iterator(),
+        )
+
+    private fun XMLEvent.isElement(tag: String) =
+        isStartElement && asStartElement().name.localPart == tag
+
+    /**
+     * @return The name of the string, if the event starts a `<string>` element.
+     */
+    private fun XMLEvent.stringName(): String? =
+        if (isElement(STRING_TAG)) asStartElement().getAttributeByName(nameAttribute)?.value else null
+
+    /**
+     * Reads the remaining events of the current element.
+     *
+     * @return The text of the element and all its children, same as the text content of a DOM element.
+     */
+    private fun XMLEventReader.readText(): String {
+        val text = StringBuilder()
+        var depth = 0
+        while (true) {
+            val event = nextEvent()
+            when (event.eventType) {
+                XMLStreamConstants.START_ELEMENT -> depth++
+                XMLStreamConstants.END_ELEMENT -> if (depth-- == 0) return text.toString()
+                XMLStreamConstants.CHARACTERS,
+                XMLStreamConstants.CDATA,
+                XMLStreamConstants.SPACE -> text.append(event.asCharacters().data)
+            }
+        }
+    }
+
+    /**
+     * Skips the remaining events of the current element.
+     *
+     * @return The end of the element.
+     */
+    private fun XMLEventReader.skipElement(): EndElement {
+        var depth = 0
+        while (true) {
+            val event = nextEvent()
+            if (event.isStartElement) depth++
+            if (event.isEndElement && depth-- == 0) return event.asEndElement()
+        }
+    }
+}
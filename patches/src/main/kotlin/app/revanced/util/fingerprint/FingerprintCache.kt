@@ -0,0 +1,146 @@
+@file:Suppress("CONTEXT_RECEIVERS_DEPRECATED")
+
+package app.revanced.util.fingerprint
+
+import app.revanced.patcher.Fingerprint
+import app.revanced.patcher.patch.BytecodePatchContext
+import app.revanced.util.PatchProfiler
+import app.revanced.util.Utils.printWarn
+import app.revanced.util.classIndex
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+import java.util.WeakHashMap
+
+/**
+ * Optional on-disk cache of the classes that [legacyFingerprint]s resolve to.
+ *
+ * Enabled by setting the system property [CACHE_DIRECTORY_PROPERTY],
+ * or the environment variable [CACHE_DIRECTORY_ENVIRONMENT_VARIABLE], to a directory.
+ * Each app has a separate file that lists the class each fingerprint resolved to.
+ * The file is named using a hash of all classes of the app: the type descriptors, field and method signatures,
+ * and the register count and code size of each method. A different build of the same app version
+ * therefore uses a different file, even if the class names are unchanged.
+ *
+ * A cached fingerprint is only matched against the methods of the cached class,
+ * instead of the methods of all classes.
+ * If the class no longer matches, the fingerprint is resolved normally and the cache is updated.
+ */
+internal object FingerprintCache {
+    private const val CACHE_DIRECTORY_PROPERTY = "revanced.fingerprint.cache"
+    private const val CACHE_DIRECTORY_ENVIRONMENT_VARIABLE = "REVANCED_FINGERPRINT_CACHE"
+    private const val FILE_SUFFIX = ".fingerprints"
+    private const val SEPARATOR = '='
+
+    private val cacheDirectory: File? by lazy {
+        val path = System.getProperty(CACHE_DIRECTORY_PROPERTY)
+            ?: System.getenv(CACHE_DIRECTORY_ENVIRONMENT_VARIABLE)
+            ?: return@lazy null
+        File(path).takeIf { it.isDirectory || it.mkdirs() }
+            ?: null.also { printWarn("Fingerprint cache directory is not available: $path") }
+    }
+
+    /**
+     * Cache of a single patching session.
+     */
+    private class Session(val file: File) {
+        /**
+         * Fingerprint name to the type descriptor of the class it resolved to.
+         */
+        val cachedClasses = HashMap<String, String>()
+
+        /**
+         * Fingerprints already resolved in this session.
+         */
+        val resolvedNames = HashSet<String>()
+    }
+
+    private val sessions = WeakHashMap<BytecodePatchContext, Session>()
+
+    context(BytecodePatchContext)
+    private fun session(directory: File): Session = sessions.getOrPut(this@BytecodePatchContext) {
+        PatchProfiler.measure(PatchProfiler.CATEGORY_SCAN, "FingerprintCache session") {
+            // The patcher does not expose the dex files, so their checksums cannot be used.
+            val digest = MessageDigest.getInstance("SHA-256")
+            val classKey = StringBuilder()
+            classes.forEach { classDef ->
+                classKey.setLength(0)
+                classKey.append(classDef.type).append(classDef.accessFlags).append(classDef.superclass)
+                classDef.fields.forEach { field ->
+                    classKey.append(';').append(field.name).append(':').append(field.type)
+                }
+                classDef.methods.forEach { method ->
+                    classKey.append(';').append(method.name).append('(')
+                    method.parameterTypes.forEach { classKey.append(it) }
+                    classKey.append(')').append(method.returnType).append(method.accessFlags)
+                    method.implementation?.let { implementation ->
+                        classKey.append('#').append(implementation.registerCount)
+                            .append('/').append(implementation.instructions.sumOf { it.codeUnits })
+                    }
+                }
+                digest.update(classKey.toString().toByteArray())
+            }
+            val appHash = digest.digest().take(16).joinToString("") { "%02x".format(it) }
+
+            Session(File(directory, appHash + FILE_SUFFIX)).apply {
+                if (file.isFile) {
+                    try {
+                        // Entries are appended, so a later line replaces an earlier line of the same fingerprint.
+                        file.forEachLine { line ->
+                            val separatorIndex = line.lastIndexOf(SEPARATOR)
+                            if (separatorIndex > 0) {
+                                cachedClasses[line.substring(0, separatorIndex)] = line.substring(separatorIndex + 1)
+                            }
+                        }
+                    } catch (ex: IOException) {
+                        printWarn("Could not read fingerprint cache: ${file.name} $ex")
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the cache of this patching session, if caching is enabled.
+     * Used so the time to open the cache is not recorded as the time of the first resolved fingerprint.
+     */
+    context(BytecodePatchContext)
+    fun prepare() {
+        val directory = cacheDirectory ?: return
+        synchronized(this) {
+            session(directory)
+        }
+    }
+
+    /**
+     * Resolves the fingerprint using the cached class, if caching is enabled.
+     * After this call the fingerprint is resolved, and the match is returned by [Fingerprint.matchOrNull].
+     */
+    context(BytecodePatchContext)
+    fun resolve(name: String, fingerprint: Fingerprint) {
+        val directory = cacheDirectory ?: return
+
+        synchronized(this) {
+            val session = session(directory)
+            if (!session.resolvedNames.add(name)) return
+
+            val cachedClass = session.cachedClasses[name]
+            if (cachedClass != null) {
+                val classDef = classIndex.classByType(cachedClass)
+                if (classDef != null && fingerprint.matchOrNull(classDef) != null) {
+                    return
+                }
+            }
+
+            val type = fingerprint.matchOrNull()?.originalClassDef?.type ?: return
+            if (type == cachedClass) return
+
+            session.cachedClasses[name] = type
+            try {
+                session.file.appendText("$name$SEPARATOR$type\n")
+            } catch (ex: IOException) {
+                printWarn("Could not write fingerprint cache: ${session.file.name} $ex")
+            }
+        }
+    }
+}
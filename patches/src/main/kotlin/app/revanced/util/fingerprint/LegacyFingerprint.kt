@@ -11,6 +11,7 @@ import app.revanced.patcher.patch.BytecodePatchContext
 import app.revanced.patcher.patch.PatchException
 import app.revanced.patcher.util.proxy.mutableTypes.MutableClass
 import app.revanced.patcher.util.proxy.mutableTypes.MutableMethod
+import app.revanced.util.PatchProfiler
 import app.revanced.util.containsLiteralInstruction
 import app.revanced.util.indexOfFirstInstructionOrThrow
 import app.revanced.util.indexOfFirstLiteralInstruction
@@ -19,17 +20,44 @@ import com.android.tools.smali.dexlib2.Opcode
 import com.android.tools.smali.dexlib2.iface.ClassDef
 import com.android.tools.smali.dexlib2.iface.Method
 import com.android.tools.smali.dexlib2.iface.instruction.OneRegisterInstruction
+import java.util.concurrent.ConcurrentHashMap
 
 private val String.exception
     get() = PatchException("Failed to resolve $this")
 
+/**
+ * Fingerprints already recorded by the [PatchProfiler].
+ */
+private val profiledFingerprints = ConcurrentHashMap.newKeySet<Fingerprint>()
+
+/**
+ * @return The fingerprint, resolved against all classes using the [FingerprintCache] if it's enabled.
+ */
+context(BytecodePatchContext)
+private val Pair<String, Fingerprint>.resolved: Fingerprint
+    get() {
+        // Only the first resolution is recorded, as later calls return the existing match.
+        if (!PatchProfiler.isEnabled || !profiledFingerprints.add(second)) {
+            FingerprintCache.resolve(first, second)
+            return second
+        }
+
+        FingerprintCache.prepare()
+        PatchProfiler.measure(PatchProfiler.CATEGORY_FINGERPRINT, first) {
+            FingerprintCache.resolve(first, second)
+            // Resolve now, so the time is recorded for the fingerprint and not for the caller.
+            second.matchOrNull()
+        }
+        return second
+    }
+
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.resolvable(): Boolean =
-    second.methodOrNull != null
+    resolved.methodOrNull != null
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.definingClassOrThrow(): String =
-    second.classDefOrNull?.type ?: throw first.exception
+    resolved.classDefOrNull?.type ?: throw first.exception
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.matchOrThrow(): Match =
@@ -45,7 +73,7 @@ internal fun Pair<String, Fingerprint>.matchOrThrow(parentFingerprint: Pair<Stri
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.matchOrNull(): Match? =
-    second.classDefOrNull?.let {
+    resolved.classDefOrNull?.let {
         second.matchOrNull(it)
     }
 
@@ -61,7 +89,7 @@ internal fun Pair<String, Fingerprint>.methodOrNull(): MutableMethod? =
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.methodOrThrow(): MutableMethod =
-    second.methodOrNull ?: throw first.exception
+    resolved.methodOrNull ?: throw first.exception
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.methodOrThrow(parentFingerprint: Pair<String, Fingerprint>): MutableMethod =
@@ -69,7 +97,7 @@ internal fun Pair<String, Fingerprint>.methodOrThrow(parentFingerprint: Pair<Str
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.originalMethodOrThrow(): Method =
-    second.originalMethodOrNull ?: throw first.exception
+    resolved.originalMethodOrNull ?: throw first.exception
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.originalMethodOrThrow(parentFingerprint: Pair<String, Fingerprint>): Method =
@@ -77,7 +105,7 @@ internal fun Pair<String, Fingerprint>.originalMethodOrThrow(parentFingerprint:
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.mutableClassOrThrow(): MutableClass =
-    second.classDefOrNull ?: throw first.exception
+    resolved.classDefOrNull ?: throw first.exception
 
 context(BytecodePatchContext)
 internal fun Pair<String, Fingerprint>.methodCall() =